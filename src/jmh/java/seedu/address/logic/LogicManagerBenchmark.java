@@ -0,0 +1,96 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonGenerator;
+
+/**
+ * Measures how long {@code LogicManager} takes to execute commands end-to-end, from parsing the user input to
+ * saving the address book, on an address book of {@code size} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LogicManagerBenchmark {
+
+    private static final String ADD_COMMAND = "add n/Benchmark Person p/98765432 e/benchmark@example.com "
+            + "a/311, Clementi Ave 2, #02-25 t/friends";
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Path tempFolder;
+    private StorageManager storage;
+    private LogicManager logic;
+    private String deleteAddedPersonCommand;
+
+    @Setup
+    public void setUp() throws IOException {
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        tempFolder = Files.createTempDirectory("LogicManagerBenchmark");
+        storage = new StorageManager(new JsonAddressBookStorage(tempFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(tempFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(new PersonGenerator().nextAddressBook(size), new UserPrefs()),
+                storage);
+        deleteAddedPersonCommand = "delete " + (size + 1);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(tempFolder);
+    }
+
+    @Benchmark
+    public CommandResult find() throws CommandException, ParseException {
+        return logic.execute("find Meier Tan");
+    }
+
+    @Benchmark
+    public CommandResult list() throws CommandException, ParseException {
+        return logic.execute("list");
+    }
+
+    /**
+     * Adds a person and deletes it again, so that the address book is the same at the start of every invocation.
+     * Both commands save the address book.
+     */
+    @Benchmark
+    public CommandResult addThenDelete() throws CommandException, ParseException {
+        logic.execute(ADD_COMMAND);
+        return logic.execute(deleteAddedPersonCommand);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long {@code AddressBookParser} takes to parse a typical command of each command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> COMMANDS = Map.of(
+            "add", "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 "
+                    + "t/friends t/owesMoney",
+            "edit", "edit 1 p/91234567 e/johndoe@example.com t/colleagues",
+            "delete", "delete 3",
+            "clear", "clear",
+            "find", "find alice bob charlie",
+            "list", "list",
+            "help", "help",
+            "exit", "exit");
+
+    @Param({"add", "edit", "delete", "clear", "find", "list", "help", "exit"})
+    private String commandWord;
+
+    private AddressBookParser parser;
+    private String userInput;
+
+    @Setup
+    public void setUp() {
+        parser = new AddressBookParser();
+        userInput = COMMANDS.get(commandWord);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long {@code ArgumentTokenizer} takes to tokenize the arguments of typical commands, both when the
+ * tokenizer is created for every command and when it is created once, as the command parsers do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArgumentTokenizerBenchmark {
+
+    private String addArguments = " n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 "
+            + "t/friends t/owesMoney";
+    private String editArguments = " 1 p/91234567 e/johndoe@example.com";
+    private String manyTagsArguments = " 1" + " t/tag".repeat(50);
+    private String longAddArguments = addArguments + " t/colleagues t/neighbours t/classmates t/family".repeat(10);
+
+    private ArgumentTokenizer tokenizer = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_TAG);
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAddArguments() {
+        return ArgumentTokenizer.tokenize(addArguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeEditArguments() {
+        return ArgumentTokenizer.tokenize(editArguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeManyTags() {
+        return ArgumentTokenizer.tokenize(manyTagsArguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeLongAddArguments() {
+        return ArgumentTokenizer.tokenize(longAddArguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAddArgumentsPrecompiled() {
+        return tokenizer.tokenizeArguments(addArguments);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeLongAddArgumentsPrecompiled() {
+        return tokenizer.tokenizeArguments(longAddArguments);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonGenerator;
+
+/**
+ * Measures how long it takes to find the persons matching {@code find Meier Tan} among {@code size} persons,
+ * both by testing every person against a {@code NameContainsKeywordsPredicate} and through the name index, and how
+ * long it takes to rank them for {@code find Meier Tan top/20}, both with a bounded heap and by sorting every match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    private static final List<String> KEYWORDS = List.of("Meier", "Tan");
+    private static final int LIMIT = 20;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() {
+        addressBook = new PersonGenerator().nextAddressBook(size);
+    }
+
+    @Benchmark
+    public long linearScan() {
+        return countMatches(new NameContainsKeywordsPredicate(KEYWORDS));
+    }
+
+    @Benchmark
+    public long nameIndex() {
+        return countMatches(addressBook.nameContainsAnyOf(KEYWORDS));
+    }
+
+    @Benchmark
+    public List<Person> rankTopMatches() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+        Predicate<Person> matchesName = addressBook.nameContainsAnyOf(KEYWORDS);
+        Iterable<Person> matchingPersons = () -> addressBook.getPersonList().stream().filter(matchesName).iterator();
+        return CollectionUtil.highestScoring(matchingPersons, LIMIT, predicate::score);
+    }
+
+    @Benchmark
+    public List<Person> rankAllMatches() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+        return addressBook.getPersonList().stream()
+                .filter(addressBook.nameContainsAnyOf(KEYWORDS))
+                .sorted(Comparator.comparingInt(predicate::score).reversed())
+                .limit(LIMIT)
+                .collect(Collectors.toList());
+    }
+
+    private long countMatches(Predicate<Person> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).count();
+    }
+}
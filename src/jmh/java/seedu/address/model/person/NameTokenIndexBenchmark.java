@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.PersonGenerator;
+
+/**
+ * Measures how long it takes the name index to look up the names matching fuzzy keywords and patterns among
+ * {@code size} names, reporting the distribution of the latencies (see the p0.99 percentile). Each name is a generated
+ * first name followed by a surname made of random syllables, so that there are over a third as many distinct words as
+ * names. {@code *zu*} matches about one name in twenty, so its latency is mostly that of collecting the matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NameTokenIndexBenchmark {
+
+    private static final String[] SYLLABLES = {"al", "an", "ba", "be", "ca", "chen", "da", "de", "el", "fi", "ga",
+        "ha", "in", "ja", "ka", "ko", "la", "li", "ma", "me", "na", "ni", "o", "pa", "ra", "ri", "sa", "son", "ta",
+        "te", "to", "u", "va", "wa", "ya", "yo", "za", "zu", "er", "ng"};
+
+    private static final NameKeyword SHORT_FUZZY = NameKeyword.of("~alcie");
+    private static final NameKeyword LONG_FUZZY = NameKeyword.of("~bekalira");
+    private static final NameKeyword FOUR_LETTER_FUZZY = NameKeyword.of("~chne");
+    private static final NameKeyword INFIX = NameKeyword.of("*lic*");
+    private static final NameKeyword PREFIX = NameKeyword.of("sonka*");
+    private static final NameKeyword SHORT_INFIX = NameKeyword.of("*zu*");
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private NameTokenIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        index = new NameTokenIndex();
+        for (int i = 0; i < size; i++) {
+            StringBuilder surname = new StringBuilder();
+            int syllableCount = 2 + random.nextInt(3);
+            for (int j = 0; j < syllableCount; j++) {
+                surname.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            String firstName = PersonGenerator.FIRST_NAMES[random.nextInt(PersonGenerator.FIRST_NAMES.length)];
+            index.add(new Name(firstName + " " + surname));
+        }
+    }
+
+    @Benchmark
+    public int shortFuzzy() {
+        return index.namesMatching(SHORT_FUZZY).size();
+    }
+
+    @Benchmark
+    public int longFuzzy() {
+        return index.namesMatching(LONG_FUZZY).size();
+    }
+
+    @Benchmark
+    public int fuzzyWithoutEnoughTrigrams() {
+        return index.namesMatching(FOUR_LETTER_FUZZY).size();
+    }
+
+    @Benchmark
+    public int infix() {
+        return index.namesMatching(INFIX).size();
+    }
+
+    @Benchmark
+    public int prefix() {
+        return index.namesMatching(PREFIX).size();
+    }
+
+    @Benchmark
+    public int infixWithoutTrigrams() {
+        return index.namesMatching(SHORT_INFIX).size();
+    }
+}
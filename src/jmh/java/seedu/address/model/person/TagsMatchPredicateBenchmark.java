@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonGenerator;
+
+/**
+ * Measures how long it takes to find the persons matching {@code filter t/friends t/family|colleagues t/!neighbours}
+ * among {@code size} persons, both by testing the tags of every person against a {@code TagsMatchPredicate} and
+ * through the bitmaps of persons by tag.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TagsMatchPredicateBenchmark {
+
+    private static final TagsMatchPredicate PREDICATE = new TagsMatchPredicate(List.of(
+            new TagsMatchPredicate.Clause(Set.of(new Tag("friends")), Set.of()),
+            new TagsMatchPredicate.Clause(Set.of(new Tag("family"), new Tag("colleagues")), Set.of()),
+            new TagsMatchPredicate.Clause(Set.of(), Set.of(new Tag("neighbours")))));
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() {
+        addressBook = new PersonGenerator().nextAddressBook(size);
+    }
+
+    @Benchmark
+    public long linearScan() {
+        return countMatches(PREDICATE);
+    }
+
+    @Benchmark
+    public long tagBitmaps() {
+        return countMatches(addressBook.tagsMatch(PREDICATE));
+    }
+
+    private long countMatches(Predicate<Person> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).count();
+    }
+}
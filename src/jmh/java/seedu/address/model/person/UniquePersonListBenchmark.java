@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonGenerator;
+
+/**
+ * Measures how long it takes to fill a {@code UniquePersonList} with {@code size} persons, and to remove a person
+ * from either end of a full list (the person is added back afterwards, so the list keeps its size), and to take a
+ * snapshot of the list after changing it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList fullList;
+
+    @Setup
+    public void setUp() {
+        persons = new PersonGenerator().nextPersons(size);
+        fullList = new UniquePersonList();
+        fullList.setPersons(persons);
+    }
+
+    @Benchmark
+    public UniquePersonList add() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        for (Person person : persons) {
+            uniquePersonList.add(person);
+        }
+        return uniquePersonList;
+    }
+
+    @Benchmark
+    public UniquePersonList removeFirst() {
+        Person first = persons.get(0);
+        fullList.remove(first);
+        fullList.add(0, first);
+        return fullList;
+    }
+
+    @Benchmark
+    public UniquePersonList removeLast() {
+        Person last = persons.get(size - 1);
+        fullList.remove(last);
+        fullList.add(last);
+        return fullList;
+    }
+
+    /**
+     * Changes the list as {@link #removeLast()} does, then takes a snapshot of it, as is done after every command.
+     */
+    @Benchmark
+    public ObservableList<Person> removeLastThenSnapshot() {
+        Person last = persons.get(size - 1);
+        fullList.remove(last);
+        fullList.add(last);
+        return fullList.asSnapshot();
+    }
+
+    @Benchmark
+    public UniquePersonList setPersons() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList;
+    }
+}
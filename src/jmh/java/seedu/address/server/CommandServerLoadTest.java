@@ -0,0 +1,191 @@
+package seedu.address.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LatencyRecorder;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonGenerator;
+import seedu.address.testutil.PersonUtil;
+
+/**
+ * Measures the latency of {@link CommandServer} requests under load. For {@code seconds} seconds, {@code readers}
+ * clients each read pages of the address book and find persons by name as fast as they can, while {@code writers}
+ * clients each add persons as fast as they can. The throughput and p50/p99 latency of each kind of request are then
+ * printed.
+ * Unless {@code port} is given, a server is started in this process on an address book of {@code persons} generated
+ * persons, which is not saved after each command, so that the latencies are those of the server and logic alone.
+ * The writers add persons to the address book of a server given by {@code port}, so it should not hold any data that
+ * is to be kept. The token of that server is read from the token file next to the default address book file, so the
+ * load test must be run from the folder of that app.
+ *
+ * Arguments, all optional: {@code --persons=100000 --readers=8 --writers=1 --seconds=10 --port=N}
+ */
+public class CommandServerLoadTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final int readerCount;
+    private final int writerCount;
+    private final long durationNanos;
+    private final int port;
+    private final Path tokenFilePath;
+
+    private CommandServerLoadTest(int readerCount, int writerCount, long durationNanos, int port,
+            Path tokenFilePath) {
+        this.readerCount = readerCount;
+        this.writerCount = writerCount;
+        this.durationNanos = durationNanos;
+        this.port = port;
+        this.tokenFilePath = tokenFilePath;
+    }
+
+    /**
+     * Runs the load test with the arguments described in {@link CommandServerLoadTest}.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, Integer> arguments = parseArguments(args);
+        int readerCount = arguments.getOrDefault("readers", 8);
+        int writerCount = arguments.getOrDefault("writers", 1);
+        long durationNanos = TimeUnit.SECONDS.toNanos(arguments.getOrDefault("seconds", 10));
+
+        if (arguments.containsKey("port")) {
+            new CommandServerLoadTest(readerCount, writerCount, durationNanos, arguments.get("port"),
+                    CommandServer.getTokenFilePath(new UserPrefs().getAddressBookFilePath())).run();
+            return;
+        }
+
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+        int personCount = arguments.getOrDefault("persons", 100000);
+        Path tempFolder = Files.createTempDirectory("CommandServerLoadTest");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(tempFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(tempFolder.resolve("userPrefs.json")));
+        LogicManager logic = LogicManager.withoutUi(
+                new ModelManager(new PersonGenerator().nextAddressBook(personCount), new UserPrefs()), storage);
+        Path tokenFilePath = CommandServer.getTokenFilePath(tempFolder.resolve("addressBook.json"));
+        CommandServer server = new CommandServer(logic, 0, tokenFilePath);
+        server.start();
+        System.out.println(String.format("Serving %d persons on port %d", personCount, server.getPort()));
+        try {
+            new CommandServerLoadTest(readerCount, writerCount, durationNanos, server.getPort(), tokenFilePath).run();
+        } finally {
+            server.stop();
+            logic.shutdown();
+            Files.deleteIfExists(storage.getAddressBookFilePath());
+            Files.deleteIfExists(tempFolder);
+        }
+    }
+
+    private static Map<String, Integer> parseArguments(String[] args) {
+        Map<String, Integer> arguments = new HashMap<>();
+        for (String arg : args) {
+            String[] nameAndValue = arg.replaceFirst("^--", "").split("=", 2);
+            if (nameAndValue.length != 2) {
+                throw new IllegalArgumentException("Arguments must be in the format --name=value: " + arg);
+            }
+            arguments.put(nameAndValue[0], Integer.parseInt(nameAndValue[1]));
+        }
+        return arguments;
+    }
+
+    /**
+     * Runs the clients until the test is over, and prints the latencies of their requests.
+     */
+    private void run() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(readerCount + writerCount);
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + durationNanos;
+        List<Future<Map<String, LatencyRecorder>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < readerCount; i++) {
+                long seed = i;
+                results.add(clients.submit(() -> read(endNanos, new Random(seed))));
+            }
+            for (int i = 0; i < writerCount; i++) {
+                int writerId = i;
+                results.add(clients.submit(() -> write(endNanos, writerId)));
+            }
+
+            Map<String, LatencyRecorder> latencies = new HashMap<>();
+            for (Future<Map<String, LatencyRecorder>> result : results) {
+                result.get().forEach((type, recorder) ->
+                        latencies.computeIfAbsent(type, unused -> new LatencyRecorder()).recordAll(recorder));
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            System.out.println(String.format("%d readers, %d writers", readerCount, writerCount));
+            for (String type : List.of(ServerRequest.TYPE_LIST, ServerRequest.TYPE_FIND, ServerRequest.TYPE_EXECUTE)) {
+                if (latencies.containsKey(type)) {
+                    LatencyRecorder recorder = latencies.get(type);
+                    System.out.println(String.format("%-8s %d requests in %s", type, recorder.getCount(),
+                            recorder.summarize(elapsedNanos)));
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads random pages of the address book and finds persons by random first names, one after the other, until
+     * {@code endNanos}.
+     */
+    private Map<String, LatencyRecorder> read(long endNanos, Random random) throws IOException {
+        LatencyRecorder listLatencies = new LatencyRecorder();
+        LatencyRecorder findLatencies = new LatencyRecorder();
+        int total = PAGE_SIZE;
+        try (CommandClient client = CommandClient.connect(port, tokenFilePath)) {
+            while (System.nanoTime() < endNanos) {
+                long startNanos = System.nanoTime();
+                ServerResponse response = client.send(ServerRequest.list(random.nextInt(total), PAGE_SIZE));
+                listLatencies.record(System.nanoTime() - startNanos);
+                total = Math.max(response.getTotal(), 1);
+
+                String firstName = PersonGenerator.FIRST_NAMES[random.nextInt(PersonGenerator.FIRST_NAMES.length)];
+                startNanos = System.nanoTime();
+                client.send(ServerRequest.find(List.of(firstName), 0, PAGE_SIZE));
+                findLatencies.record(System.nanoTime() - startNanos);
+            }
+        }
+        return Map.of(ServerRequest.TYPE_LIST, listLatencies, ServerRequest.TYPE_FIND, findLatencies);
+    }
+
+    /**
+     * Adds generated persons, whose names differ from those of every other writer's, one after the other, until
+     * {@code endNanos}.
+     */
+    private Map<String, LatencyRecorder> write(long endNanos, int writerId) throws IOException {
+        LatencyRecorder latencies = new LatencyRecorder();
+        PersonGenerator generator = new PersonGenerator(writerId);
+        try (CommandClient client = CommandClient.connect(port, tokenFilePath)) {
+            for (int i = 0; System.nanoTime() < endNanos; i++) {
+                String addCommand = PersonUtil.getAddCommand(new PersonBuilder(generator.next())
+                        .withName("Load Writer " + writerId + " Person " + i).build());
+                long startNanos = System.nanoTime();
+                client.send(ServerRequest.execute(addCommand));
+                latencies.record(System.nanoTime() - startNanos);
+            }
+        }
+        return Map.of(ServerRequest.TYPE_EXECUTE, latencies);
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonGenerator;
+
+/**
+ * Measures how long {@code JsonAddressBookStorage} takes to read and save an address book of {@code size} persons.
+ * Reads are measured both from the JSON file alone and from the binary snapshot kept next to it.
+ * Run with {@code -prof gc} to also see how much memory each read and save allocates, and see {@link PeakHeap} for
+ * the most memory a read needs at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path tempFolder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage readStorage;
+    private JsonAddressBookStorage snapshotStorage;
+    private JsonAddressBookStorage saveStorage;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        tempFolder = Files.createTempDirectory("JsonAddressBookStorageBenchmark");
+        addressBook = new PersonGenerator().nextAddressBook(size);
+        Path readFilePath = tempFolder.resolve("read.json");
+        readStorage = new JsonAddressBookStorage(readFilePath);
+        snapshotStorage = new JsonAddressBookStorage(readFilePath, null,
+                JsonAddressBookStorage.getSnapshotFilePath(readFilePath));
+        snapshotStorage.saveAddressBook(addressBook); // also writes the snapshot in the background
+        snapshotStorage.awaitSnapshot();
+        saveStorage = new JsonAddressBookStorage(tempFolder.resolve("save.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotStorage.getSnapshotFilePath().get());
+        Files.deleteIfExists(readStorage.getAddressBookFilePath());
+        Files.deleteIfExists(saveStorage.getAddressBookFilePath());
+        Files.deleteIfExists(tempFolder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBookFromSnapshot() throws DataConversionException {
+        return snapshotStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Measures the peak heap used while reading a JSON file of {@code size} persons, by the streaming read of
+     * {@code JsonAddressBookStorage} compared to the tree-model read it replaced, which read the whole file into a
+     * string and then into a {@code JsonSerializableAddressBook} before converting it to an {@code AddressBook}.
+     * The peak heap above what was in use before the read is reported as the {@code peakHeapKilobytes} secondary
+     * result. It is the most heap in use right after any garbage collection during the read, including a full
+     * collection while the read address book is still referenced, so it only counts what is live, up to the garbage
+     * G1 has not reclaimed yet. Each read takes several seconds, so an iteration is a single read, and there is only
+     * one measured iteration because JMH adds up the {@code peakHeapKilobytes} of every measured iteration.
+     */
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g", "-XX:+UseG1GC"})
+    @Warmup(iterations = 2, time = 1)
+    @Measurement(iterations = 1, time = 1)
+    public static class PeakHeap {
+
+        @Param({"500000"})
+        private int size;
+
+        private Path tempFolder;
+        private JsonAddressBookStorage storage;
+
+        /**
+         * The peak live heap of the latest invocation of a benchmark, which is the most heap in use right after any
+         * garbage collection during the invocation, less the heap in use before it.
+         */
+        @State(Scope.Thread)
+        @AuxCounters(AuxCounters.Type.EVENTS)
+        public static class HeapUsage {
+            private static final long NOTIFICATION_TIMEOUT_MILLIS = 10_000;
+
+            // CHECKSTYLE.OFF: VisibilityModifier - JMH reads auxiliary counters from public fields
+            public long peakHeapKilobytes;
+            // CHECKSTYLE.ON: VisibilityModifier
+
+            private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+            private final Set<String> heapPoolNames = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .map(MemoryPoolMXBean::getName)
+                    .collect(Collectors.toSet());
+            private final AtomicLong notifiedCollections = new AtomicLong();
+            private final AtomicLong latestUsedAfterCollection = new AtomicLong();
+            private final AtomicLong peakUsedAfterCollection = new AtomicLong();
+            private final NotificationListener listener = (notification, handback) -> {
+                if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                    return;
+                }
+                CompositeData userData = (CompositeData) notification.getUserData();
+                GcInfo gcInfo = GarbageCollectionNotificationInfo.from(userData).getGcInfo();
+                long used = gcInfo.getMemoryUsageAfterGc().entrySet().stream()
+                        .filter(entry -> heapPoolNames.contains(entry.getKey()))
+                        .mapToLong(entry -> entry.getValue().getUsed())
+                        .sum();
+                latestUsedAfterCollection.set(used);
+                peakUsedAfterCollection.accumulateAndGet(used, Math::max);
+                notifiedCollections.incrementAndGet();
+            };
+            private long collectionsBeforeListener;
+            private long usedBefore;
+            private Object result;
+
+            @Setup
+            public void addListener() {
+                collectionsBeforeListener = getCollectionCount();
+                for (GarbageCollectorMXBean collector : collectors) {
+                    NotificationEmitter emitter = (NotificationEmitter) collector;
+                    emitter.addNotificationListener(listener, null, null);
+                }
+            }
+
+            @TearDown
+            public void removeListener() throws ListenerNotFoundException {
+                for (GarbageCollectorMXBean collector : collectors) {
+                    NotificationEmitter emitter = (NotificationEmitter) collector;
+                    emitter.removeNotificationListener(listener);
+                }
+            }
+
+            /**
+             * Collects garbage, then starts tracking the peak live heap from the heap in use afterwards.
+             */
+            @Setup(Level.Invocation)
+            public void resetPeak() throws InterruptedException {
+                collectGarbage();
+                usedBefore = latestUsedAfterCollection.get();
+                peakUsedAfterCollection.set(usedBefore);
+            }
+
+            /**
+             * Keeps {@code result} referenced until the peak is recorded, so that what the read retains counts towards
+             * the peak.
+             */
+            void hold(Object result) {
+                this.result = result;
+            }
+
+            /**
+             * Collects garbage while the result of the benchmark is still held, then records the peak.
+             */
+            @TearDown(Level.Invocation)
+            public void recordPeak() throws InterruptedException {
+                collectGarbage();
+                peakHeapKilobytes = (peakUsedAfterCollection.get() - usedBefore) / 1024;
+                result = null;
+            }
+
+            /**
+             * Runs a full garbage collection and waits until the notifications of every collection so far arrived.
+             */
+            private void collectGarbage() throws InterruptedException {
+                System.gc();
+                long collections = getCollectionCount() - collectionsBeforeListener;
+                long deadline = System.currentTimeMillis() + NOTIFICATION_TIMEOUT_MILLIS;
+                while (notifiedCollections.get() < collections && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+            }
+
+            private long getCollectionCount() {
+                return collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+            }
+        }
+
+        @Setup
+        public void setUp() throws IOException {
+            tempFolder = Files.createTempDirectory("JsonAddressBookStorageBenchmark");
+            storage = new JsonAddressBookStorage(tempFolder.resolve("addressbook.json"));
+            storage.saveAddressBook(new PersonGenerator().nextAddressBook(size));
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(storage.getAddressBookFilePath());
+            Files.deleteIfExists(tempFolder);
+        }
+
+        @Benchmark
+        public Optional<ReadOnlyAddressBook> streamingRead(HeapUsage heapUsage) throws DataConversionException {
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+            heapUsage.hold(addressBook);
+            return addressBook;
+        }
+
+        @Benchmark
+        public ReadOnlyAddressBook treeModelRead(HeapUsage heapUsage)
+                throws DataConversionException, IllegalValueException {
+            ReadOnlyAddressBook addressBook = JsonUtil.readJsonFile(storage.getAddressBookFilePath(),
+                    JsonSerializableAddressBook.class).get().toModelType();
+            heapUsage.hold(addressBook);
+            return addressBook;
+        }
+    }
+}
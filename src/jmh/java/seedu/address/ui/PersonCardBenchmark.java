@@ -0,0 +1,80 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javafx.application.Platform;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonGenerator;
+
+/**
+ * Measures the work {@code PersonListPanel} does per frame while a list of persons is scrolled, with each frame
+ * bringing a screenful of persons into view. No window is shown, so only the cards themselves are measured,
+ * but the JavaFX toolkit still has to be started, which requires a display.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersonCardBenchmark {
+
+    private static final int PERSON_COUNT = 10_000;
+    private static final int VISIBLE_CARD_COUNT = 12;
+
+    private List<Person> persons;
+    private PersonCard[] visibleCards;
+    private int firstVisibleIndex;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        CountDownLatch toolkitStarted = new CountDownLatch(1);
+        Platform.startup(toolkitStarted::countDown);
+        toolkitStarted.await();
+
+        persons = new PersonGenerator().nextPersons(PERSON_COUNT);
+        visibleCards = new PersonCard[VISIBLE_CARD_COUNT];
+        for (int i = 0; i < VISIBLE_CARD_COUNT; i++) {
+            visibleCards[i] = new PersonCard(persons.get(i), i + 1);
+        }
+    }
+
+    @Benchmark
+    public void scrollFrameNewCards(Blackhole blackhole) {
+        int first = nextFrame();
+        for (int i = 0; i < VISIBLE_CARD_COUNT; i++) {
+            blackhole.consume(new PersonCard(persons.get(first + i), first + i + 1).getRoot());
+        }
+    }
+
+    @Benchmark
+    public void scrollFrameReboundCards(Blackhole blackhole) {
+        int first = nextFrame();
+        for (int i = 0; i < VISIBLE_CARD_COUNT; i++) {
+            visibleCards[i].setPerson(persons.get(first + i), first + i + 1);
+            blackhole.consume(visibleCards[i].getRoot());
+        }
+    }
+
+    /**
+     * Scrolls down by a screenful, wrapping around at the end of the list, and returns the first visible index.
+     */
+    private int nextFrame() {
+        firstVisibleIndex = (firstVisibleIndex + VISIBLE_CARD_COUNT) % (PERSON_COUNT - VISIBLE_CARD_COUNT);
+        return firstVisibleIndex;
+    }
+}
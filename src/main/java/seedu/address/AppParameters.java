@@ -2,6 +2,10 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,14 +13,20 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The script that stands for the standard input, e.g. {@code --script=-}. */
+    public static final String STANDARD_INPUT_SCRIPT = "-";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private String script;
+    private int checkpointInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +36,37 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script of commands to run without the UI, {@link #STANDARD_INPUT_SCRIPT} to read them
+     * from the standard input, or null to start the UI.
+     */
+    public String getScript() {
+        return script;
+    }
+
+    public void setScript(String script) {
+        this.script = script;
+    }
+
+    /**
+     * Returns true if the application is to run a script of commands without the UI.
+     */
+    public boolean isHeadless() {
+        return script != null;
+    }
+
+    /**
+     * Returns the number of script commands after which the address book is saved, or 0 if it is only saved once all
+     * commands have been run.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,9 +81,26 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        appParameters.setScript(namedParameters.get("script"));
+
+        String checkpointParameter = namedParameters.get("checkpoint");
+        if (checkpointParameter != null && !StringUtil.isNonZeroUnsignedInteger(checkpointParameter)) {
+            logger.warning("Invalid checkpoint interval " + checkpointParameter + ". Saving only at the end.");
+            checkpointParameter = null;
+        }
+        appParameters.setCheckpointInterval(checkpointParameter != null ? Integer.parseInt(checkpointParameter) : 0);
+
         return appParameters;
     }
 
+    /**
+     * Parses the application command-line arguments {@code args}, in the same way as JavaFX parses them for an
+     * {@code Application}, so that they can be parsed before deciding whether to launch one.
+     */
+    public static AppParameters parse(String... args) {
+        return parse(new CommandLineParameters(args));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +112,54 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScript(), otherAppParameters.getScript())
+                && getCheckpointInterval() == otherAppParameters.getCheckpointInterval();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, script, checkpointInterval);
+    }
+
+    /**
+     * Command-line arguments, where arguments of the form {@code --name=value} are named parameters, and all other
+     * arguments are unnamed parameters.
+     */
+    private static class CommandLineParameters extends Application.Parameters {
+        private static final String NAMED_PARAMETER_PREFIX = "--";
+        private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
+        private final List<String> raw;
+        private final List<String> unnamed = new ArrayList<>();
+        private final Map<String, String> named = new HashMap<>();
+
+        CommandLineParameters(String... args) {
+            raw = List.of(args);
+            for (String arg : args) {
+                int separatorPosition = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+                if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorPosition > NAMED_PARAMETER_PREFIX.length()) {
+                    named.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorPosition),
+                            arg.substring(separatorPosition + NAMED_PARAMETER_SEPARATOR.length()));
+                } else {
+                    unnamed.add(arg);
+                }
+            }
+        }
+
+        @Override
+        public List<String> getRaw() {
+            return raw;
+        }
+
+        @Override
+        public List<String> getUnnamed() {
+            return Collections.unmodifiableList(unnamed);
+        }
+
+        @Override
+        public Map<String, String> getNamed() {
+            return Collections.unmodifiableMap(named);
+        }
     }
 }
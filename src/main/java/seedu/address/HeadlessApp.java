@@ -0,0 +1,190 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LatencyRecorder;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of commands without the UI, e.g. for bulk maintenance jobs on a machine without a display.
+ * The script has one command per line, as they would be entered in the UI; blank lines and lines starting with
+ * {@value #COMMENT_PREFIX} are skipped. The result of every command is printed, followed by a summary of how fast the
+ * commands ran. The address book is only saved at checkpoints, if any, and once the script has ended, instead of
+ * after every command.
+ */
+public class HeadlessApp {
+
+    /** The exit status if every command in the script succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** The exit status if some commands in the script failed, but the address book was saved. */
+    public static final int EXIT_COMMANDS_FAILED = 1;
+    /** The exit status if the script could not be read or the address book could not be saved. */
+    public static final int EXIT_ERROR = 2;
+
+    static final String COMMENT_PREFIX = "#";
+    static final String COMMAND_PROMPT = "> ";
+    static final String ERROR_PREFIX = "Error: ";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+    private final InputStream standardInput;
+    private final PrintWriter output;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs the script given by {@code appParameters}, reading it from
+     * {@code standardInput} if the script is {@link AppParameters#STANDARD_INPUT_SCRIPT}, and prints to
+     * {@code standardOutput}.
+     */
+    public HeadlessApp(AppParameters appParameters, InputStream standardInput, PrintStream standardOutput) {
+        requireNonNull(appParameters);
+        requireNonNull(standardInput);
+        requireNonNull(standardOutput);
+        this.appParameters = appParameters;
+        this.standardInput = standardInput;
+        this.output = new PrintWriter(standardOutput, false);
+    }
+
+    /**
+     * Sets up the model, storage and logic as {@link MainApp} does, runs the script, and saves the address book.
+     *
+     * @return the exit status, one of {@link #EXIT_SUCCESS}, {@link #EXIT_COMMANDS_FAILED} and {@link #EXIT_ERROR}.
+     */
+    public int run() {
+        logger.info("=============================[ Running AddressBook script ]===========================");
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(AppInitializer.initAddressBookStorage(userPrefs), userPrefsStorage);
+        LogsCenter.init(config);
+
+        Model model = new ModelManager(AppInitializer.readAddressBook(storage), userPrefs);
+        Logic logic = LogicManager.withoutUi(model, storage);
+
+        int exitStatus;
+        try (BufferedReader script = openScript()) {
+            exitStatus = runScript(logic, script);
+        } catch (IOException ioe) {
+            printError("Could not read script " + appParameters.getScript() + ": " + ioe.getMessage());
+            exitStatus = EXIT_ERROR;
+        }
+
+        long saveStartNanos = System.nanoTime();
+        try {
+            logic.shutdown();
+            output.println("Saved address book in " + millisSince(saveStartNanos) + " ms");
+        } catch (IOException ioe) {
+            printError(LogicManager.FILE_OPS_ERROR_MESSAGE + ioe);
+            exitStatus = EXIT_ERROR;
+        }
+        output.flush();
+        return exitStatus;
+    }
+
+    private BufferedReader openScript() throws IOException {
+        String script = appParameters.getScript();
+        if (AppParameters.STANDARD_INPUT_SCRIPT.equals(script)) {
+            return new BufferedReader(new InputStreamReader(standardInput, StandardCharsets.UTF_8));
+        }
+        if (!FileUtil.isValidPath(script)) {
+            throw new IOException("Invalid path");
+        }
+        return Files.newBufferedReader(Paths.get(script), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Executes the commands in {@code script} one at a time through {@code logic}, until the script ends or a command
+     * asks the app to exit, saving the address book at every checkpoint. Does not save it once the script has ended.
+     *
+     * @return the exit status, one of {@link #EXIT_SUCCESS}, {@link #EXIT_COMMANDS_FAILED} and {@link #EXIT_ERROR}.
+     * @throws IOException if the script cannot be read.
+     */
+    int runScript(Logic logic, BufferedReader script) throws IOException {
+        LatencyRecorder latencies = new LatencyRecorder();
+        int failedCount = 0;
+        int checkpointInterval = appParameters.getCheckpointInterval();
+        long startNanos = System.nanoTime();
+
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                output.println(COMMAND_PROMPT + commandText);
+                long commandStartNanos = System.nanoTime();
+                CommandResult result = null;
+                String errorMessage = null;
+                try {
+                    result = logic.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    errorMessage = e.getMessage();
+                }
+                latencies.record(System.nanoTime() - commandStartNanos);
+                if (result != null) {
+                    output.println(result.getFeedbackToUser());
+                } else {
+                    failedCount++;
+                    printError(errorMessage);
+                }
+
+                if (checkpointInterval > 0 && latencies.getCount() % checkpointInterval == 0) {
+                    try {
+                        logic.save();
+                    } catch (IOException ioe) {
+                        printError(LogicManager.FILE_OPS_ERROR_MESSAGE + ioe);
+                        logger.severe("Stopping script, as the address book could not be saved: "
+                                + StringUtil.getDetails(ioe));
+                        return EXIT_ERROR;
+                    }
+                }
+                if (result != null && result.isExit()) {
+                    break;
+                }
+            }
+
+            output.println(String.format("Ran %d commands (%d failed) in %s", latencies.getCount(), failedCount,
+                    latencies.summarize(System.nanoTime() - startNanos)));
+            return failedCount == 0 ? EXIT_SUCCESS : EXIT_COMMANDS_FAILED;
+        } finally {
+            output.flush();
+        }
+    }
+
+    private void printError(String message) {
+        output.println(ERROR_PREFIX + message);
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
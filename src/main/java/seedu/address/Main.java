@@ -17,9 +17,18 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * It also lets a script of commands be run without launching JavaFX at all (see {@link HeadlessApp}).
  */
 public class Main {
+    /**
+     * Runs the script of commands given by {@code args} without the UI if there is one, and launches the UI otherwise.
+     */
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(new HeadlessApp(appParameters, System.in, System.out).run());
+        }
         Application.launch(MainApp.class, args);
     }
 }
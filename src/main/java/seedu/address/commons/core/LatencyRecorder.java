@@ -0,0 +1,74 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each of a series of operations took, and summarises them as throughput and latency percentiles.
+ * Every latency is kept, as a {@code long} each, so that percentiles are exact.
+ */
+public class LatencyRecorder {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count = 0;
+    private boolean isSorted = true;
+
+    /**
+     * Records an operation that took {@code latencyNanos} nanoseconds.
+     */
+    public void record(long latencyNanos) {
+        checkArgument(latencyNanos >= 0, "Latency cannot be negative");
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, 2 * count);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        isSorted = false;
+    }
+
+    /**
+     * Records all operations recorded by {@code other}, e.g. to summarise the operations of several threads together.
+     */
+    public void recordAll(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.latenciesNanos[i]);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the latency that {@code percentile} percent of the operations took at most, or 0 if none were recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        if (count == 0) {
+            return 0;
+        }
+        if (!isSorted) {
+            Arrays.sort(latenciesNanos, 0, count);
+            isSorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return latenciesNanos[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Returns a one-line summary of the operations recorded, which took {@code elapsedNanos} nanoseconds in all,
+     * e.g. {@code 0.50 s (2000 per second), latency p50 0.20 ms, p99 1.50 ms, max 3.00 ms}.
+     */
+    public String summarize(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        double perSecond = elapsedNanos > 0 ? count / elapsedSeconds : 0;
+        return String.format("%.2f s (%.0f per second), latency p50 %s, p99 %s, max %s",
+                elapsedSeconds, perSecond, formatMillis(getPercentileNanos(50)),
+                formatMillis(getPercentileNanos(99)), formatMillis(getPercentileNanos(100)));
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2f ms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a non-empty set of indexes, e.g. {@code 1 4 10-500}, which is stored as sorted ranges of consecutive
+ * indexes rather than one {@code Index} per index, so that a range of any size costs the same to store.
+ * Guarantees: immutable; ranges that overlap or touch are merged.
+ */
+public class IndexSet {
+
+    /** Zero-based first index of each range, in ascending order. */
+    private final int[] rangeStarts;
+    /** Zero-based index after the last index of each range. */
+    private final int[] rangeEnds;
+    private final int size;
+
+    private IndexSet(int[] rangeStarts, int[] rangeEnds) {
+        assert rangeStarts.length > 0 && rangeStarts.length == rangeEnds.length;
+        this.rangeStarts = rangeStarts;
+        this.rangeEnds = rangeEnds;
+        int count = 0;
+        for (int i = 0; i < rangeStarts.length; i++) {
+            count += rangeEnds[i] - rangeStarts[i];
+        }
+        this.size = count;
+    }
+
+    /**
+     * Creates an {@code IndexSet} that only contains {@code index}.
+     */
+    public static IndexSet of(Index index) {
+        return ofRange(index, index);
+    }
+
+    /**
+     * Creates an {@code IndexSet} that contains the indexes from {@code first} to {@code last}, inclusive.
+     *
+     * @throws IllegalArgumentException if {@code last} comes before {@code first}.
+     */
+    public static IndexSet ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new IllegalArgumentException("The last index of a range cannot come before its first index");
+        }
+        return new IndexSet(new int[] {first.getZeroBased()}, new int[] {last.getZeroBased() + 1});
+    }
+
+    /**
+     * Creates an {@code IndexSet} that contains the indexes in any of {@code indexSets}, which must not be empty.
+     */
+    public static IndexSet union(Collection<IndexSet> indexSets) {
+        requireNonNull(indexSets);
+        if (indexSets.isEmpty()) {
+            throw new IllegalArgumentException("An index set cannot be empty");
+        }
+
+        List<int[]> ranges = new ArrayList<>();
+        for (IndexSet indexSet : indexSets) {
+            for (int i = 0; i < indexSet.rangeStarts.length; i++) {
+                ranges.add(new int[] {indexSet.rangeStarts[i], indexSet.rangeEnds[i]});
+            }
+        }
+        ranges.sort(Comparator.comparingInt(range -> range[0]));
+
+        int[] starts = new int[ranges.size()];
+        int[] ends = new int[ranges.size()];
+        int rangeCount = 0;
+        for (int[] range : ranges) {
+            if (rangeCount > 0 && range[0] <= ends[rangeCount - 1]) {
+                ends[rangeCount - 1] = Math.max(ends[rangeCount - 1], range[1]);
+            } else {
+                starts[rangeCount] = range[0];
+                ends[rangeCount] = range[1];
+                rangeCount++;
+            }
+        }
+        return new IndexSet(Arrays.copyOf(starts, rangeCount), Arrays.copyOf(ends, rangeCount));
+    }
+
+    /**
+     * Returns the number of indexes in this set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the highest index in this set.
+     */
+    public Index getLast() {
+        return Index.fromZeroBased(rangeEnds[rangeEnds.length - 1] - 1);
+    }
+
+    /**
+     * Returns the zero-based indexes in this set, in ascending order.
+     */
+    public IntStream streamZeroBased() {
+        return IntStream.range(0, rangeStarts.length)
+                .flatMap(i -> IntStream.range(rangeStarts[i], rangeEnds[i]));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexSet // instanceof handles nulls
+                && Arrays.equals(rangeStarts, ((IndexSet) other).rangeStarts)
+                && Arrays.equals(rangeEnds, ((IndexSet) other).rangeEnds)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(rangeStarts) + Arrays.hashCode(rangeEnds);
+    }
+
+    /**
+     * Returns the one-based indexes in this set in the format they are entered in, e.g. {@code 1 4 10-500}.
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < rangeStarts.length; i++) {
+            int first = rangeStarts[i] + 1;
+            int last = rangeEnds[i];
+            joiner.add(first == last ? String.valueOf(first) : first + "-" + last);
+        }
+        return joiner.toString();
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +39,57 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the (at most) {@code limit} items of {@code items} with the highest scores according to {@code scorer},
+     * highest first. Of items with equal scores, the one that comes first in {@code items} comes first.
+     * Each item is scored once, and only the highest scoring items seen so far are kept, in a heap whose head is the
+     * lowest scoring of them, so that choosing them from {@code n} items takes {@code O(n log limit)} time and only
+     * {@code O(limit)} space, instead of sorting all the items.
+     */
+    public static <T> List<T> highestScoring(Iterable<? extends T> items, int limit, ToIntFunction<? super T> scorer) {
+        requireAllNonNull(items, scorer);
+        checkArgument(limit >= 0, "The limit must not be negative.");
+        if (limit == 0) {
+            return Collections.emptyList();
+        }
+
+        // Of equal scores, a later item is lower, so that it is the first to be dropped
+        PriorityQueue<ScoredItem<T>> highest = new PriorityQueue<>(Math.min(limit, 1024),
+                Comparator.<ScoredItem<T>>comparingInt(scoredItem -> scoredItem.score)
+                        .thenComparing(scoredItem -> scoredItem.position, Comparator.reverseOrder()));
+        int position = 0;
+        for (T item : items) {
+            int score = scorer.applyAsInt(item);
+            if (highest.size() < limit) {
+                highest.add(new ScoredItem<>(item, score, position));
+            } else if (score > highest.peek().score) {
+                highest.poll();
+                highest.add(new ScoredItem<>(item, score, position));
+            }
+            position++;
+        }
+
+        List<T> highestFirst = new ArrayList<>(highest.size());
+        while (!highest.isEmpty()) {
+            highestFirst.add(highest.poll().item);
+        }
+        Collections.reverse(highestFirst);
+        return highestFirst;
+    }
+
+    /**
+     * An item with its score and its position among the items it was chosen from.
+     */
+    private static class ScoredItem<T> {
+        private final T item;
+        private final int score;
+        private final int position;
+
+        ScoredItem(T item, int score, int position) {
+            this.item = item;
+            this.score = score;
+            this.position = position;
+        }
+    }
 }
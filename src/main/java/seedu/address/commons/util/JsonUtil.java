@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +96,44 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that streams the JSON content of {@code filePath} token by token, without reading the whole
+     * file into memory. Values read through {@link JsonParser#readValueAs(Class)} are bound with the same
+     * configuration as {@link #readJsonFile(Path, Class)}. The file is closed when the parser is closed.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Similar to {@link #createParser(Path)}, but streams the JSON content of {@code inputStream}.
+     * Unlike {@link #createParser(Path)}, the stream is not closed when the parser is closed, so that the caller can
+     * keep using the stream afterwards.
+     * @param inputStream cannot be null.
+     * @throws IOException if the parser cannot be created.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream);
+        return objectMapper.getFactory().createParser(inputStream).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    /**
+     * Returns a generator that streams pretty-printed JSON content to {@code outputStream}.
+     * Values written through {@link JsonGenerator#writeObject(Object)} are serialized with the same
+     * configuration as {@link #saveJsonFile(Object, Path)}. The stream is closed when the generator is closed.
+     * @param outputStream cannot be null.
+     * @throws IOException if the generator cannot be created.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        requireNonNull(outputStream);
+        return objectMapper.getFactory()
+                .createGenerator(outputStream, JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +153,13 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Similar to {@link #toJsonString(Object)}, but the JSON data is written on a single line, without any spacing.
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
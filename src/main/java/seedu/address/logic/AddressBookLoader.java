@@ -0,0 +1,117 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads an address book into a {@code Model} that is already on display.
+ * The address book is read on a background thread, and its persons are then added to the model on the thread that
+ * changes the model, a batch at a time. Each batch is a single change to the person list, and the batches added in
+ * one go only take a few milliseconds, so that commands entered while loading are not held up however large the
+ * address book is. The next batches are only requested once the previous ones have been added, so at most one
+ * request is ever waiting on that thread.
+ */
+class AddressBookLoader {
+
+    /** The number of persons added to the model as a single change. */
+    static final int BATCH_SIZE = 1000;
+
+    /** The time that may be spent adding batches before letting other work, e.g. commands, run. */
+    static final long TIME_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final Consumer<LoadingProgress> progressListener;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    /**
+     * Creates a loader that adds persons to {@code model} on the thread behind {@code modelExecutor}, and reports its
+     * progress to {@code progressListener} on that thread.
+     */
+    AddressBookLoader(Model model, Executor modelExecutor, Consumer<LoadingProgress> progressListener) {
+        requireAllNonNull(model, modelExecutor, progressListener);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Starts reading the address book from {@code reader} on a new background thread, and returns immediately.
+     * Must be called on the thread behind the model executor.
+     *
+     * @return a future that completes once every person has been added, or completes exceptionally if adding persons
+     *     fails, in which case loading stops and the progress reported is {@link LoadingProgress#failed(int, int)}.
+     */
+    CompletableFuture<Void> start(Supplier<ReadOnlyAddressBook> reader) {
+        progressListener.accept(LoadingProgress.reading());
+        Thread loaderThread = new Thread(() -> read(reader), "address-book-loader");
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+        return completion;
+    }
+
+    /**
+     * Reads the address book from {@code reader}, and requests that its persons be added to the model.
+     * A reader that fails is treated as an empty address book, so that the app does not wait for it forever.
+     */
+    private void read(Supplier<ReadOnlyAddressBook> reader) {
+        long startNanos = System.nanoTime();
+        List<Person> persons;
+        try {
+            persons = List.copyOf(reader.get().getPersonList());
+        } catch (RuntimeException re) {
+            logger.severe("Failed to load address book, starting with an empty one: " + StringUtil.getDetails(re));
+            persons = List.of();
+        }
+        logger.info("Read " + persons.size() + " persons in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms");
+
+        List<Person> loadedPersons = persons;
+        modelExecutor.execute(() -> addBatches(loadedPersons, 0));
+    }
+
+    /**
+     * Adds the batches of {@code persons} from {@code fromIndex} onwards to the model until the time slice is used up,
+     * and requests that the rest be added later. Only runs on the thread behind the model executor.
+     */
+    private void addBatches(List<Person> persons, int fromIndex) {
+        long deadlineNanos = System.nanoTime() + TIME_SLICE_NANOS;
+        int nextIndex = fromIndex;
+        try {
+            do {
+                int toIndex = Math.min(nextIndex + BATCH_SIZE, persons.size());
+                model.addLoadedPersons(persons.subList(nextIndex, toIndex));
+                nextIndex = toIndex;
+            } while (nextIndex < persons.size() && System.nanoTime() - deadlineNanos < 0);
+        } catch (RuntimeException re) {
+            logger.severe("Failed to load address book after " + nextIndex + " of " + persons.size() + " persons: "
+                    + StringUtil.getDetails(re));
+            progressListener.accept(LoadingProgress.failed(nextIndex, persons.size()));
+            completion.completeExceptionally(re);
+            return;
+        }
+
+        progressListener.accept(LoadingProgress.loaded(nextIndex, persons.size()));
+        if (nextIndex < persons.size()) {
+            int resumeIndex = nextIndex;
+            modelExecutor.execute(() -> addBatches(persons, resumeIndex));
+        } else {
+            completion.complete(null);
+        }
+    }
+}
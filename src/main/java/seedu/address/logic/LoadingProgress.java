@@ -0,0 +1,106 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * How far the loading of the address book has progressed.
+ * Guarantees: immutable.
+ */
+public class LoadingProgress {
+
+    private static final int UNKNOWN_TOTAL = -1;
+
+    private final int loadedCount;
+    private final int totalCount;
+    private final boolean isFailed;
+
+    private LoadingProgress(int loadedCount, int totalCount, boolean isFailed) {
+        this.loadedCount = loadedCount;
+        this.totalCount = totalCount;
+        this.isFailed = isFailed;
+    }
+
+    /**
+     * Returns the progress while the data file is still being read, before the number of persons is known.
+     */
+    public static LoadingProgress reading() {
+        return new LoadingProgress(0, UNKNOWN_TOTAL, false);
+    }
+
+    /**
+     * Returns the progress once {@code loadedCount} of {@code totalCount} persons have been added to the address book.
+     *
+     * @throws IllegalArgumentException if {@code loadedCount} is negative or more than {@code totalCount}.
+     */
+    public static LoadingProgress loaded(int loadedCount, int totalCount) {
+        checkArgument(loadedCount >= 0 && loadedCount <= totalCount, "Invalid loading progress");
+        return new LoadingProgress(loadedCount, totalCount, false);
+    }
+
+    /**
+     * Returns the progress once loading has stopped because of an error, after {@code loadedCount} of
+     * {@code totalCount} persons had been added to the address book.
+     *
+     * @throws IllegalArgumentException if {@code loadedCount} is negative or more than {@code totalCount}.
+     */
+    public static LoadingProgress failed(int loadedCount, int totalCount) {
+        checkArgument(loadedCount >= 0 && loadedCount <= totalCount, "Invalid loading progress");
+        return new LoadingProgress(loadedCount, totalCount, true);
+    }
+
+    public int getLoadedCount() {
+        return loadedCount;
+    }
+
+    /**
+     * Returns true if the number of persons being loaded is known, i.e. the data file has been read.
+     */
+    public boolean isTotalCountKnown() {
+        return totalCount != UNKNOWN_TOTAL;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns true if loading has stopped, either because every person has been added to the address book or because
+     * it has failed.
+     */
+    public boolean isDone() {
+        return isFailed || (isTotalCountKnown() && loadedCount == totalCount);
+    }
+
+    /**
+     * Returns true if loading has stopped because of an error, so that some persons may not have been added.
+     */
+    public boolean isFailed() {
+        return isFailed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LoadingProgress // instanceof handles nulls
+                && loadedCount == ((LoadingProgress) other).loadedCount
+                && totalCount == ((LoadingProgress) other).totalCount
+                && isFailed == ((LoadingProgress) other).isFailed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(loadedCount, totalCount, isFailed);
+    }
+
+    @Override
+    public String toString() {
+        if (isFailed) {
+            return String.format("failed after %d of %d persons loaded", loadedCount, totalCount);
+        }
+        return isTotalCountKnown()
+                ? String.format("%d of %d persons loaded", loadedCount, totalCount)
+                : "reading data file";
+    }
+}
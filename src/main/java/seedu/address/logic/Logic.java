@@ -1,7 +1,11 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -24,13 +28,60 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
     /**
-     * Returns the AddressBook.
+     * Starts executing the command in the background, after any commands started before it, and returns immediately.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which completes exceptionally with a {@code CommandException} or
+     *     {@code ParseException} (wrapped in a {@code CompletionException}) in the same cases as
+     *     {@link #execute(String)} throws them.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Starts loading the address book from {@code reader} in the background, adding its persons to the (usually
+     * empty) address book a batch at a time, and returns immediately. Until loading is done, only commands that do
+     * not change the address book can be executed, and the address book is not saved. If adding the persons fails,
+     * loading stops and every command can be executed, but the address book is never saved.
+     *
+     * @throws IllegalStateException if an address book is already being loaded.
+     */
+    void loadAddressBook(Supplier<ReadOnlyAddressBook> reader);
+
+    /**
+     * Returns how far the loading of the address book has progressed. The progress only changes on the JavaFX
+     * application thread, and is done unless {@link #loadAddressBook(Supplier)} has been called.
+     */
+    ReadOnlyObjectProperty<LoadingProgress> getLoadingProgress();
+
+    /**
+     * Saves any changes to the AddressBook that have not been saved yet, e.g. at a checkpoint while running a script.
+     * In write-behind mode, the save is only requested, and failures of earlier background saves are reported.
+     * @throws IOException If the save, or an earlier background save, fails.
+     */
+    void save() throws IOException;
+
+    /**
+     * Saves any changes to the AddressBook that have not been saved yet and releases background resources.
+     * No commands should be executed afterwards.
+     * @throws IOException If the final save fails.
+     */
+    void shutdown() throws IOException;
+
+    /**
+     * Returns the AddressBook as it is once the commands started before this call have finished.
      *
      * @see seedu.address.model.Model#getAddressBook()
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an immutable copy of the AddressBook as it was after the latest command that has finished. Unlike
+     * {@link #getAddressBook()}, the copy can be read on any thread while further commands are executed.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns an unmodifiable view of the filtered list of persons, which is updated on the JavaFX application thread.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -1,9 +1,24 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -14,39 +29,165 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
+ * Commands are executed one at a time, in the order they were entered, on a dedicated logic thread, which is the only
+ * thread that changes the model. The UI is given a copy of the filtered person list that is kept up to date on the UI
+ * thread instead, see {@link UiThreadListMirror}.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_STILL_LOADING = "The address book is still loading (%s). "
+            + "Only commands that do not change it can be used until it has loaded.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** True if the address book is saved after every command that modifies it, rather than only on request. */
+    private final boolean isSavedAfterEachCommand;
+
+    /** Saves the address book in the background, or empty if every save is done synchronously. */
+    private final Optional<WriteBehindAddressBookSaver> writeBehindSaver;
+
+    /** Runs commands, and every other task that uses the model, on the logic thread. */
+    private final ExecutorService logicExecutor = Executors.newSingleThreadExecutor(LogicManager::newLogicThread);
+
+    /** Runs tasks on the UI thread, where the copies of the model's state given to the UI are updated. */
+    private final Executor uiExecutor;
+    private final ObjectProperty<LoadingProgress> uiLoadingProgress;
+    private UiThreadListMirror<Person> uiFilteredPersons;
+
+    /**
+     * A copy of the address book as it was after the latest task on the logic thread, which is replaced after every
+     * task and read on any thread.
+     */
+    private final AtomicReference<ReadOnlyAddressBook> publishedSnapshot;
+
+    // The fields below are only used on the logic thread
+
+    private LoadingProgress loadingProgress;
+
+    /** True if the address book has been modified since it was last saved. */
+    private boolean isAddressBookModified = false;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the address book are saved in the background if write-behind saving is enabled in the
+     * {@code model}'s user prefs.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Platform::runLater);
+    }
+
+    /**
+     * Similar to {@link #LogicManager(Model, Storage)}, but the copies of the model's state given to the UI are
+     * updated on the thread behind {@code uiExecutor} instead of the JavaFX application thread.
+     */
+    LogicManager(Model model, Storage storage, Executor uiExecutor) {
+        this(model, storage, uiExecutor, true);
+    }
+
+    private LogicManager(Model model, Storage storage, Executor uiExecutor, boolean isSavedAfterEachCommand) {
         this.model = model;
         this.storage = storage;
+        this.uiExecutor = uiExecutor;
+        this.isSavedAfterEachCommand = isSavedAfterEachCommand;
         addressBookParser = new AddressBookParser();
+        int personCount = model.getAddressBook().getPersonList().size();
+        loadingProgress = LoadingProgress.loaded(personCount, personCount);
+        uiLoadingProgress = new SimpleObjectProperty<>(loadingProgress);
+
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        writeBehindSaver = isSavedAfterEachCommand && userPrefs.isWriteBehindEnabled()
+                ? Optional.of(new WriteBehindAddressBookSaver(storage, userPrefs.getWriteBehindDelayMillis()))
+                : Optional.empty();
+        publishedSnapshot = new AtomicReference<>(model.getAddressBookSnapshot());
+        model.getAddressBook().getPersonList()
+                .addListener((ListChangeListener<Person>) unused -> isAddressBookModified = true);
+    }
+
+    /**
+     * Returns a {@code LogicManager} for running commands without a UI, e.g. from a script.
+     * Unlike {@link #LogicManager(Model, Storage)}, it does not save the address book after every command that modifies
+     * it, but only when {@link #save()} or {@link #shutdown()} is called, and the copies of the model's state that are
+     * meant for the UI are updated on the logic thread.
+     */
+    public static LogicManager withoutUi(Model model, Storage storage) {
+        return new LogicManager(model, storage, Runnable::run, false);
+    }
+
+    private static Thread newLogicThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "logic");
+        thread.setDaemon(true);
+        return thread;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeAsync(commandText).join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof CommandException) {
+                throw (CommandException) ce.getCause();
+            }
+            if (ce.getCause() instanceof ParseException) {
+                throw (ParseException) ce.getCause();
+            }
+            throw unwrap(ce);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        requireNonNull(commandText);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return executeOnLogicThread(commandText);
+            } catch (CommandException | ParseException e) {
+                throw new CompletionException(e);
+            }
+        }, logicExecutor);
+    }
+
+    /**
+     * Executes the command, saves the address book if the command modified it, and publishes the result for
+     * {@link #getAddressBookSnapshot()}.
+     */
+    private CommandResult executeOnLogicThread(String commandText) throws CommandException, ParseException {
+        try {
+            return executeAndSave(commandText);
+        } finally {
+            publishSnapshot();
+        }
+    }
+
+    private CommandResult executeAndSave(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        boolean isLoading = isLoading();
+        if (isLoading && !command.isReadOnly()) {
+            throw new CommandException(String.format(MESSAGE_STILL_LOADING, loadingProgress));
+        }
         commandResult = command.execute(model);
+        if (isLoading) {
+            // The persons loaded so far are not saved, as that would lose the persons yet to be loaded
+            return commandResult;
+        }
+        if (!isSavedAfterEachCommand) {
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveAddressBookIfModified();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -54,28 +195,232 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the address book if it has been modified since it was last saved.
+     * In write-behind mode, the save is only requested here, and failures of earlier background saves are reported.
+     *
+     * @throws IOException if the save, or an earlier background save, failed.
+     */
+    private void saveAddressBookIfModified() throws IOException {
+        if (loadingProgress.isFailed()) {
+            logger.warning("Not saving the address book, as it could not be loaded in full");
+            return;
+        }
+        if (!writeBehindSaver.isPresent()) {
+            if (isAddressBookModified) {
+                storage.saveAddressBook(model.getAddressBook());
+                isAddressBookModified = false;
+            }
+            return;
+        }
+
+        if (isAddressBookModified) {
+            writeBehindSaver.get().scheduleSave(model.getAddressBookSnapshot());
+            isAddressBookModified = false;
+        }
+        Optional<IOException> saveFailure = writeBehindSaver.get().pollSaveFailure();
+        if (saveFailure.isPresent()) {
+            throw saveFailure.get();
+        }
+    }
+
+    @Override
+    public void save() throws IOException {
+        saveOnLogicThread(() -> {
+            if (isLoading()) {
+                logger.info("Not saving the address book, as it has not been loaded in full");
+                return;
+            }
+            saveAddressBookIfModified();
+        });
+    }
+
+    @Override
+    public void loadAddressBook(Supplier<ReadOnlyAddressBook> reader) {
+        requireNonNull(reader);
+        runOnLogicThread(() -> {
+            if (isLoading()) {
+                throw new IllegalStateException("An address book is already being loaded");
+            }
+            new AddressBookLoader(model, logicExecutor, this::setLoadingProgress).start(reader);
+        });
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<LoadingProgress> getLoadingProgress() {
+        return uiLoadingProgress;
+    }
+
+    private boolean isLoading() {
+        return !loadingProgress.isDone();
+    }
+
+    /**
+     * Records the progress of loading the address book, and passes it on to the UI thread. The persons loaded are
+     * what was saved, so once loading is done, the address book is not considered modified by them.
+     */
+    private void setLoadingProgress(LoadingProgress progress) {
+        loadingProgress = progress;
+        publishSnapshot();
+        if (progress.isDone()) {
+            isAddressBookModified = false;
+        }
+        uiExecutor.execute(() -> uiLoadingProgress.set(progress));
+    }
+
+    /**
+     * {@inheritDoc}
+     * An address book that is still being loaded, or that could not be loaded in full, is not saved, as that would
+     * overwrite the data file with only some of the persons in it.
+     */
+    @Override
+    public void shutdown() throws IOException {
+        try {
+            saveOnLogicThread(this::saveBeforeShutdown);
+        } finally {
+            logicExecutor.shutdown();
+            awaitBackgroundWrites();
+        }
+    }
+
+    private void awaitBackgroundWrites() {
+        try {
+            storage.awaitBackgroundWrites();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for background writes to the data folder");
+        }
+    }
+
+    private void saveBeforeShutdown() throws IOException {
+        if (writeBehindSaver.isPresent()) {
+            writeBehindSaver.get().shutdown();
+        } else if (isLoading() || loadingProgress.isFailed()) {
+            logger.info("Not saving the address book, as it has not been loaded in full");
+        } else if (isAddressBookModified) {
+            storage.saveAddressBook(model.getAddressBook());
+            isAddressBookModified = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The address book is an immutable copy taken on the logic thread once the commands started before this call
+     * have finished, so that it can be read on the calling thread while further commands are executed.
+     */
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return model.getAddressBook();
+        return callOnLogicThread(model::getAddressBookSnapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The copy is published by the logic thread after every command and every batch of persons loaded, and shares
+     * its structure with the model's address book (see {@link Model#getAddressBookSnapshot()}), so taking it costs
+     * nothing on either thread, and reading it never waits for the logic thread.
+     */
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return publishedSnapshot.get();
+    }
+
+    /**
+     * Replaces the copy of the address book returned by {@link #getAddressBookSnapshot()} with one of the address book
+     * as it is now. Must be called on the logic thread.
+     */
+    private void publishSnapshot() {
+        publishedSnapshot.set(model.getAddressBookSnapshot());
     }
 
+    /**
+     * {@inheritDoc}
+     * The list is a copy of the model's filtered person list that is kept up to date on the UI thread, and must only
+     * be used on that thread.
+     */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        if (uiFilteredPersons == null) {
+            uiFilteredPersons = callOnLogicThread(() ->
+                    new UiThreadListMirror<>(model.getFilteredPersonList(), uiExecutor));
+        }
+        return uiFilteredPersons.getList();
     }
 
+    // The user prefs are part of the model, so they are only read and written on the logic thread too
+
     @Override
     public Path getAddressBookFilePath() {
-        return model.getAddressBookFilePath();
+        return callOnLogicThread(model::getAddressBookFilePath);
     }
 
     @Override
     public GuiSettings getGuiSettings() {
-        return model.getGuiSettings();
+        return callOnLogicThread(model::getGuiSettings);
     }
 
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
-        model.setGuiSettings(guiSettings);
+        runOnLogicThread(() -> model.setGuiSettings(guiSettings));
+    }
+
+    /**
+     * Runs {@code task}, which saves the address book, on the logic thread, and waits for it to finish.
+     *
+     * @throws IOException if {@code task} fails with one.
+     */
+    private void saveOnLogicThread(SaveTask task) throws IOException {
+        try {
+            runOnLogicThread(() -> {
+                try {
+                    task.run();
+                } catch (IOException ioe) {
+                    throw new CompletionException(ioe);
+                }
+            });
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof IOException) {
+                throw (IOException) ce.getCause();
+            }
+            throw ce;
+        }
+    }
+
+    /**
+     * Runs {@code task} on the logic thread, and waits for it to finish.
+     */
+    private void runOnLogicThread(Runnable task) {
+        callOnLogicThread(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code task} on the logic thread, and returns its result once it has finished.
+     */
+    private <T> T callOnLogicThread(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, logicExecutor).join();
+        } catch (CompletionException ce) {
+            throw unwrap(ce);
+        }
+    }
+
+    /**
+     * Returns the unchecked exception that caused {@code ce}, or {@code ce} itself if the cause is checked.
+     */
+    private static RuntimeException unwrap(CompletionException ce) {
+        if (ce.getCause() instanceof Error) {
+            throw (Error) ce.getCause();
+        }
+        return ce.getCause() instanceof RuntimeException ? (RuntimeException) ce.getCause() : ce;
+    }
+
+    /**
+     * A task that saves the address book, and may therefore fail with an {@code IOException}.
+     */
+    @FunctionalInterface
+    private interface SaveTask {
+        void run() throws IOException;
     }
 }
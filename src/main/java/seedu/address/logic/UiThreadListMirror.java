@@ -0,0 +1,124 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is changed on the logic thread, which is kept up to date on the UI thread
+ * so that the UI can observe it safely.
+ * Every change to the source list is recorded on the thread that makes it, and replayed on the UI thread in the same
+ * order. A replay is only requested if none is waiting already, and each replay only runs for a small part of a
+ * frame before requesting another one for the rest, so that a burst of changes, e.g. while an address book is being
+ * loaded, neither floods nor freezes the UI thread.
+ */
+class UiThreadListMirror<T> {
+
+    /** The time the UI thread may spend replaying changes before letting other work, e.g. rendering, run. */
+    static final long TIME_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+    private final Executor uiExecutor;
+    private final Queue<RangeReplacement<T>> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isReplayRequested = new AtomicBoolean(false);
+
+    /**
+     * Creates a mirror of {@code source}, whose changes are replayed on the thread behind {@code uiExecutor}.
+     * Must be called on the thread that changes {@code source}.
+     */
+    UiThreadListMirror(ObservableList<T> source, Executor uiExecutor) {
+        requireAllNonNull(source, uiExecutor);
+        this.mirror = FXCollections.observableArrayList(source);
+        this.unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        this.uiExecutor = uiExecutor;
+        source.addListener(this::record);
+    }
+
+    /**
+     * Returns the mirror as an unmodifiable {@code ObservableList}, which must only be used on the UI thread.
+     */
+    ObservableList<T> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Records {@code change} to the source list, and requests a replay if none is waiting.
+     */
+    private void record(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<T> replacement = List.copyOf(change.getList().subList(from, change.getTo()));
+                pendingChanges.add(new RangeReplacement<>(from, from + replacement.size(), replacement));
+            } else {
+                pendingChanges.add(new RangeReplacement<>(from, from + change.getRemovedSize(),
+                        List.copyOf(change.getAddedSubList())));
+            }
+        }
+        requestReplay();
+    }
+
+    private void requestReplay() {
+        if (isReplayRequested.compareAndSet(false, true)) {
+            uiExecutor.execute(this::replay);
+        }
+    }
+
+    /**
+     * Replays the recorded changes on the mirror until the time slice is used up, and requests another replay for
+     * the rest. Only runs on the UI thread.
+     */
+    private void replay() {
+        isReplayRequested.set(false);
+        long deadlineNanos = System.nanoTime() + TIME_SLICE_NANOS;
+        RangeReplacement<T> change;
+        while ((change = pendingChanges.poll()) != null) {
+            change.applyTo(mirror);
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                break;
+            }
+        }
+        if (!pendingChanges.isEmpty()) {
+            requestReplay();
+        }
+    }
+
+    /**
+     * A change that replaces the elements of a list from {@code from} (inclusive) to {@code to} (exclusive) with
+     * {@code replacement}, which covers additions, removals and updates alike.
+     */
+    private static class RangeReplacement<T> {
+        private final int from;
+        private final int to;
+        private final List<T> replacement;
+
+        RangeReplacement(int from, int to, List<T> replacement) {
+            this.from = from;
+            this.to = to;
+            this.replacement = replacement;
+        }
+
+        void applyTo(ObservableList<T> list) {
+            if (to - from == 1 && replacement.size() == 1) {
+                list.set(from, replacement.get(0));
+                return;
+            }
+            if (to > from) {
+                list.remove(from, to);
+            }
+            if (!replacement.isEmpty()) {
+                list.addAll(from, replacement);
+            }
+        }
+    }
+}
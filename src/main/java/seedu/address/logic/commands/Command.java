@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command never changes the address book.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
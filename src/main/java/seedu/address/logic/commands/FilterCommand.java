@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.TagsMatchPredicate;
+
+/**
+ * Finds and lists all persons in address book whose tags match every one of the argument tag expressions.
+ * Tag matching is case sensitive.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tags match every one of "
+            + "the specified tag expressions and displays them as a list with index numbers.\n"
+            + "A tag expression is one or more tags separated by '|' (OR), "
+            + "each of which may be preceded by '!' (NOT).\n"
+            + "Parameters: " + PREFIX_TAG + "TAG_EXPRESSION [" + PREFIX_TAG + "TAG_EXPRESSION]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends " + PREFIX_TAG + "colleagues|family "
+            + PREFIX_TAG + "!owesMoney";
+
+    private final TagsMatchPredicate predicate;
+
+    public FilterCommand(TagsMatchPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListByTags(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                && predicate.equals(((FilterCommand) other).predicate)); // state check
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.util.Optional;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
@@ -8,7 +12,9 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. A keyword starting with {@code ~} also matches names with a few typos in
+ * that word, and a keyword containing {@code *} matches any characters in place of each {@code *}.
+ * If a count is given, only that many of the matching persons are listed, most relevant first.
  */
 public class FindCommand extends Command {
 
@@ -16,27 +22,55 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + PREFIX_TOP + "COUNT]\n"
+            + "Start a keyword with ~ to allow a few typos in it, or use * in a keyword to match any characters.\n"
+            + "With " + PREFIX_TOP + "COUNT, only the COUNT most relevant persons are listed, most relevant first.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " ~alcie *lic* " + PREFIX_TOP + "10";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final Optional<Integer> count;
 
+    /**
+     * Creates a FindCommand to list all persons matching {@code predicate}.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.count = Optional.empty();
+    }
+
+    /**
+     * Creates a FindCommand to list the {@code count} persons matching {@code predicate} that are most relevant to
+     * its keywords, most relevant first.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, int count) {
+        checkArgument(count > 0, "The count must be positive.");
+        this.predicate = predicate;
+        this.count = Optional.of(count);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (count.isPresent()) {
+            model.updateFilteredPersonListByRank(predicate, count.get());
+        } else {
+            model.updateFilteredPersonListByName(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && count.equals(((FindCommand) other).count)); // state check
     }
 }
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    public static final String ALTERNATIVE_SEPARATOR = "|";
+    public static final String NEGATION = "!";
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_TAG);
+    private static final Pattern ALTERNATIVE_SEPARATOR_PATTERN = Pattern.compile(Pattern.quote(ALTERNATIVE_SEPARATOR));
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
+        List<String> tagExpressions = argMultimap.getAllValues(PREFIX_TAG);
+        if (!argMultimap.getPreamble().isEmpty() || tagExpressions.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
+        List<TagsMatchPredicate.Clause> clauses = new ArrayList<>();
+        for (String tagExpression : tagExpressions) {
+            clauses.add(parseClause(tagExpression));
+        }
+        return new FilterCommand(new TagsMatchPredicate(clauses));
+    }
+
+    /**
+     * Parses a {@code String tagExpression} of tags separated by {@code ALTERNATIVE_SEPARATOR}, each optionally
+     * preceded by {@code NEGATION}, into a {@code TagsMatchPredicate.Clause}.
+     *
+     * @throws ParseException if any of the tags is invalid.
+     */
+    private static TagsMatchPredicate.Clause parseClause(String tagExpression) throws ParseException {
+        Set<Tag> includedTags = new HashSet<>();
+        Set<Tag> excludedTags = new HashSet<>();
+        for (String alternative : ALTERNATIVE_SEPARATOR_PATTERN.split(tagExpression, -1)) {
+            String trimmedAlternative = alternative.trim();
+            if (trimmedAlternative.startsWith(NEGATION)) {
+                excludedTags.add(ParserUtil.parseTag(trimmedAlternative.substring(NEGATION.length())));
+            } else {
+                includedTags.add(ParserUtil.parseTag(trimmedAlternative));
+            }
+        }
+        return new TagsMatchPredicate.Clause(includedTags, excludedTags);
+    }
+
+}
@@ -2,11 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSet;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -14,6 +17,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -21,6 +25,11 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range must go from a lower to a higher index, e.g. 10-500.";
+    public static final String MESSAGE_INVALID_COUNT = "Count is not a non-zero unsigned integer.";
+
+    private static final String INDEX_RANGE_SEPARATOR = "-";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -35,6 +44,53 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code count} into a positive number and returns it. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified count is invalid (not non-zero unsigned integer).
+     */
+    public static int parseCount(String count) throws ParseException {
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
+    /**
+     * Parses {@code oneBasedIndexes}, a whitespace-separated list of indexes and ranges of indexes such as
+     * {@code 1 4 10-500}, into an {@code IndexSet} and returns it. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if there are no indexes, or if any index or range is invalid.
+     */
+    public static IndexSet parseIndexes(String oneBasedIndexes) throws ParseException {
+        String trimmedIndexes = oneBasedIndexes.trim();
+        if (trimmedIndexes.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX);
+        }
+
+        List<IndexSet> indexSets = new ArrayList<>();
+        for (String indexOrRange : trimmedIndexes.split("\\s+")) {
+            indexSets.add(parseIndexOrRange(indexOrRange));
+        }
+        return IndexSet.union(indexSets);
+    }
+
+    /**
+     * Parses {@code indexOrRange}, either a single index or a range such as {@code 10-500}, into an {@code IndexSet}.
+     */
+    private static IndexSet parseIndexOrRange(String indexOrRange) throws ParseException {
+        int separatorPosition = indexOrRange.indexOf(INDEX_RANGE_SEPARATOR);
+        if (separatorPosition == -1) {
+            return IndexSet.of(parseIndex(indexOrRange));
+        }
+
+        Index first = parseIndex(indexOrRange.substring(0, separatorPosition));
+        Index last = parseIndex(indexOrRange.substring(separatorPosition + INDEX_RANGE_SEPARATOR.length()));
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        return IndexSet.ofRange(first, last);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -107,7 +163,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return TagDictionary.intern(trimmedTag);
     }
 
     /**
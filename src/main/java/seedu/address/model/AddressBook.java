@@ -3,9 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.ListEdit;
+import seedu.address.model.person.ListRevision;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMutation;
+import seedu.address.model.person.TagsMatchPredicate;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -15,6 +21,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private Snapshot latestSnapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -66,6 +73,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the position in the person list of the person equal to {@code person}, or -1 if there is no such person.
+     */
+    public int indexOfPerson(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -74,6 +89,40 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds a person to the address book at the specified position in the person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
+    /**
+     * Adds {@code persons} to the end of the person list, as a single change to the list.
+     * None of the persons may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
+    /**
+     * Makes all of {@code mutations} in order, as a single change to the person list. Nothing is changed if any of
+     * the mutations cannot be made.
+     *
+     * @return the mutations that undo the batch, in the order they must be made.
+     * @see UniquePersonList#applyBatch(List)
+     */
+    public List<PersonMutation> applyBatch(List<PersonMutation> mutations) {
+        return persons.applyBatch(mutations);
+    }
+
+    /**
+     * Makes all changes to the person list in {@code changes} as a single change to the list.
+     */
+    protected void batchChanges(Runnable changes) {
+        persons.batchChanges(changes);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -93,6 +142,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns a predicate that tests if a person in this address book has a name containing any of {@code keywords}
+     * as a whole word, ignoring case. Persons are looked up in the address book's index of name words.
+     */
+    public Predicate<Person> nameContainsAnyOf(List<String> keywords) {
+        return persons.nameContainsAnyOf(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests if the tags of a person in this address book satisfy {@code predicate}.
+     * Persons are looked up in the address book's bitmaps of persons by tag.
+     */
+    public Predicate<Person> tagsMatch(TagsMatchPredicate predicate) {
+        return persons.tagsMatch(predicate);
+    }
+
     //// util methods
 
     @Override
@@ -106,6 +171,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * {@inheritDoc}
+     * The copy costs {@code O(1)} to take, and the same copy is returned until the address book changes.
+     */
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        ObservableList<Person> personsNow = persons.asSnapshot();
+        if (latestSnapshot == null || latestSnapshot.persons != personsNow) {
+            latestSnapshot = new Snapshot(personsNow, persons.getRevision());
+        }
+        return latestSnapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The edits are known if {@code earlier} is a snapshot of this address book, and cost {@code O(k)} to find for the
+     * {@code k} edits made since.
+     */
+    @Override
+    public Optional<List<ListEdit<Person>>> getEditsSince(ReadOnlyAddressBook earlier) {
+        return getSnapshot().getEditsSince(earlier);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -117,4 +205,41 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * An immutable copy of the persons in an address book at a point in time, along with the revision of the persons
+     * list at that time.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ListRevision<Person> revision;
+
+        Snapshot(ObservableList<Person> persons, ListRevision<Person> revision) {
+            this.persons = persons;
+            this.revision = revision;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ReadOnlyAddressBook getSnapshot() {
+            return this;
+        }
+
+        @Override
+        public Optional<List<ListEdit<Person>>> getEditsSince(ReadOnlyAddressBook earlier) {
+            if (!(earlier instanceof Snapshot)) {
+                return Optional.empty();
+            }
+            return ((Snapshot) earlier).revision.getEditsTo(revision);
+        }
+
+        @Override
+        public String toString() {
+            return persons.size() + " persons";
+        }
+    }
 }
@@ -1,11 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMutation;
+import seedu.address.model.person.TagsMatchPredicate;
 
 /**
  * The API of the Model component.
@@ -52,6 +56,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the AddressBook as it is now, which costs nothing to take, and which, unlike the
+     * model itself, can be read on any thread while the AddressBook keeps changing.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +79,15 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds {@code persons}, which are being loaded into the address book, to the end of the address book.
+     * The persons become part of the initial state of the address book, so adding them cannot be undone.
+     * None of the persons may already exist in the address book.
+     *
+     * @throws IllegalStateException if the address book has already been changed since it was created.
+     */
+    void addLoadedPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,12 +95,77 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Makes all of {@code mutations} in order, as a single change to the address book.
+     * The mutations are checked before any of them is made, and nothing is changed if any of them cannot be made.
+     *
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if a mutation would duplicate a person.
+     * @throws seedu.address.model.person.exceptions.PersonNotFoundException if a mutation refers to a person that is
+     *     not in the address book.
+     */
+    void applyBatch(List<PersonMutation> mutations);
+
+    /**
+     * Returns true if the model has a committed address book state to undo.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has an undone address book state to redo.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the latest commit that has not been undone.
+     * @throws IllegalStateException if there is no such state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state before the latest undo.
+     * @throws IllegalStateException if there is no such state.
+     */
+    void redoAddressBook();
+
+    /**
+     * Saves the changes made to the address book since the previous commit, so that they can be undone.
+     */
+    void commitAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filter stays in place as persons are added, edited and deleted, and only the changed persons are tested
+     * against it.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code predicate}.
+     * Unlike {@link #updateFilteredPersonList(Predicate)}, persons are looked up by the keywords of {@code predicate}
+     * in the address book's index of name words instead of being tested against {@code predicate} one by one.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filtered person list to show only the {@code limit} persons matched by {@code predicate} that
+     * score highest according to {@link NameContainsKeywordsPredicate#score(Person)}, highest first.
+     * The persons shown are chosen when this is called; afterwards, they are only removed from the list if they are
+     * deleted or renamed. The list is shown in address book order again once its filter is next updated.
+     * @throws NullPointerException if {@code predicate} is null.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    void updateFilteredPersonListByRank(NameContainsKeywordsPredicate predicate, int limit);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code predicate}.
+     * Unlike {@link #updateFilteredPersonList(Predicate)}, the tags of {@code predicate} are combined in the address
+     * book's bitmaps of persons by tag instead of testing the tags of every person against {@code predicate}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByTags(TagsMatchPredicate predicate);
 }
@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,7 +15,12 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMutation;
+import seedu.address.model.person.TagsMatchPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -19,9 +28,10 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedView<Person> shownPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -32,9 +42,10 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistorySize());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        shownPersons = new SortedView<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -88,6 +99,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -102,7 +118,12 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addLoadedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addInitialPersons(persons);
     }
 
     @Override
@@ -112,23 +133,88 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void applyBatch(List<PersonMutation> mutations) {
+        requireNonNull(mutations);
+        addressBook.applyBatch(mutations);
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, which is in the same order unless it is ranked
+     * (see {@link #updateFilteredPersonListByRank(NameContainsKeywordsPredicate, int)}).
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return shownPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        shownPersons.setComparator(null);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        shownPersons.setComparator(null);
+        filteredPersons.setPredicate(addressBook.nameContainsAnyOf(predicate.getKeywords()));
+    }
+
+    @Override
+    public void updateFilteredPersonListByRank(NameContainsKeywordsPredicate predicate, int limit) {
+        requireNonNull(predicate);
+        Predicate<Person> matchesName = addressBook.nameContainsAnyOf(predicate.getKeywords());
+        Iterable<Person> matchingPersons = () -> addressBook.getPersonList().stream().filter(matchesName).iterator();
+        List<Person> rankedPersons = CollectionUtil.highestScoring(matchingPersons, limit, predicate::score);
+        Map<Name, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < rankedPersons.size(); i++) {
+            ranks.put(rankedPersons.get(i).getName(), i);
+        }
+
+        shownPersons.setComparator(null);
+        filteredPersons.setPredicate(person -> ranks.containsKey(person.getName()));
+        shownPersons.setComparator(Comparator.comparingInt(person -> ranks.get(person.getName())));
+    }
+
+    @Override
+    public void updateFilteredPersonListByTags(TagsMatchPredicate predicate) {
+        requireNonNull(predicate);
+        shownPersons.setComparator(null);
+        filteredPersons.setPredicate(addressBook.tagsMatch(predicate));
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -145,7 +231,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredPersons.equals(other.filteredPersons);
+                && shownPersons.equals(other.shownPersons);
     }
 
 }
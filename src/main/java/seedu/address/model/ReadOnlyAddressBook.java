@@ -1,6 +1,11 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.ListEdit;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +19,23 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an immutable copy of this address book as it is now, which can be read on any thread while this address
+     * book keeps changing. Unless overridden, the persons are copied.
+     */
+    default ReadOnlyAddressBook getSnapshot() {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(getPersonList()));
+        return () -> persons;
+    }
+
+    /**
+     * Returns the edits that turn the persons list of {@code earlier}, an earlier snapshot of this address book, into
+     * the persons list of this address book, in the order they were made, or an empty {@code Optional} if they are
+     * not known. Unless overridden, they are never known.
+     */
+    default Optional<List<ListEdit<Person>>> getEditsSince(ReadOnlyAddressBook earlier) {
+        return Optional.empty();
+    }
+
 }
@@ -13,4 +13,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isWriteBehindEnabled();
+
+    long getWriteBehindDelayMillis();
+
+    int getUndoHistorySize();
+
+    boolean isWriteAheadLogEnabled();
+
+    boolean isProgressiveStartupEnabled();
+
+    int getCommandServerPort();
+
 }
@@ -0,0 +1,151 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of a source list that shows its elements in the same order, or, once given a comparator, sorted by it.
+ * Unlike {@code SortedList}, the view keeps nothing for each element while it is unsorted, and passes the changes to
+ * the source list on as they are. While it is sorted, the whole view is sorted again on every change to the source
+ * list, so it should only be sorted while the source list is short, e.g. while it holds the top results of a search.
+ */
+class SortedView<E> extends TransformationList<E, E> {
+
+    private Comparator<? super E> comparator;
+
+    // While sorted, the elements in sorted order, and the index in the source list of each of them
+    private List<E> sortedElements = new ArrayList<>();
+    private int[] sourceIndexes = new int[0];
+
+    SortedView(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, or shows the elements in source order if it is null. Elements that are
+     * equal according to {@code comparator} are kept in source order.
+     */
+    void setComparator(Comparator<? super E> comparator) {
+        if (comparator == null && this.comparator == null) {
+            return;
+        }
+        List<E> oldElements = new ArrayList<>(this);
+        this.comparator = comparator;
+        sort();
+        fireReplaceAll(oldElements);
+    }
+
+    Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        if (comparator == null) {
+            fireSameChange(change);
+            return;
+        }
+        List<E> oldElements = sortedElements;
+        sort();
+        fireReplaceAll(oldElements);
+    }
+
+    /**
+     * Fires {@code change} to the source list as a change to this view, which is the same while it is unsorted.
+     */
+    private void fireSameChange(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to];
+                for (int i = from; i < to; i++) {
+                    permutation[i] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    private void sort() {
+        if (comparator == null) {
+            sortedElements = new ArrayList<>();
+            sourceIndexes = new int[0];
+            return;
+        }
+        List<? extends E> source = getSource();
+        List<Integer> sortedIndexes = IntStream.range(0, source.size())
+                .boxed()
+                .sorted(Comparator.comparing(source::get, comparator))
+                .collect(Collectors.toList());
+        sourceIndexes = sortedIndexes.stream().mapToInt(Integer::intValue).toArray();
+        sortedElements = sortedIndexes.stream().map(source::get).collect(Collectors.toList());
+    }
+
+    private void fireReplaceAll(List<E> oldElements) {
+        beginChange();
+        if (!oldElements.isEmpty()) {
+            nextRemove(0, oldElements);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        if (comparator == null) {
+            return getSource().get(index);
+        }
+        return sortedElements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return comparator == null ? getSource().size() : sortedElements.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (comparator == null) {
+            return Objects.checkIndex(index, size());
+        }
+        return sourceIndexes[Objects.checkIndex(index, size())];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        Objects.checkIndex(index, getSource().size());
+        if (comparator == null) {
+            return index;
+        }
+        for (int i = 0; i < sourceIndexes.length; i++) {
+            if (sourceIndexes[i] == index) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Every element of the source list is in the view");
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,6 +16,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean writeBehindEnabled = false;
+    private long writeBehindDelayMillis = 500;
+    private int undoHistorySize = 100;
+    private boolean writeAheadLogEnabled = false;
+    private boolean progressiveStartupEnabled = false;
+    private int commandServerPort = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setWriteBehindEnabled(newUserPrefs.isWriteBehindEnabled());
+        setWriteBehindDelayMillis(newUserPrefs.getWriteBehindDelayMillis());
+        setUndoHistorySize(newUserPrefs.getUndoHistorySize());
+        setWriteAheadLogEnabled(newUserPrefs.isWriteAheadLogEnabled());
+        setProgressiveStartupEnabled(newUserPrefs.isProgressiveStartupEnabled());
+        setCommandServerPort(newUserPrefs.getCommandServerPort());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +69,72 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    public long getWriteBehindDelayMillis() {
+        return writeBehindDelayMillis;
+    }
+
+    /**
+     * Sets the maximum time a modified address book may wait before it is saved in write-behind mode.
+     *
+     * @throws IllegalArgumentException if {@code writeBehindDelayMillis} is negative.
+     */
+    public void setWriteBehindDelayMillis(long writeBehindDelayMillis) {
+        checkArgument(writeBehindDelayMillis >= 0, "Write-behind delay cannot be negative");
+        this.writeBehindDelayMillis = writeBehindDelayMillis;
+    }
+
+    public int getUndoHistorySize() {
+        return undoHistorySize;
+    }
+
+    /**
+     * Sets the maximum number of commands that can be undone.
+     *
+     * @throws IllegalArgumentException if {@code undoHistorySize} is negative.
+     */
+    public void setUndoHistorySize(int undoHistorySize) {
+        checkArgument(undoHistorySize >= 0, "Undo history size cannot be negative");
+        this.undoHistorySize = undoHistorySize;
+    }
+
+    public boolean isWriteAheadLogEnabled() {
+        return writeAheadLogEnabled;
+    }
+
+    public void setWriteAheadLogEnabled(boolean writeAheadLogEnabled) {
+        this.writeAheadLogEnabled = writeAheadLogEnabled;
+    }
+
+    public boolean isProgressiveStartupEnabled() {
+        return progressiveStartupEnabled;
+    }
+
+    public void setProgressiveStartupEnabled(boolean progressiveStartupEnabled) {
+        this.progressiveStartupEnabled = progressiveStartupEnabled;
+    }
+
+    public int getCommandServerPort() {
+        return commandServerPort;
+    }
+
+    /**
+     * Sets the local port that commands can be sent to by other programs, or 0 to not accept any.
+     *
+     * @throws IllegalArgumentException if {@code commandServerPort} is not a valid port number.
+     */
+    public void setCommandServerPort(int commandServerPort) {
+        checkArgument(commandServerPort >= 0 && commandServerPort <= 65535, "Invalid command server port");
+        this.commandServerPort = commandServerPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +147,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && writeBehindEnabled == o.writeBehindEnabled
+                && writeBehindDelayMillis == o.writeBehindDelayMillis
+                && undoHistorySize == o.undoHistorySize
+                && writeAheadLogEnabled == o.writeAheadLogEnabled
+                && progressiveStartupEnabled == o.progressiveStartupEnabled
+                && commandServerPort == o.commandServerPort;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, writeBehindEnabled, writeBehindDelayMillis,
+                undoHistorySize, writeAheadLogEnabled, progressiveStartupEnabled, commandServerPort);
     }
 
     @Override
@@ -81,6 +167,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nWrite-behind saving : " + (writeBehindEnabled ? writeBehindDelayMillis + "ms" : "disabled"));
+        sb.append("\nUndo history size : " + undoHistorySize);
+        sb.append("\nWrite-ahead log : " + (writeAheadLogEnabled ? "enabled" : "disabled"));
+        sb.append("\nProgressive startup : " + (progressiveStartupEnabled ? "enabled" : "disabled"));
+        sb.append("\nCommand server : " + (commandServerPort > 0 ? "port " + commandServerPort : "disabled"));
         return sb.toString();
     }
 
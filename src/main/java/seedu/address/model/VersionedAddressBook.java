@@ -0,0 +1,214 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMutation;
+
+/**
+ * An {@code AddressBook} that can undo and redo the changes committed to it.
+ * Instead of a copy of the whole address book, every committed state is kept as the list of changes made since the
+ * previous commit, each of which only refers to the persons it changed. At most {@code historySize} commits can be
+ * undone; older ones are forgotten. Undoing or redoing a commit is a single change to the person list, however many
+ * changes the commit is made of.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    private final int historySize;
+    private final Deque<List<Change>> undoHistory = new ArrayDeque<>();
+    private final Deque<List<Change>> redoHistory = new ArrayDeque<>();
+    private final List<Change> uncommittedChanges = new ArrayList<>();
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the persons in {@code initialState} that can undo up to
+     * {@code historySize} commits.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historySize) {
+        requireNonNull(initialState);
+        checkArgument(historySize >= 0, "Undo history size cannot be negative");
+        this.historySize = historySize;
+        super.setPersons(initialState.getPersonList());
+    }
+
+    //// recorded operations
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> oldPersons = new ArrayList<>(getPersonList());
+        super.setPersons(persons);
+        List<Person> newPersons = new ArrayList<>(getPersonList());
+        record(() -> super.setPersons(oldPersons), () -> super.setPersons(newPersons));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        int index = getPersonList().size() - 1;
+        record(() -> super.removePerson(p), () -> super.addPerson(index, p));
+    }
+
+    @Override
+    public void addPerson(int index, Person p) {
+        super.addPerson(index, p);
+        record(() -> super.removePerson(p), () -> super.addPerson(index, p));
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        List<Person> addedPersons = List.copyOf(persons);
+        super.addPersons(addedPersons);
+        record(() -> removeLastPersons(addedPersons), () -> super.addPersons(addedPersons));
+    }
+
+    @Override
+    public List<PersonMutation> applyBatch(List<PersonMutation> mutations) {
+        List<PersonMutation> appliedMutations = List.copyOf(mutations);
+        List<PersonMutation> undoMutations = super.applyBatch(appliedMutations);
+        record(() -> super.applyBatch(undoMutations), () -> super.applyBatch(appliedMutations));
+        return undoMutations;
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        super.setPerson(target, editedPerson);
+        record(() -> super.setPerson(editedPerson, target), () -> super.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = indexOfPerson(key);
+        super.removePerson(key);
+        record(() -> super.addPerson(index, key), () -> super.removePerson(key));
+    }
+
+    /**
+     * Adds {@code persons} to the end of the person list as part of the initial state of the address book, e.g. while
+     * the address book is being loaded, so that the change cannot be undone.
+     *
+     * @throws IllegalStateException if any change has already been made to the address book.
+     */
+    public void addInitialPersons(List<Person> persons) {
+        if (canUndo() || canRedo() || !uncommittedChanges.isEmpty()) {
+            throw new IllegalStateException("Persons can only be added to the initial state before any change");
+        }
+        super.addPersons(persons);
+    }
+
+    //// history operations
+
+    /**
+     * Saves the changes made since the previous commit as a state that can be undone.
+     * Discards all states that can be redone. Does nothing if no changes have been made since the previous commit.
+     */
+    public void commit() {
+        if (uncommittedChanges.isEmpty()) {
+            return;
+        }
+
+        if (historySize > 0) {
+            undoHistory.addLast(List.copyOf(uncommittedChanges));
+            if (undoHistory.size() > historySize) {
+                undoHistory.removeFirst();
+            }
+        }
+        uncommittedChanges.clear();
+        redoHistory.clear();
+    }
+
+    /**
+     * Returns true if there is a committed state to undo.
+     */
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone state to redo.
+     */
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * Restores the address book to its state before the latest commit that has not been undone.
+     * Changes that have not been committed are discarded.
+     *
+     * @throws IllegalStateException if there is no committed state to undo.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No committed state to undo");
+        }
+        List<Change> changes = undoHistory.removeLast();
+        batchChanges(() -> {
+            discardUncommittedChanges();
+            ListIterator<Change> iterator = changes.listIterator(changes.size());
+            while (iterator.hasPrevious()) {
+                iterator.previous().undo.run();
+            }
+        });
+        redoHistory.addLast(changes);
+    }
+
+    /**
+     * Restores the address book to its state before the latest undo.
+     * Changes that have not been committed are discarded.
+     *
+     * @throws IllegalStateException if there is no undone state to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No undone state to redo");
+        }
+        List<Change> changes = redoHistory.removeLast();
+        batchChanges(() -> {
+            discardUncommittedChanges();
+            changes.forEach(change -> change.redo.run());
+        });
+        undoHistory.addLast(changes);
+    }
+
+    private void discardUncommittedChanges() {
+        ListIterator<Change> iterator = uncommittedChanges.listIterator(uncommittedChanges.size());
+        while (iterator.hasPrevious()) {
+            iterator.previous().undo.run();
+        }
+        uncommittedChanges.clear();
+    }
+
+    /**
+     * Removes {@code persons}, which are the last persons in the person list, starting from the last one so that no
+     * other person has to be shifted.
+     */
+    private void removeLastPersons(List<Person> persons) {
+        ListIterator<Person> iterator = persons.listIterator(persons.size());
+        while (iterator.hasPrevious()) {
+            super.removePerson(iterator.previous());
+        }
+    }
+
+    private void record(Runnable undo, Runnable redo) {
+        uncommittedChanges.add(new Change(undo, redo));
+    }
+
+    /**
+     * A change made to the address book, which can be undone and redone.
+     * Both operations bypass the recording of changes.
+     */
+    private static class Change {
+        private final Runnable undo;
+        private final Runnable redo;
+
+        Change(Runnable undo, Runnable redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
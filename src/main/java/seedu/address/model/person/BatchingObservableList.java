@@ -0,0 +1,138 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be grouped, so that listeners are notified once of all the changes in a
+ * group instead of once per change (see {@link #batchChanges(Runnable)}).
+ * Adding or removing a range of elements costs the same as it does for an {@code ArrayList}.
+ * Alongside the array of elements, the list keeps an immutable version of its contents that is updated with every
+ * change in {@code O(log n)}, so that a snapshot of the list can be taken at no cost (see {@link #getVersion()}).
+ * Every change is also recorded as a {@link ListEdit}, so that the edits made between two versions can be found
+ * without comparing them (see {@link #getRevision()}).
+ */
+class BatchingObservableList<E> extends ModifiableObservableListBase<E> implements RandomAccess {
+
+    private final List<E> elements = new ArrayList<>();
+    private PersistentList<E> version = PersistentList.empty();
+    private ListRevision<E> revision = new ListRevision<>();
+
+    /**
+     * Makes the changes to this list in {@code changes}, and notifies listeners of all of them as a single change
+     * once they have all been made, even if {@code changes} throws an exception.
+     * Batches may be nested, in which case listeners are notified when the outermost batch ends.
+     */
+    void batchChanges(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this list, which is unaffected by later changes to it.
+     */
+    PersistentList<E> getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the revision of this list that matches {@link #getVersion()}, from which the edits made to this list
+     * since can be found.
+     */
+    ListRevision<E> getRevision() {
+        return revision;
+    }
+
+    private void recordEdit(int index, int removedCount, Collection<? extends E> addedElements) {
+        revision = revision.followedBy(new ListEdit<>(index, removedCount, addedElements));
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+        version = version.withAdded(index, element);
+        recordEdit(index, 0, List.of(element));
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        version = version.withSet(index, element);
+        recordEdit(index, 1, List.of(element));
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        version = version.withRemoved(index);
+        recordEdit(index, 1, List.of());
+        return elements.remove(index);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(elements.size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        Objects.checkIndex(index, elements.size() + 1);
+        int addedCount = toAdd.size();
+        if (addedCount == 0) {
+            return false;
+        }
+
+        beginChange();
+        try {
+            elements.addAll(index, toAdd);
+            version = version.withAllAdded(index, toAdd);
+            recordEdit(index, 0, toAdd);
+            modCount++;
+            nextAdd(index, index + addedCount);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, elements.size());
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        beginChange();
+        try {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            nextRemove(fromIndex, new ArrayList<>(range));
+            range.clear();
+            version = version.withRangeRemoved(fromIndex, toIndex);
+            recordEdit(fromIndex, toIndex - fromIndex, List.of());
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+}
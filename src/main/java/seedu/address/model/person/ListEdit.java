@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An edit to a list, which replaces the {@code removedCount} elements starting at {@code index} with the
+ * {@code addedElements}. This is enough to describe adding, replacing or removing a run of consecutive elements.
+ * Guarantees: immutable.
+ *
+ * @param <E> the type of the elements of the list.
+ */
+public class ListEdit<E> {
+
+    private final int index;
+    private final int removedCount;
+    private final List<E> addedElements;
+
+    /**
+     * Constructs a {@code ListEdit} that replaces the {@code removedCount} elements starting at {@code index} with
+     * {@code addedElements}, none of which may be null.
+     */
+    public ListEdit(int index, int removedCount, Collection<? extends E> addedElements) {
+        requireNonNull(addedElements);
+        checkArgument(index >= 0 && removedCount >= 0, "Index and removed count cannot be negative");
+        this.index = index;
+        this.removedCount = removedCount;
+        this.addedElements = List.copyOf(addedElements);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    /**
+     * Returns an immutable list of the elements added by this edit.
+     */
+    public List<E> getAddedElements() {
+        return addedElements;
+    }
+
+    /**
+     * Makes this edit to {@code list}.
+     *
+     * @throws IndexOutOfBoundsException if the elements to remove are not all in {@code list}.
+     */
+    public void applyTo(List<E> list) {
+        requireNonNull(list);
+        Objects.checkFromIndexSize(index, removedCount, list.size());
+        List<E> range = list.subList(index, index + removedCount);
+        range.clear();
+        range.addAll(addedElements);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListEdit // instanceof handles nulls
+                && index == ((ListEdit<?>) other).index
+                && removedCount == ((ListEdit<?>) other).removedCount
+                && addedElements.equals(((ListEdit<?>) other).addedElements));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removedCount, addedElements);
+    }
+
+    @Override
+    public String toString() {
+        return "replace " + removedCount + " at " + index + " with " + addedElements;
+    }
+}
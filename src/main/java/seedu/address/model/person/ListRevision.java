@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A point in the history of a list that records its edits, from which the edits made to the list since can be found
+ * (see {@link #getEditsTo(ListRevision)}), e.g. to save only what has changed.
+ * Each revision links to the edit made after it and to the revision that edit led to, so only the edits made after
+ * the oldest revision that is still referenced are kept in memory.
+ *
+ * @param <E> the type of the elements of the list.
+ */
+public class ListRevision<E> {
+
+    private ListEdit<E> edit;
+    // Written after edit, so that a thread that sees the next revision also sees the edit that led to it
+    private volatile ListRevision<E> next;
+
+    ListRevision() {}
+
+    /**
+     * Records {@code edit} as the edit made to the list at this revision, and returns the revision it leads to.
+     * Only called by the owner of the list, once per revision.
+     */
+    ListRevision<E> followedBy(ListEdit<E> edit) {
+        requireNonNull(edit);
+        assert next == null : "The edit made at a revision cannot be changed";
+        this.edit = edit;
+        ListRevision<E> nextRevision = new ListRevision<>();
+        next = nextRevision;
+        return nextRevision;
+    }
+
+    /**
+     * Returns the edits that lead from this revision to {@code later}, in the order they were made, or an empty
+     * {@code Optional} if {@code later} is not this or a later revision of the same list.
+     * Costs {@code O(k)} for the {@code k} edits made since this revision.
+     */
+    public Optional<List<ListEdit<E>>> getEditsTo(ListRevision<E> later) {
+        requireNonNull(later);
+        List<ListEdit<E>> edits = new ArrayList<>();
+        ListRevision<E> revision = this;
+        while (revision != later) {
+            ListRevision<E> nextRevision = revision.next;
+            if (nextRevision == null) {
+                return Optional.empty();
+            }
+            edits.add(revision.edit);
+            revision = nextRevision;
+        }
+        return Optional.of(edits);
+    }
+}
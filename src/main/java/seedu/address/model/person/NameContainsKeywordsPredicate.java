@@ -1,24 +1,99 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword starting with {@code ~} matches words a few typos away from it, and a keyword containing {@code *}
+ * matches words with any characters in place of each {@code *} (see {@link NameKeyword}).
+ * Persons that match can be ranked by how closely they match, see {@link #score(Person)}.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+
+    /** The score a person gets when their full name is the keywords, which outranks every other match. */
+    public static final int FULL_NAME_SCORE = 1000;
+    /** How much more a keyword matching a word of a person's name counts than one matching a tag. */
+    public static final int NAME_WEIGHT = 3;
+    public static final int TAG_WEIGHT = 1;
+
     private final List<String> keywords;
+    private final List<NameKeyword> nameKeywords;
 
+    /**
+     * Creates a predicate that matches the persons whose name matches any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.nameKeywords = keywords.stream().map(NameKeyword::of).collect(Collectors.toList());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        String fullName = person.getName().fullName;
+        for (int i = 0; i < keywords.size(); i++) {
+            NameKeyword nameKeyword = nameKeywords.get(i);
+            boolean isMatch = nameKeyword.getKind() == NameKeyword.Kind.EXACT
+                    ? StringUtil.containsWordIgnoreCase(fullName, keywords.get(i))
+                    : nameKeyword.matchesAnyWordOf(fullName);
+            if (isMatch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns how relevant {@code person} is to the keywords, the higher the more relevant, for ranking the persons
+     * that this predicate matches. Each keyword adds the score of how closely it matches the closest word of the
+     * person's name (an exact word, then a word it is a prefix of, then a similar word, see
+     * {@link NameKeyword#closenessTo(String)}) times {@link #NAME_WEIGHT}, and the same for the person's tags times
+     * {@link #TAG_WEIGHT}. Persons whose full name is exactly the keywords, in order, get {@link #FULL_NAME_SCORE} on
+     * top of that.
+     */
+    public int score(Person person) {
+        requireNonNull(person);
+        List<String> nameWords = NameKeyword.foldedWordsOf(person.getName().fullName);
+        List<String> tagWords = person.getTags().stream()
+                .map(tag -> NameKeyword.foldCase(tag.tagName))
+                .collect(Collectors.toList());
+
+        int score = isFullName(nameWords) ? FULL_NAME_SCORE : 0;
+        for (NameKeyword nameKeyword : nameKeywords) {
+            score += NAME_WEIGHT * closestScore(nameKeyword, nameWords)
+                    + TAG_WEIGHT * closestScore(nameKeyword, tagWords);
+        }
+        return score;
+    }
+
+    private boolean isFullName(List<String> nameWords) {
+        if (nameWords.size() != nameKeywords.size()) {
+            return false;
+        }
+        for (int i = 0; i < nameWords.size(); i++) {
+            NameKeyword nameKeyword = nameKeywords.get(i);
+            if (nameKeyword.getKind() != NameKeyword.Kind.EXACT || !nameKeyword.getWord().equals(nameWords.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int closestScore(NameKeyword nameKeyword, List<String> words) {
+        int closestScore = 0;
+        for (String word : words) {
+            closestScore = Math.max(closestScore, nameKeyword.closenessTo(word).getScore());
+        }
+        return closestScore;
     }
 
     @Override
@@ -0,0 +1,274 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A keyword that the words of persons' names are matched against. A keyword is one of
+ * <ul>
+ *     <li>a fuzzy keyword, {@code ~} followed by a word, e.g. {@code ~alcie}, which matches the words that are at most
+ *     {@link #maxEditsFor(int)} edits away from it, where an edit inserts, deletes or replaces a character, or swaps
+ *     two adjacent characters;</li>
+ *     <li>a pattern, a word containing {@code *}, e.g. {@code *lic*}, which matches the words that are the same as it
+ *     with each {@code *} replaced by any characters, including none;</li>
+ *     <li>an exact keyword, any other word, which matches only itself.</li>
+ * </ul>
+ * Words are compared case-insensitively, in the same way as {@code String#equalsIgnoreCase(String)}.
+ * Guarantees: immutable.
+ */
+class NameKeyword {
+
+    static final char FUZZY_PREFIX = '~';
+    static final char WILDCARD = '*';
+
+    private static final Pattern WORD_SEPARATOR_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern FUZZY_PATTERN = Pattern.compile("~\\p{Alnum}+");
+    private static final Pattern WILDCARD_PATTERN = Pattern.compile("[\\p{Alnum}*]*\\p{Alnum}[\\p{Alnum}*]*");
+
+    /**
+     * The kinds of keyword, as described in {@link NameKeyword}.
+     */
+    enum Kind {
+        EXACT, FUZZY, PATTERN
+    }
+
+    /**
+     * How closely a word matches a keyword, from not at all to exactly, with the score each is worth when ranking.
+     */
+    enum Closeness {
+        NONE(0), SIMILAR(1), PREFIX(2), EXACT(4);
+
+        private final int score;
+
+        Closeness(int score) {
+            this.score = score;
+        }
+
+        int getScore() {
+            return score;
+        }
+    }
+
+    private final Kind kind;
+    private final String word;
+    private final int maxEdits;
+
+    private NameKeyword(Kind kind, String word) {
+        this.kind = kind;
+        this.word = word;
+        this.maxEdits = kind == Kind.FUZZY ? maxEditsFor(word.length()) : 0;
+    }
+
+    /**
+     * Returns the keyword written as {@code keyword}. A {@code keyword} that starts with {@code ~} or contains
+     * {@code *}, but is not made up of letters and digits apart from those, is an exact keyword.
+     */
+    static NameKeyword of(String keyword) {
+        requireNonNull(keyword);
+        String trimmedKeyword = keyword.trim();
+        if (FUZZY_PATTERN.matcher(trimmedKeyword).matches()) {
+            return new NameKeyword(Kind.FUZZY, foldCase(trimmedKeyword.substring(1)));
+        }
+        if (trimmedKeyword.indexOf(WILDCARD) >= 0 && WILDCARD_PATTERN.matcher(trimmedKeyword).matches()) {
+            return new NameKeyword(Kind.PATTERN, foldCase(trimmedKeyword));
+        }
+        return new NameKeyword(Kind.EXACT, foldCase(trimmedKeyword));
+    }
+
+    /**
+     * Returns the number of edits a word may be away from a fuzzy keyword of {@code length} characters: none for
+     * one or two characters, one for three to five characters, and two for longer keywords.
+     */
+    static int maxEditsFor(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the case-folded word of this keyword, without the {@code ~} of a fuzzy keyword.
+     */
+    String getWord() {
+        return word;
+    }
+
+    /**
+     * Returns the number of edits a matching word may be away from {@link #getWord()}, which is 0 unless this is a
+     * fuzzy keyword.
+     */
+    int getMaxEdits() {
+        return maxEdits;
+    }
+
+    /**
+     * Returns true if the case-folded word {@code foldedWord} matches this keyword.
+     */
+    boolean matchesFolded(String foldedWord) {
+        switch (kind) {
+        case FUZZY:
+            return isWithinEdits(word, foldedWord, maxEdits);
+        case PATTERN:
+            return matchesPattern(word, foldedWord);
+        default:
+            return word.equals(foldedWord);
+        }
+    }
+
+    /**
+     * Returns how closely the case-folded word {@code foldedWord} matches this keyword: exactly if it is the word of
+     * this keyword, as a prefix if it starts with the word of this keyword (for a pattern, the part before the first
+     * {@code *}), or as a similar word if it matches this keyword otherwise.
+     * A word may thus match an exact keyword as a prefix without {@link #matchesFolded(String) matching} it.
+     */
+    Closeness closenessTo(String foldedWord) {
+        if (kind != Kind.PATTERN && foldedWord.equals(word)) {
+            return Closeness.EXACT;
+        }
+        String prefix = kind == Kind.PATTERN ? word.substring(0, word.indexOf(WILDCARD)) : word;
+        if (!prefix.isEmpty() && foldedWord.startsWith(prefix)) {
+            return Closeness.PREFIX;
+        }
+        return matchesFolded(foldedWord) ? Closeness.SIMILAR : Closeness.NONE;
+    }
+
+    /**
+     * Returns true if any word of {@code sentence}, which is separated from the others by whitespace, matches this
+     * keyword.
+     */
+    boolean matchesAnyWordOf(String sentence) {
+        requireNonNull(sentence);
+        return foldedWordsOf(sentence).stream().anyMatch(this::matchesFolded);
+    }
+
+    /**
+     * Returns the case-folded words of {@code sentence}, which are separated by whitespace, in order.
+     */
+    static List<String> foldedWordsOf(String sentence) {
+        List<String> words = new ArrayList<>();
+        for (String sentenceWord : WORD_SEPARATOR_PATTERN.split(sentence)) {
+            if (!sentenceWord.isEmpty()) {
+                words.add(foldCase(sentenceWord));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code target} is at most {@code maxEdits} edits away from {@code source}, where an edit
+     * inserts, deletes or replaces a character, or swaps two adjacent characters (the optimal string alignment
+     * distance). Only the cells of the distance table that are within {@code maxEdits} of its diagonal are computed,
+     * and the computation stops as soon as every path through a row is known to need more edits.
+     */
+    static boolean isWithinEdits(String source, String target, int maxEdits) {
+        int sourceLength = source.length();
+        int targetLength = target.length();
+        if (Math.abs(sourceLength - targetLength) > maxEdits) {
+            return false;
+        }
+        int outOfBounds = maxEdits + 1;
+        int[] beforePrevious = new int[targetLength + 1];
+        int[] previous = new int[targetLength + 1];
+        int[] current = new int[targetLength + 1];
+        for (int j = 0; j <= targetLength; j++) {
+            previous[j] = Math.min(j, outOfBounds);
+        }
+        for (int i = 1; i <= sourceLength; i++) {
+            int from = Math.max(1, i - maxEdits);
+            int to = Math.min(targetLength, i + maxEdits);
+            current[0] = Math.min(i, outOfBounds);
+            if (from > 1) {
+                current[from - 1] = outOfBounds;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                boolean isSameCharacter = source.charAt(i - 1) == target.charAt(j - 1);
+                int distance = Math.min(previous[j - 1] + (isSameCharacter ? 0 : 1),
+                        Math.min(previous[j], current[j - 1]) + 1);
+                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2)
+                        && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = Math.min(distance, outOfBounds);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < targetLength) {
+                current[to + 1] = outOfBounds;
+            }
+            if (rowMinimum > maxEdits) {
+                return false;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[targetLength] <= maxEdits;
+    }
+
+    /**
+     * Returns true if {@code target} is the same as {@code pattern} with each {@code *} replaced by any characters.
+     */
+    static boolean matchesPattern(String pattern, String target) {
+        int patternIndex = 0;
+        int targetIndex = 0;
+        int lastWildcardIndex = -1;
+        int targetIndexAtWildcard = 0;
+        while (targetIndex < target.length()) {
+            if (patternIndex < pattern.length() && pattern.charAt(patternIndex) == WILDCARD) {
+                lastWildcardIndex = patternIndex++;
+                targetIndexAtWildcard = targetIndex;
+            } else if (patternIndex < pattern.length() && pattern.charAt(patternIndex) == target.charAt(targetIndex)) {
+                patternIndex++;
+                targetIndex++;
+            } else if (lastWildcardIndex >= 0) {
+                // let the last wildcard take one more character, and try again from there
+                patternIndex = lastWildcardIndex + 1;
+                targetIndex = ++targetIndexAtWildcard;
+            } else {
+                return false;
+            }
+        }
+        while (patternIndex < pattern.length() && pattern.charAt(patternIndex) == WILDCARD) {
+            patternIndex++;
+        }
+        return patternIndex == pattern.length();
+    }
+
+    /**
+     * Returns {@code word} with each character mapped such that two words are equal after folding
+     * if and only if they are equal according to {@code String#equalsIgnoreCase(String)}.
+     */
+    static String foldCase(String word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return folded.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameKeyword // instanceof handles nulls
+                && kind == ((NameKeyword) other).kind
+                && word.equals(((NameKeyword) other).word));
+    }
+
+    @Override
+    public int hashCode() {
+        return kind.hashCode() * 31 + word.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.FUZZY ? FUZZY_PREFIX + word : word;
+    }
+}
@@ -0,0 +1,471 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the words of persons' names to the names containing them.
+ * Words are compared case-insensitively, in the same way as {@code String#equalsIgnoreCase(String)}.
+ *
+ * Besides exact words, names can be looked up by fuzzy keywords and patterns (see {@link NameKeyword}), through a
+ * second index from the trigrams (three consecutive characters) of each distinct word to the words containing them.
+ * A word is padded with {@code ^} and {@code $} before its trigrams are taken, so that the trigrams also tell where
+ * the word starts and ends. A pattern only matches the words that contain every trigram of its fixed parts, and a word
+ * that is {@code k} edits away from a fuzzy keyword still contains all but {@code 4k} of the keyword's trigrams, as an
+ * edit changes at most four trigrams. Only the words that pass these tests are compared to the keyword itself.
+ * A pattern whose fixed parts are too short to have trigrams is looked up by a fixed part of two characters, through
+ * the trigrams that start or end with it. Fuzzy keywords that are too short to have enough trigrams, and patterns
+ * without fixed parts of two characters, are compared to every word instead, after a quick test of the length of the
+ * word and the characters it contains.
+ */
+class NameTokenIndex {
+
+    /** The least number of removed words that are kept in the trigram index before it is rebuilt. */
+    static final int MIN_REMOVED_WORDS = 1024;
+
+    private static final Pattern WORD_SEPARATOR_PATTERN = Pattern.compile("\\s+");
+    private static final char WORD_START = '^';
+    private static final char WORD_END = '$';
+    private static final int INITIAL_WORD_CAPACITY = 16;
+
+    private final Map<String, WordPostings> postings = new HashMap<>();
+
+    // The distinct words are numbered in the order they were first added. The ids of removed words are not reused
+    // until the trigram index is rebuilt, so every list of ids in the trigram index is in ascending order.
+    private final Map<String, IdList> trigramPostings = new HashMap<>();
+    private String[] words = new String[INITIAL_WORD_CAPACITY];
+    private long[] characterMasks = new long[INITIAL_WORD_CAPACITY];
+    private int[] wordLengths = new int[INITIAL_WORD_CAPACITY];
+    private int wordIdCount = 0;
+    private int removedWordCount = 0;
+
+    private int modificationCount = 0;
+
+    /**
+     * Indexes every word of {@code name}.
+     */
+    void add(Name name) {
+        requireNonNull(name);
+        for (String token : tokenize(name)) {
+            postings.computeIfAbsent(token, this::addWord).names.add(name);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes every word of {@code name} from the index.
+     */
+    void remove(Name name) {
+        requireNonNull(name);
+        for (String token : tokenize(name)) {
+            WordPostings wordPostings = postings.get(token);
+            if (wordPostings != null && wordPostings.names.remove(name) && wordPostings.names.isEmpty()) {
+                postings.remove(token);
+                removeWord(wordPostings.id);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes all names from the index.
+     */
+    void clear() {
+        postings.clear();
+        trigramPostings.clear();
+        words = new String[INITIAL_WORD_CAPACITY];
+        characterMasks = new long[INITIAL_WORD_CAPACITY];
+        wordLengths = new int[INITIAL_WORD_CAPACITY];
+        wordIdCount = 0;
+        removedWordCount = 0;
+        modificationCount++;
+    }
+
+    /**
+     * Returns a predicate that tests if any word of a person's name matches any of {@code keywords}, which are
+     * read as described in {@link NameKeyword}, according to the current contents of this index.
+     * Only persons whose names have been added to this index are matched.
+     */
+    Predicate<Person> containsAnyOf(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> exactWords = new HashSet<>();
+        Set<NameKeyword> otherKeywords = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            NameKeyword nameKeyword = NameKeyword.of(keyword);
+            if (nameKeyword.getKind() == NameKeyword.Kind.EXACT) {
+                exactWords.add(nameKeyword.getWord());
+            } else {
+                otherKeywords.add(nameKeyword);
+            }
+        }
+        return otherKeywords.isEmpty()
+                ? person -> containsAnyExactWord(exactWords, person.getName())
+                : new KeywordsPredicate(exactWords, new ArrayList<>(otherKeywords));
+    }
+
+    /**
+     * Returns the names that contain a word matching {@code keyword}.
+     */
+    Set<Name> namesMatching(NameKeyword keyword) {
+        requireNonNull(keyword);
+        if (keyword.getKind() == NameKeyword.Kind.EXACT) {
+            WordPostings wordPostings = postings.get(keyword.getWord());
+            return wordPostings == null ? Collections.emptySet() : Collections.unmodifiableSet(wordPostings.names);
+        }
+
+        List<Set<Name>> matchingNameSets = new ArrayList<>();
+        forEachMatchingWord(keyword, id -> matchingNameSets.add(postings.get(words[id]).names));
+        int nameCount = matchingNameSets.stream().mapToInt(Set::size).sum();
+        Set<Name> names = new HashSet<>(Math.max(16, (int) (nameCount / 0.75f) + 1));
+        matchingNameSets.forEach(names::addAll);
+        return names;
+    }
+
+    private boolean containsAnyExactWord(Set<String> exactWords, Name name) {
+        for (String word : exactWords) {
+            WordPostings wordPostings = postings.get(word);
+            if (wordPostings != null && wordPostings.names.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calls {@code action} with the id of every word in the index that matches {@code keyword}, which is a fuzzy
+     * keyword or a pattern.
+     */
+    private void forEachMatchingWord(NameKeyword keyword, IntConsumer action) {
+        IntConsumer verifyingAction = id -> {
+            if (keyword.matchesFolded(words[id])) {
+                action.accept(id);
+            }
+        };
+        if (keyword.getKind() == NameKeyword.Kind.FUZZY) {
+            forEachFuzzyCandidate(keyword, verifyingAction);
+        } else {
+            forEachPatternCandidate(keyword, verifyingAction);
+        }
+    }
+
+    /**
+     * Calls {@code action} with the id of every word that may be within the edits allowed by the fuzzy
+     * {@code keyword}: those that share enough trigrams with it, or if it has too few trigrams to tell, those that
+     * lack at most as many of its characters as the edits allowed.
+     */
+    private void forEachFuzzyCandidate(NameKeyword keyword, IntConsumer action) {
+        String word = keyword.getWord();
+        int maxEdits = keyword.getMaxEdits();
+        long mask = characterMaskOf(word);
+        IntPredicate filter = id -> Math.abs(wordLengths[id] - word.length()) <= maxEdits
+                && Long.bitCount(mask & ~characterMasks[id]) <= maxEdits;
+
+        Set<String> trigrams = trigramsOf(WORD_START + word + WORD_END);
+        int minSharedTrigrams = trigrams.size() - 4 * maxEdits;
+        if (minSharedTrigrams <= 0) {
+            forEachWordWhere(filter, action);
+            return;
+        }
+
+        // counts how many of the keyword's trigrams each word contains, noting each word as soon as it has enough
+        int[] sharedTrigramCounts = new int[wordIdCount];
+        for (String trigram : trigrams) {
+            IdList ids = trigramPostings.get(trigram);
+            if (ids == null) {
+                continue;
+            }
+            for (int i = 0; i < ids.size; i++) {
+                int id = ids.ids[i];
+                if (++sharedTrigramCounts[id] == minSharedTrigrams && words[id] != null && filter.test(id)) {
+                    action.accept(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls {@code action} with the id of every word that may match the pattern {@code keyword}: those that contain
+     * every trigram of its fixed parts, or if its fixed parts are too short to have any, those that contain one of
+     * its fixed parts of two characters, or failing that, those that contain every character of its fixed parts.
+     */
+    private void forEachPatternCandidate(NameKeyword keyword, IntConsumer action) {
+        String pattern = WORD_START + keyword.getWord() + WORD_END;
+        Set<String> trigrams = new HashSet<>();
+        String twoCharacterPart = null;
+        for (String fixedPart : pattern.split(Pattern.quote(String.valueOf(NameKeyword.WILDCARD)))) {
+            trigrams.addAll(trigramsOf(fixedPart));
+            if (fixedPart.length() == 2) {
+                twoCharacterPart = fixedPart;
+            }
+        }
+
+        if (trigrams.isEmpty() && twoCharacterPart != null) {
+            forEachWordContaining(twoCharacterPart, action);
+            return;
+        }
+        if (trigrams.isEmpty()) {
+            long mask = characterMaskOf(keyword.getWord());
+            forEachWordWhere(id -> (mask & ~characterMasks[id]) == 0, action);
+            return;
+        }
+
+        List<IdList> idLists = new ArrayList<>();
+        for (String trigram : trigrams) {
+            IdList ids = trigramPostings.get(trigram);
+            if (ids == null) {
+                return;
+            }
+            idLists.add(ids);
+        }
+        idLists.sort(Comparator.comparingInt(ids -> ids.size));
+        IdList candidates = idLists.get(0);
+        for (int i = 1; i < idLists.size() && candidates.size > 0; i++) {
+            candidates = candidates.intersect(idLists.get(i));
+        }
+        for (int i = 0; i < candidates.size; i++) {
+            if (words[candidates.ids[i]] != null) {
+                action.accept(candidates.ids[i]);
+            }
+        }
+    }
+
+    /**
+     * Calls {@code action} with the id of every word in the index that contains {@code twoCharacters}, which may
+     * include the {@code ^} or {@code $} that the word is padded with. As every word is padded, the two characters
+     * are always followed by another one, or preceded by one if they end the word, so the words that contain them
+     * are those that contain a trigram starting, or ending, with them.
+     */
+    private void forEachWordContaining(String twoCharacters, IntConsumer action) {
+        boolean isAtEnd = twoCharacters.charAt(1) == WORD_END;
+        BitSet visitedIds = new BitSet(wordIdCount);
+        trigramPostings.forEach((trigram, ids) -> {
+            if (isAtEnd ? !trigram.endsWith(twoCharacters) : !trigram.startsWith(twoCharacters)) {
+                return;
+            }
+            for (int i = 0; i < ids.size; i++) {
+                int id = ids.ids[i];
+                if (!visitedIds.get(id) && words[id] != null) {
+                    visitedIds.set(id);
+                    action.accept(id);
+                }
+            }
+        });
+    }
+
+    /**
+     * Calls {@code action} with the id of every word in the index for which {@code filter} holds. The filter should
+     * only read the arrays of word properties, which are laid out one after the other, so that every word can be
+     * tested quickly.
+     */
+    private void forEachWordWhere(IntPredicate filter, IntConsumer action) {
+        for (int id = 0; id < wordIdCount; id++) {
+            if (filter.test(id) && words[id] != null) {
+                action.accept(id);
+            }
+        }
+    }
+
+    private WordPostings addWord(String word) {
+        return new WordPostings(numberWord(word));
+    }
+
+    /**
+     * Numbers {@code word}, which is not in the trigram index, and adds its trigrams to the trigram index.
+     */
+    private int numberWord(String word) {
+        if (wordIdCount == words.length) {
+            words = Arrays.copyOf(words, wordIdCount * 2);
+            characterMasks = Arrays.copyOf(characterMasks, wordIdCount * 2);
+            wordLengths = Arrays.copyOf(wordLengths, wordIdCount * 2);
+        }
+        int id = wordIdCount++;
+        words[id] = word;
+        characterMasks[id] = characterMaskOf(word);
+        wordLengths[id] = word.length();
+        for (String trigram : trigramsOf(WORD_START + word + WORD_END)) {
+            trigramPostings.computeIfAbsent(trigram, unused -> new IdList()).add(id);
+        }
+        return id;
+    }
+
+    /**
+     * Marks the word numbered {@code id} as removed. Its id stays in the trigram index until so many words have been
+     * removed that rebuilding the trigram index costs less than skipping them.
+     */
+    private void removeWord(int id) {
+        words[id] = null;
+        removedWordCount++;
+        if (removedWordCount > Math.max(MIN_REMOVED_WORDS, postings.size())) {
+            rebuildTrigramIndex();
+        }
+    }
+
+    /**
+     * Renumbers the words in the index, keeping their order, and rebuilds the trigram index from them.
+     */
+    private void rebuildTrigramIndex() {
+        String[] oldWords = words;
+        int oldWordIdCount = wordIdCount;
+        trigramPostings.clear();
+        words = new String[Math.max(INITIAL_WORD_CAPACITY, postings.size() * 2)];
+        characterMasks = new long[words.length];
+        wordLengths = new int[words.length];
+        wordIdCount = 0;
+        removedWordCount = 0;
+        for (int oldId = 0; oldId < oldWordIdCount; oldId++) {
+            if (oldWords[oldId] != null) {
+                postings.get(oldWords[oldId]).id = numberWord(oldWords[oldId]);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}, none if it is shorter than three characters.
+     */
+    private static Set<String> trigramsOf(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns a mask with a bit set for each distinct letter or digit in {@code word}, and one bit shared by all other
+     * characters.
+     */
+    private static long characterMaskOf(String word) {
+        long mask = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                mask |= 1L << (c - 'a');
+            } else if (c >= '0' && c <= '9') {
+                mask |= 1L << (26 + c - '0');
+            } else if (c != NameKeyword.WILDCARD) {
+                mask |= 1L << 63;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the distinct case-folded words of {@code name}.
+     */
+    private static Set<String> tokenize(Name name) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : WORD_SEPARATOR_PATTERN.split(name.fullName)) {
+            if (!word.isEmpty()) {
+                tokens.add(NameKeyword.foldCase(word));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * The names that contain a word, and the id of that word.
+     */
+    private static class WordPostings {
+        private final Set<Name> names = new HashSet<>();
+        private int id;
+
+        WordPostings(int id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * A growable list of word ids in ascending order.
+     */
+    private static class IdList {
+        private int[] ids = new int[4];
+        private int size = 0;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Returns the ids that are in both this list and {@code other}, which should not be shorter than this list.
+         * Each id of this list is looked up in the rest of {@code other} by galloping, so that a short list is
+         * intersected with a long one in time proportional to the length of the short one, times a logarithm.
+         */
+        IdList intersect(IdList other) {
+            IdList common = new IdList();
+            int from = 0;
+            for (int i = 0; i < size && from < other.size; i++) {
+                int step = 1;
+                int to = from;
+                while (to < other.size && other.ids[to] < ids[i]) {
+                    from = to + 1;
+                    to += step;
+                    step *= 2;
+                }
+                int found = Arrays.binarySearch(other.ids, from, Math.min(to + 1, other.size), ids[i]);
+                if (found >= 0) {
+                    common.add(ids[i]);
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return common;
+        }
+    }
+
+    /**
+     * Tests if a person's name contains any of some exact words, or any word matching some fuzzy keywords or
+     * patterns. The names matching the latter are looked up again whenever the index has changed since they were
+     * last looked up, so that the predicate always reflects the current contents of the index.
+     */
+    private class KeywordsPredicate implements Predicate<Person> {
+        private final Set<String> exactWords;
+        private final List<NameKeyword> otherKeywords;
+        private List<Set<Name>> namesMatchingOtherKeywords;
+        private int lookedUpAt;
+
+        KeywordsPredicate(Set<String> exactWords, List<NameKeyword> otherKeywords) {
+            this.exactWords = exactWords;
+            this.otherKeywords = otherKeywords;
+            this.lookedUpAt = modificationCount - 1;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (containsAnyExactWord(exactWords, person.getName())) {
+                return true;
+            }
+            if (lookedUpAt != modificationCount) {
+                namesMatchingOtherKeywords = otherKeywords.stream()
+                        .map(NameTokenIndex.this::namesMatching)
+                        .collect(Collectors.toList());
+                lookedUpAt = modificationCount;
+            }
+            for (Set<Name> names : namesMatchingOtherKeywords) {
+                if (names.contains(person.getName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An immutable list that is changed by creating a new version of it, which shares all but {@code O(log n)} of its
+ * nodes with the version it was created from (see {@link #withAdded(int, Object)} and similar methods). A version can
+ * therefore be kept, e.g. as a snapshot that other threads read, at no extra cost.
+ * The elements are stored in a balanced binary tree ordered by position, so getting, adding, replacing or removing
+ * an element, and adding or removing a range of elements, costs {@code O(log n)}, and iterating costs {@code O(1)}
+ * per element.
+ * Guarantees: immutable, so it may be shared between threads; listeners are never notified, as it never changes.
+ */
+class PersistentList<E> extends ObservableListBase<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in the same order.
+     */
+    static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        return new PersistentList<>(Node.build(elements.toArray(), 0, elements.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return Node.size(root);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    /**
+     * Returns a new version of this list with {@code element} added at {@code index}.
+     */
+    PersistentList<E> withAdded(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        Node<E>[] halves = Node.split(root, index);
+        return new PersistentList<>(Node.join(halves[0], element, halves[1]));
+    }
+
+    /**
+     * Returns a new version of this list with the elements of {@code elements} added at {@code index}, in order.
+     */
+    PersistentList<E> withAllAdded(int index, Collection<? extends E> elements) {
+        Objects.checkIndex(index, size() + 1);
+        if (elements.isEmpty()) {
+            return this;
+        }
+        Node<E> added = Node.build(elements.toArray(), 0, elements.size());
+        if (root == null) {
+            return new PersistentList<>(added);
+        }
+        Node<E>[] halves = Node.split(root, index);
+        return new PersistentList<>(Node.concat(Node.concat(halves[0], added), halves[1]));
+    }
+
+    /**
+     * Returns a new version of this list with the element at {@code index} replaced by {@code element}.
+     */
+    PersistentList<E> withSet(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(Node.set(root, index, element));
+    }
+
+    /**
+     * Returns a new version of this list without the element at {@code index}.
+     */
+    PersistentList<E> withRemoved(int index) {
+        return withRangeRemoved(index, index + 1);
+    }
+
+    /**
+     * Returns a new version of this list without the elements from {@code fromIndex}, inclusive, to {@code toIndex},
+     * exclusive.
+     */
+    PersistentList<E> withRangeRemoved(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        if (fromIndex == toIndex) {
+            return this;
+        }
+        Node<E>[] head = Node.split(root, fromIndex);
+        Node<E>[] tail = Node.split(head[1], toIndex - fromIndex);
+        return new PersistentList<>(Node.concat(head[0], tail[1]));
+    }
+
+    /**
+     * Returns the height of the tree the elements are stored in, which is {@code O(log n)}.
+     */
+    int height() {
+        return Node.height(root);
+    }
+
+    /**
+     * A node of an AVL tree ordered by position, which knows the size of its subtree. Nodes are never changed once
+     * created; changing a tree creates new nodes along the path to the change and shares the rest.
+     * All the operations are built on {@link #join(Node, Object, Node)} and {@link #split(Node, int)}.
+     */
+    private static class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(Node<E> left, E value, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        /**
+         * Returns a balanced tree of {@code elements[from]} to {@code elements[to - 1]}.
+         */
+        @SuppressWarnings("unchecked")
+        static <E> Node<E> build(Object[] elements, int from, int to) {
+            if (from == to) {
+                return null;
+            }
+            int middle = (from + to) >>> 1;
+            return new Node<>(build(elements, from, middle), (E) elements[middle], build(elements, middle + 1, to));
+        }
+
+        static <E> Node<E> set(Node<E> node, int index, E element) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return new Node<>(set(node.left, index, element), node.value, node.right);
+            } else if (index == leftSize) {
+                return new Node<>(node.left, element, node.right);
+            } else {
+                return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, element));
+            }
+        }
+
+        /**
+         * Returns a balanced tree of the elements of {@code left}, then {@code value}, then the elements of
+         * {@code right}, in {@code O(|height(left) - height(right)|)}.
+         */
+        static <E> Node<E> join(Node<E> left, E value, Node<E> right) {
+            if (height(left) > height(right) + 1) {
+                return joinRight(left, value, right);
+            }
+            if (height(right) > height(left) + 1) {
+                return joinLeft(left, value, right);
+            }
+            return new Node<>(left, value, right);
+        }
+
+        /**
+         * Joins {@code right} to {@code left}, which is taller, by going down the right spine of {@code left}.
+         */
+        private static <E> Node<E> joinRight(Node<E> left, E value, Node<E> right) {
+            if (height(left.right) <= height(right) + 1) {
+                Node<E> joined = new Node<>(left.right, value, right);
+                if (height(joined) <= height(left.left) + 1) {
+                    return new Node<>(left.left, left.value, joined);
+                }
+                return rotateLeft(new Node<>(left.left, left.value, rotateRight(joined)));
+            }
+            Node<E> joined = joinRight(left.right, value, right);
+            Node<E> node = new Node<>(left.left, left.value, joined);
+            return height(joined) <= height(left.left) + 1 ? node : rotateLeft(node);
+        }
+
+        /**
+         * Joins {@code left} to {@code right}, which is taller, by going down the left spine of {@code right}.
+         */
+        private static <E> Node<E> joinLeft(Node<E> left, E value, Node<E> right) {
+            if (height(right.left) <= height(left) + 1) {
+                Node<E> joined = new Node<>(left, value, right.left);
+                if (height(joined) <= height(right.right) + 1) {
+                    return new Node<>(joined, right.value, right.right);
+                }
+                return rotateRight(new Node<>(rotateLeft(joined), right.value, right.right));
+            }
+            Node<E> joined = joinLeft(left, value, right.left);
+            Node<E> node = new Node<>(joined, right.value, right.right);
+            return height(joined) <= height(right.right) + 1 ? node : rotateRight(node);
+        }
+
+        private static <E> Node<E> rotateLeft(Node<E> node) {
+            Node<E> right = node.right;
+            return new Node<>(new Node<>(node.left, node.value, right.left), right.value, right.right);
+        }
+
+        private static <E> Node<E> rotateRight(Node<E> node) {
+            Node<E> left = node.left;
+            return new Node<>(left.left, left.value, new Node<>(left.right, node.value, node.right));
+        }
+
+        /**
+         * Returns the trees of the first {@code index} elements of {@code node}, and of the rest.
+         */
+        @SuppressWarnings("unchecked")
+        static <E> Node<E>[] split(Node<E> node, int index) {
+            if (node == null) {
+                return (Node<E>[]) new Node<?>[] {null, null};
+            }
+            int leftSize = size(node.left);
+            if (index <= leftSize) {
+                Node<E>[] halves = split(node.left, index);
+                halves[1] = join(halves[1], node.value, node.right);
+                return halves;
+            }
+            Node<E>[] halves = split(node.right, index - leftSize - 1);
+            halves[0] = join(node.left, node.value, halves[0]);
+            return halves;
+        }
+
+        /**
+         * Returns a balanced tree of the elements of {@code left}, then those of {@code right}.
+         */
+        static <E> Node<E> concat(Node<E> left, Node<E> right) {
+            if (left == null) {
+                return right;
+            }
+            if (right == null) {
+                return left;
+            }
+            Node<E>[] rest = split(right, 1);
+            return join(left, rest[0].value, rest[1]);
+        }
+    }
+
+    /**
+     * Iterates over a tree in order, keeping the nodes whose left subtrees are being visited on a stack.
+     */
+    private static class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * A change to a single person in a list of persons, to be made together with others as a batch
+ * (see {@link UniquePersonList#applyBatch(java.util.List)}).
+ * Guarantees: immutable.
+ */
+public class PersonMutation {
+
+    /** The kinds of change a mutation can make. */
+    enum Kind {
+        ADD, SET, REMOVE
+    }
+
+    /** The index of a person that is added at the end of the list. */
+    private static final int END_OF_LIST = -1;
+
+    private final Kind kind;
+    private final Person target;
+    private final Person person;
+    private final int index;
+
+    private PersonMutation(Kind kind, Person target, Person person, int index) {
+        this.kind = kind;
+        this.target = target;
+        this.person = person;
+        this.index = index;
+    }
+
+    /**
+     * Returns a mutation that adds {@code person} at the end of the list.
+     */
+    public static PersonMutation add(Person person) {
+        requireNonNull(person);
+        return new PersonMutation(Kind.ADD, null, person, END_OF_LIST);
+    }
+
+    /**
+     * Returns a mutation that adds {@code person} at {@code index} in the list.
+     */
+    public static PersonMutation add(int index, Person person) {
+        requireNonNull(person);
+        checkArgument(index >= 0, "Index cannot be negative");
+        return new PersonMutation(Kind.ADD, null, person, index);
+    }
+
+    /**
+     * Returns a mutation that replaces {@code target} with {@code editedPerson}.
+     */
+    public static PersonMutation set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new PersonMutation(Kind.SET, target, editedPerson, END_OF_LIST);
+    }
+
+    /**
+     * Returns a mutation that removes {@code target}.
+     */
+    public static PersonMutation remove(Person target) {
+        requireNonNull(target);
+        return new PersonMutation(Kind.REMOVE, target, null, END_OF_LIST);
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the person replaced or removed by this mutation, or null if it adds a person.
+     */
+    Person getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person added or put in place of the target by this mutation, or null if it removes a person.
+     */
+    Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns true if this mutation adds a person at a given index, rather than at the end of the list.
+     */
+    boolean hasIndex() {
+        return index != END_OF_LIST;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonMutation // instanceof handles nulls
+                && kind == ((PersonMutation) other).kind
+                && Objects.equals(target, ((PersonMutation) other).target)
+                && Objects.equals(person, ((PersonMutation) other).person)
+                && index == ((PersonMutation) other).index);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, target, person, index);
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+        case ADD:
+            return "add " + person + (hasIndex() ? " at " + index : "");
+        case SET:
+            return "set " + target + " to " + person;
+        default:
+            return "remove " + target;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index from the persons in a list to their positions (slots) in that list.
+ * Persons are immutable, so each person instance serves as its own stable id: two equal persons are still told apart,
+ * and no id has to be stored in the person itself.
+ *
+ * Inserting or removing a person in the middle of the list shifts the slots of every person after it. Instead of
+ * updating all of them, the shift is logged and applied lazily to the slot of a person when it is looked up. The log
+ * holds a few times the square root of the size of the list, so looking up a slot takes that many steps at most,
+ * wherever the person is in the list. Once the log is full, all slots are recomputed in one pass over the list, whose
+ * cost is thereby shared by as many changes. Adding or removing the last person shifts no slots and is never logged.
+ */
+class PersonSlotIndex {
+
+    /** The least number of shifts that are logged before all slots are recomputed, however small the list. */
+    static final int MIN_PENDING_SHIFTS = 64;
+
+    /**
+     * Applying a logged shift is far cheaper than recomputing a slot, so the log holds a multiple of the square root
+     * of the size of the list.
+     */
+    private static final int PENDING_SHIFTS_PER_ROOT = 8;
+
+    private final List<Person> persons;
+    private final Map<Person, Slot> slots = new IdentityHashMap<>();
+
+    // A logged shift at position p is stored as p + 1 for an insertion and -(p + 1) for a removal
+    private int[] pendingShifts = new int[MIN_PENDING_SHIFTS];
+    private int pendingShiftCount = 0;
+
+    /**
+     * Creates an index of the slots of the persons in {@code persons}. The index must be told about every change made
+     * to {@code persons} afterwards, right after the change is made.
+     */
+    PersonSlotIndex(List<Person> persons) {
+        this.persons = requireNonNull(persons);
+        reindex();
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if that very instance is not in the list.
+     */
+    int slotOf(Person person) {
+        Slot slot = slots.get(person);
+        if (slot == null) {
+            return -1;
+        }
+
+        for (int i = slot.shiftsApplied; i < pendingShiftCount; i++) {
+            int shift = pendingShifts[i];
+            if (shift > 0 && slot.position >= shift - 1) {
+                slot.position++;
+            } else if (shift < 0 && slot.position > -shift - 1) {
+                slot.position--;
+            }
+        }
+        slot.shiftsApplied = pendingShiftCount;
+        return slot.position;
+    }
+
+    /**
+     * Records that {@code person} has been inserted into the list at {@code position}.
+     */
+    void inserted(int position, Person person) {
+        boolean isLast = position == persons.size() - 1;
+        if (!isLast) {
+            logShift(position + 1);
+        }
+        slots.put(person, new Slot(position, pendingShiftCount));
+        renumberIfLogFull();
+    }
+
+    /**
+     * Records that persons have been appended to the list, from {@code fromPosition} to the end of the list.
+     * Appending shifts no slots, so nothing is logged.
+     */
+    void appended(int fromPosition) {
+        for (int i = fromPosition; i < persons.size(); i++) {
+            slots.put(persons.get(i), new Slot(i, pendingShiftCount));
+        }
+    }
+
+    /**
+     * Records that {@code person} has been removed from {@code position} in the list.
+     */
+    void removed(int position, Person person) {
+        slots.remove(person);
+        boolean wasLast = position == persons.size();
+        if (!wasLast) {
+            logShift(-(position + 1));
+        }
+        renumberIfLogFull();
+    }
+
+    /**
+     * Records that {@code count} persons have been inserted into the list from {@code fromPosition} as a block.
+     * Unless they were appended, every slot is recomputed, which costs a single pass over the list however many
+     * persons were inserted.
+     */
+    void insertedAll(int fromPosition, int count) {
+        if (fromPosition + count == persons.size()) {
+            appended(fromPosition);
+            return;
+        }
+        for (int i = fromPosition; i < fromPosition + count; i++) {
+            slots.put(persons.get(i), new Slot(i, pendingShiftCount));
+        }
+        renumber();
+    }
+
+    /**
+     * Records that {@code removedPersons} have all been removed from the list, wherever they were.
+     * Every slot is recomputed, which costs a single pass over the list however many persons were removed.
+     */
+    void removedAll(Collection<Person> removedPersons) {
+        removedPersons.forEach(slots::remove);
+        renumber();
+    }
+
+    /**
+     * Records that {@code oldPerson} at {@code position} in the list has been replaced by {@code newPerson}.
+     */
+    void replaced(int position, Person oldPerson, Person newPerson) {
+        slots.remove(oldPerson);
+        slots.put(newPerson, new Slot(position, pendingShiftCount));
+    }
+
+    /**
+     * Recomputes the slots of all persons in the list, e.g. after the whole list has been replaced.
+     */
+    void reindex() {
+        slots.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            slots.put(persons.get(i), new Slot(i, 0));
+        }
+        resizeLog();
+    }
+
+    /**
+     * Recomputes the slots of the persons already indexed, once all logged shifts have been made.
+     */
+    private void renumber() {
+        for (int i = 0; i < persons.size(); i++) {
+            Slot slot = slots.get(persons.get(i));
+            slot.position = i;
+            slot.shiftsApplied = 0;
+        }
+        resizeLog();
+    }
+
+    private void resizeLog() {
+        pendingShiftCount = 0;
+        int maxPendingShifts = Math.max(MIN_PENDING_SHIFTS,
+                PENDING_SHIFTS_PER_ROOT * (int) Math.sqrt(persons.size()));
+        if (pendingShifts.length != maxPendingShifts) {
+            pendingShifts = new int[maxPendingShifts];
+        }
+    }
+
+    private void logShift(int shift) {
+        pendingShifts[pendingShiftCount++] = shift;
+    }
+
+    private void renumberIfLogFull() {
+        if (pendingShiftCount == pendingShifts.length) {
+            renumber();
+        }
+    }
+
+    /**
+     * The position of a person in the list after the first {@code shiftsApplied} logged shifts.
+     */
+    private static class Slot {
+        private int position;
+        private int shiftsApplied;
+
+        Slot(int position, int shiftsApplied) {
+            this.position = position;
+            this.shiftsApplied = shiftsApplied;
+        }
+    }
+}
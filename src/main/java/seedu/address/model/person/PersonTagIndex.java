@@ -0,0 +1,146 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from tags to the persons that have them, kept as one {@code SlotBitmap} per tag.
+ * Every person in the index is given a slot number that stays the same while the person is in the index, however
+ * other persons are added or removed, so the bitmaps never have to be shifted. Slots of removed persons are reused.
+ * Like {@code PersonSlotIndex}, persons are told apart by instance, as persons are immutable.
+ */
+class PersonTagIndex {
+
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private final Map<Tag, SlotBitmap> slotsByTag = new HashMap<>();
+    private SlotBitmap occupiedSlots = new SlotBitmap();
+
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount = 0;
+    private int nextUnusedSlot = 0;
+
+    // Incremented on every change, so that predicates know when their cached results are out of date
+    private int modificationCount = 0;
+
+    /**
+     * Indexes every tag of {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextUnusedSlot++;
+        slots.put(person, slot);
+        occupiedSlots.set(slot);
+        for (Tag tag : person.getTags()) {
+            slotsByTag.computeIfAbsent(tag, unused -> new SlotBitmap()).set(slot);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code person} from the index. Does nothing if that very instance is not in the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+
+        occupiedSlots.clear(slot);
+        for (Tag tag : person.getTags()) {
+            SlotBitmap tagSlots = slotsByTag.get(tag);
+            tagSlots.clear(slot);
+            if (tagSlots.isEmpty()) {
+                slotsByTag.remove(tag);
+            }
+        }
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+        modificationCount++;
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        slots.clear();
+        slotsByTag.clear();
+        occupiedSlots = new SlotBitmap();
+        freeSlotCount = 0;
+        nextUnusedSlot = 0;
+        modificationCount++;
+    }
+
+    /**
+     * Returns a predicate that tests if a person's tags satisfy {@code predicate}, according to the current contents
+     * of this index. The clauses of {@code predicate} are evaluated by combining the bitmaps of their tags, once for
+     * all persons in the index, and again only after the index has changed.
+     * Persons that are not in the index are tested against {@code predicate} directly.
+     */
+    Predicate<Person> matches(TagsMatchPredicate predicate) {
+        requireNonNull(predicate);
+        return new Predicate<>() {
+            private SlotBitmap matchingSlots;
+            private int evaluatedAtModificationCount;
+
+            @Override
+            public boolean test(Person person) {
+                Integer slot = slots.get(person);
+                if (slot == null) {
+                    return predicate.test(person);
+                }
+
+                if (matchingSlots == null || evaluatedAtModificationCount != modificationCount) {
+                    matchingSlots = evaluate(predicate);
+                    evaluatedAtModificationCount = modificationCount;
+                }
+                return matchingSlots.get(slot);
+            }
+        };
+    }
+
+    /**
+     * Returns the slots of the persons in the index whose tags satisfy every clause of {@code predicate}.
+     */
+    SlotBitmap evaluate(TagsMatchPredicate predicate) {
+        SlotBitmap matchingSlots = occupiedSlots.copy();
+        for (TagsMatchPredicate.Clause clause : predicate.getClauses()) {
+            if (matchingSlots.isEmpty()) {
+                break;
+            }
+            matchingSlots.and(evaluate(clause));
+        }
+        return matchingSlots;
+    }
+
+    /**
+     * Returns the slots of the persons in the index whose tags satisfy {@code clause}.
+     */
+    private SlotBitmap evaluate(TagsMatchPredicate.Clause clause) {
+        SlotBitmap clauseSlots = new SlotBitmap();
+        for (Tag tag : clause.getIncludedTags()) {
+            SlotBitmap tagSlots = slotsByTag.get(tag);
+            if (tagSlots != null) {
+                clauseSlots.or(tagSlots);
+            }
+        }
+        for (Tag tag : clause.getExcludedTags()) {
+            SlotBitmap slotsWithoutTag = occupiedSlots.copy();
+            SlotBitmap tagSlots = slotsByTag.get(tag);
+            if (tagSlots != null) {
+                slotsWithoutTag.andNot(tagSlots);
+            }
+            clauseSlots.or(slotsWithoutTag);
+        }
+        return clauseSlots;
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+
+/**
+ * A growable set of non-negative slot numbers, stored as a bitmap split into fixed-size blocks.
+ * Blocks without any slot in them are not allocated at all, so a bitmap of a few slots spread over a large range
+ * stays small, and combining two bitmaps skips every block that is empty in either of them.
+ */
+class SlotBitmap {
+
+    private static final int WORDS_PER_BLOCK = 64;
+    private static final int SLOTS_PER_BLOCK = WORDS_PER_BLOCK * Long.SIZE;
+
+    // A null block has no slots in it; a non-null block has at least one slot in it
+    private long[][] blocks = new long[0][];
+    private int[] blockCardinalities = new int[0];
+    private int cardinality = 0;
+
+    SlotBitmap() {}
+
+    private SlotBitmap(SlotBitmap toBeCopied) {
+        blocks = new long[toBeCopied.blocks.length][];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = toBeCopied.blocks[i] == null ? null : toBeCopied.blocks[i].clone();
+        }
+        blockCardinalities = toBeCopied.blockCardinalities.clone();
+        cardinality = toBeCopied.cardinality;
+    }
+
+    /**
+     * Returns a copy of this bitmap that can be modified independently of it.
+     */
+    SlotBitmap copy() {
+        return new SlotBitmap(this);
+    }
+
+    /**
+     * Returns true if {@code slot} is in this bitmap.
+     */
+    boolean get(int slot) {
+        int blockIndex = slot / SLOTS_PER_BLOCK;
+        if (blockIndex >= blocks.length || blocks[blockIndex] == null) {
+            return false;
+        }
+        return (blocks[blockIndex][wordIndex(slot)] & bitMask(slot)) != 0;
+    }
+
+    /**
+     * Adds {@code slot} to this bitmap.
+     */
+    void set(int slot) {
+        int blockIndex = slot / SLOTS_PER_BLOCK;
+        if (blockIndex >= blocks.length) {
+            int newLength = Math.max(blockIndex + 1, blocks.length * 2);
+            blocks = Arrays.copyOf(blocks, newLength);
+            blockCardinalities = Arrays.copyOf(blockCardinalities, newLength);
+        }
+        if (blocks[blockIndex] == null) {
+            blocks[blockIndex] = new long[WORDS_PER_BLOCK];
+        }
+
+        long[] block = blocks[blockIndex];
+        int wordIndex = wordIndex(slot);
+        if ((block[wordIndex] & bitMask(slot)) == 0) {
+            block[wordIndex] |= bitMask(slot);
+            blockCardinalities[blockIndex]++;
+            cardinality++;
+        }
+    }
+
+    /**
+     * Removes {@code slot} from this bitmap.
+     */
+    void clear(int slot) {
+        if (!get(slot)) {
+            return;
+        }
+        int blockIndex = slot / SLOTS_PER_BLOCK;
+        blocks[blockIndex][wordIndex(slot)] &= ~bitMask(slot);
+        cardinality--;
+        if (--blockCardinalities[blockIndex] == 0) {
+            blocks[blockIndex] = null;
+        }
+    }
+
+    /**
+     * Returns the number of slots in this bitmap.
+     */
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Keeps only the slots of this bitmap that are also in {@code other}.
+     */
+    void and(SlotBitmap other) {
+        for (int i = 0; i < blocks.length; i++) {
+            if (blocks[i] == null) {
+                continue;
+            }
+            if (i >= other.blocks.length || other.blocks[i] == null) {
+                removeBlock(i);
+                continue;
+            }
+            for (int w = 0; w < WORDS_PER_BLOCK; w++) {
+                blocks[i][w] &= other.blocks[i][w];
+            }
+            recount(i);
+        }
+    }
+
+    /**
+     * Adds all slots of {@code other} to this bitmap.
+     */
+    void or(SlotBitmap other) {
+        if (other.blocks.length > blocks.length) {
+            blocks = Arrays.copyOf(blocks, other.blocks.length);
+            blockCardinalities = Arrays.copyOf(blockCardinalities, other.blocks.length);
+        }
+        for (int i = 0; i < other.blocks.length; i++) {
+            if (other.blocks[i] == null) {
+                continue;
+            }
+            if (blocks[i] == null) {
+                blocks[i] = other.blocks[i].clone();
+                blockCardinalities[i] = other.blockCardinalities[i];
+                cardinality += blockCardinalities[i];
+                continue;
+            }
+            for (int w = 0; w < WORDS_PER_BLOCK; w++) {
+                blocks[i][w] |= other.blocks[i][w];
+            }
+            recount(i);
+        }
+    }
+
+    /**
+     * Removes all slots of {@code other} from this bitmap.
+     */
+    void andNot(SlotBitmap other) {
+        int commonLength = Math.min(blocks.length, other.blocks.length);
+        for (int i = 0; i < commonLength; i++) {
+            if (blocks[i] == null || other.blocks[i] == null) {
+                continue;
+            }
+            for (int w = 0; w < WORDS_PER_BLOCK; w++) {
+                blocks[i][w] &= ~other.blocks[i][w];
+            }
+            recount(i);
+        }
+    }
+
+    /**
+     * Recomputes the number of slots in the block at {@code blockIndex} after it has been combined with another block.
+     */
+    private void recount(int blockIndex) {
+        int blockCardinality = 0;
+        for (long word : blocks[blockIndex]) {
+            blockCardinality += Long.bitCount(word);
+        }
+        cardinality += blockCardinality - blockCardinalities[blockIndex];
+        blockCardinalities[blockIndex] = blockCardinality;
+        if (blockCardinality == 0) {
+            blocks[blockIndex] = null;
+        }
+    }
+
+    private void removeBlock(int blockIndex) {
+        cardinality -= blockCardinalities[blockIndex];
+        blockCardinalities[blockIndex] = 0;
+        blocks[blockIndex] = null;
+    }
+
+    private static int wordIndex(int slot) {
+        return (slot % SLOTS_PER_BLOCK) / Long.SIZE;
+    }
+
+    private static long bitMask(int slot) {
+        return 1L << slot; // only the lowest 6 bits of the shift distance are used
+    }
+}
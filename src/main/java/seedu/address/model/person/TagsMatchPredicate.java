@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person}'s {@code Tag}s satisfy every one of the clauses given.
+ * A clause is satisfied if the person has any of its included tags or lacks any of its excluded tags, so clauses
+ * can express any combination of tags with AND, OR and NOT.
+ */
+public class TagsMatchPredicate implements Predicate<Person> {
+    private final List<Clause> clauses;
+
+    /**
+     * Creates a predicate that is satisfied by the tags of a person if they satisfy every one of {@code clauses}.
+     */
+    public TagsMatchPredicate(List<Clause> clauses) {
+        requireAllNonNull(clauses);
+        this.clauses = List.copyOf(clauses);
+    }
+
+    public List<Clause> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<Tag> tags = person.getTags();
+        return clauses.stream().allMatch(clause -> clause.isSatisfiedBy(tags));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagsMatchPredicate // instanceof handles nulls
+                && clauses.equals(((TagsMatchPredicate) other).clauses)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return clauses.toString();
+    }
+
+    /**
+     * A disjunction of tags that a person must have and tags that a person must not have.
+     */
+    public static class Clause {
+        private final Set<Tag> includedTags;
+        private final Set<Tag> excludedTags;
+
+        /**
+         * Creates a clause that is satisfied by the tags of a person if they contain any of {@code includedTags}
+         * or do not contain any one of {@code excludedTags}.
+         */
+        public Clause(Set<Tag> includedTags, Set<Tag> excludedTags) {
+            requireAllNonNull(includedTags, excludedTags);
+            this.includedTags = Set.copyOf(includedTags);
+            this.excludedTags = Set.copyOf(excludedTags);
+        }
+
+        public Set<Tag> getIncludedTags() {
+            return includedTags;
+        }
+
+        public Set<Tag> getExcludedTags() {
+            return excludedTags;
+        }
+
+        /**
+         * Returns true if {@code tags} contains any of the included tags or lacks any of the excluded tags.
+         */
+        public boolean isSatisfiedBy(Set<Tag> tags) {
+            return includedTags.stream().anyMatch(tags::contains)
+                    || excludedTags.stream().anyMatch(tag -> !tags.contains(tag));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Clause // instanceof handles nulls
+                    && includedTags.equals(((Clause) other).includedTags)
+                    && excludedTags.equals(((Clause) other).excludedTags));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(includedTags, excludedTags);
+        }
+
+        @Override
+        public String toString() {
+            return "any of " + includedTags + " or none of " + excludedTags;
+        }
+    }
+}
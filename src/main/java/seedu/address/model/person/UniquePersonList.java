@@ -3,8 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +26,40 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Alongside the list, persons are indexed by {@code Name}, the field compared by {@code Person#isSamePerson(Person)},
+ * so that identity checks do not need to scan the whole list, and the words of their names are indexed so that
+ * persons can be looked up by keyword (see {@link #nameContainsAnyOf(List)}). The position of every person in the list
+ * is also indexed, so that replacing or removing a person costs the same wherever the person is in the list.
+ * Finally, the persons having each tag are indexed as a bitmap, so that combinations of tags can be looked up
+ * without going through the tags of every person (see {@link #tagsMatch(TagsMatchPredicate)}).
+ *
+ * Several persons can be changed at once as a batch (see {@link #applyBatch(List)}), which listeners of the list are
+ * notified of as a single change.
+ *
+ * Every change also creates a new immutable version of the list, which shares most of its structure with the previous
+ * one, so that other threads can be given a snapshot of the list at no cost (see {@link #asSnapshot()}), and is
+ * recorded as an edit, so that the changes made between two snapshots can be found (see {@link #getRevision()}).
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchingObservableList<Person> internalList = new BatchingObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final PersonSlotIndex slotIndex = new PersonSlotIndex(internalList);
+    private final PersonTagIndex tagIndex = new PersonTagIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,7 +71,61 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personsByName.put(toAdd.getName(), toAdd);
+        nameTokenIndex.add(toAdd.getName());
         internalList.add(toAdd);
+        slotIndex.inserted(internalList.size() - 1, toAdd);
+        tagIndex.add(toAdd);
+    }
+
+    /**
+     * Adds a person to the list at the specified position.
+     * The person must not already exist in the list.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not between 0 and the size of the list, inclusive.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        Objects.checkIndex(index, internalList.size() + 1);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        personsByName.put(toAdd.getName(), toAdd);
+        nameTokenIndex.add(toAdd.getName());
+        internalList.add(index, toAdd);
+        slotIndex.inserted(index, toAdd);
+        tagIndex.add(toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list, as a single change to the list.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     * The list is left unchanged if they do.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Person> addedIndex = indexByName(toAdd);
+        for (Name name : addedIndex.keySet()) {
+            if (personsByName.containsKey(name)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        personsByName.putAll(addedIndex);
+        addedIndex.keySet().forEach(nameTokenIndex::add);
+        int fromPosition = internalList.size();
+        internalList.addAll(toAdd);
+        slotIndex.appended(fromPosition);
+        toAdd.forEach(tagIndex::add);
+    }
+
+    /**
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is no such person.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Person storedPerson = personsByName.get(person.getName());
+        return person.equals(storedPerson) ? slotIndex.slotOf(storedPerson) : -1;
     }
 
     /**
@@ -56,16 +136,24 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person storedTarget = internalList.get(index);
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        nameTokenIndex.remove(target.getName());
+        nameTokenIndex.add(editedPerson.getName());
         internalList.set(index, editedPerson);
+        slotIndex.replaced(index, storedTarget, editedPerson);
+        tagIndex.remove(storedTarget);
+        tagIndex.add(editedPerson);
     }
 
     /**
@@ -74,14 +162,72 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person storedPerson = internalList.remove(index);
+        slotIndex.removed(index, storedPerson);
+        tagIndex.remove(storedPerson);
+        personsByName.remove(toRemove.getName());
+        nameTokenIndex.remove(toRemove.getName());
+    }
+
+    /**
+     * Makes all of {@code mutations} in order, as a single change to the list.
+     * The mutations are checked before any of them is made: the list is left unchanged if any person to be added or
+     * put in place of another already exists in the list at that point, or if any person to be replaced or removed
+     * does not. If a mutation fails nevertheless, those already made are undone.
+     *
+     * @return the mutations that undo the batch, in the order they must be made.
+     * @throws DuplicatePersonException if a mutation would duplicate a person.
+     * @throws PersonNotFoundException if a mutation refers to a person that is not in the list.
+     * @throws IndexOutOfBoundsException if a person would be added beyond the end of the list.
+     */
+    public List<PersonMutation> applyBatch(List<PersonMutation> mutations) {
+        requireAllNonNull(mutations);
+        checkBatch(mutations);
+
+        List<PersonMutation> undoMutations = new ArrayList<>(mutations.size());
+        internalList.batchChanges(() -> {
+            try {
+                int runStart = 0;
+                while (runStart < mutations.size()) {
+                    int runEnd = endOfRun(mutations, runStart);
+                    if (runEnd - runStart == 1) {
+                        undoMutations.add(apply(mutations.get(runStart)));
+                    } else {
+                        undoMutations.addAll(applyRun(mutations.subList(runStart, runEnd)));
+                    }
+                    runStart = runEnd;
+                }
+            } catch (RuntimeException e) {
+                for (int i = undoMutations.size() - 1; i >= 0; i--) {
+                    apply(undoMutations.get(i));
+                }
+                throw e;
+            }
+        });
+        Collections.reverse(undoMutations);
+        return undoMutations;
+    }
+
+    /**
+     * Makes all changes to the list in {@code changes} as a single change, which listeners of the list are notified
+     * of once all of them have been made.
+     */
+    public void batchChanges(Runnable changes) {
+        internalList.batchChanges(changes);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        reindexNames();
         internalList.setAll(replacement.internalList);
+        slotIndex.reindex();
+        reindexTags();
     }
 
     /**
@@ -90,11 +236,35 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Person> replacementIndex = indexByName(persons);
 
+        personsByName.clear();
+        personsByName.putAll(replacementIndex);
+        reindexNames();
         internalList.setAll(persons);
+        slotIndex.reindex();
+        reindexTags();
+    }
+
+    /**
+     * Returns a predicate that tests if a person's name contains any of {@code keywords} as a whole word,
+     * ignoring case, in the same way as {@link NameContainsKeywordsPredicate}.
+     * The predicate looks persons up in this list's index of name words instead of splitting their names,
+     * so it only matches persons in this list and always reflects the current contents of the list.
+     */
+    public Predicate<Person> nameContainsAnyOf(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameTokenIndex.containsAnyOf(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests if a person's tags satisfy {@code predicate}.
+     * The predicate looks the tags of {@code predicate} up in this list's bitmaps of persons by tag, so it always
+     * reflects the current contents of the list, and tests persons not in this list against {@code predicate}.
+     */
+    public Predicate<Person> tagsMatch(TagsMatchPredicate predicate) {
+        requireNonNull(predicate);
+        return tagIndex.matches(predicate);
     }
 
     /**
@@ -104,6 +274,22 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable copy of the list as it is now, which costs {@code O(1)} to take and can be read on any
+     * thread while this list keeps changing. The same copy is returned until the list changes.
+     */
+    public ObservableList<Person> asSnapshot() {
+        return internalList.getVersion();
+    }
+
+    /**
+     * Returns the revision of the list that matches {@link #asSnapshot()}, from which the edits made to the list since
+     * can be found.
+     */
+    public ListRevision<Person> getRevision() {
+        return internalList.getRevision();
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -122,16 +308,176 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Rebuilds the index of name words from the persons indexed by name.
+     */
+    private void reindexNames() {
+        nameTokenIndex.clear();
+        personsByName.keySet().forEach(nameTokenIndex::add);
+    }
+
+    /**
+     * Rebuilds the bitmaps of persons by tag from the persons in the list.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private void reindexTags() {
+        tagIndex.clear();
+        internalList.forEach(tagIndex::add);
+    }
+
+    /**
+     * Checks that {@code mutations} can all be made in order, without changing the list.
+     */
+    private void checkBatch(List<PersonMutation> mutations) {
+        // The person with each name that has been changed by the mutations checked so far, or null if there is none
+        Map<Name, Person> changedPersonsByName = new HashMap<>();
+        Function<Name, Person> personWithName = name -> changedPersonsByName.containsKey(name)
+                ? changedPersonsByName.get(name)
+                : personsByName.get(name);
+        int size = internalList.size();
+
+        for (PersonMutation mutation : mutations) {
+            Person target = mutation.getTarget();
+            Person person = mutation.getPerson();
+            if (target != null) {
+                if (!target.equals(personWithName.apply(target.getName()))) {
+                    throw new PersonNotFoundException();
+                }
+                changedPersonsByName.put(target.getName(), null);
+            }
+            if (person != null) {
+                if (personWithName.apply(person.getName()) != null) {
+                    throw new DuplicatePersonException();
+                }
+                changedPersonsByName.put(person.getName(), person);
+            }
+
+            if (mutation.getKind() == PersonMutation.Kind.ADD) {
+                if (mutation.hasIndex()) {
+                    Objects.checkIndex(mutation.getIndex(), size + 1);
                 }
+                size++;
+            } else if (mutation.getKind() == PersonMutation.Kind.REMOVE) {
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Returns the end (exclusive) of the run of mutations starting at {@code runStart} that can be made together in
+     * one pass over the list: either removals, or additions at consecutive indexes.
+     */
+    private static int endOfRun(List<PersonMutation> mutations, int runStart) {
+        PersonMutation first = mutations.get(runStart);
+        int runEnd = runStart + 1;
+        if (first.getKind() == PersonMutation.Kind.REMOVE) {
+            while (runEnd < mutations.size() && mutations.get(runEnd).getKind() == PersonMutation.Kind.REMOVE) {
+                runEnd++;
+            }
+        } else if (first.getKind() == PersonMutation.Kind.ADD && first.hasIndex()) {
+            while (runEnd < mutations.size() && mutations.get(runEnd).getKind() == PersonMutation.Kind.ADD
+                    && mutations.get(runEnd).hasIndex()
+                    && mutations.get(runEnd).getIndex() == first.getIndex() + runEnd - runStart) {
+                runEnd++;
+            }
+        }
+        return runEnd;
+    }
+
+    /**
+     * Makes {@code run}, a run of mutations found by {@link #endOfRun(List, int)}, and returns the mutations that undo
+     * it, in the order they are made in.
+     * Removed persons are removed a block of consecutive persons at a time, and added persons are inserted as a
+     * single block, so that the rest of the list is only shifted once per block instead of once per person.
+     */
+    private List<PersonMutation> applyRun(List<PersonMutation> run) {
+        List<PersonMutation> undoMutations = new ArrayList<>(run.size());
+        if (run.get(0).getKind() == PersonMutation.Kind.ADD) {
+            List<Person> toAdd = new ArrayList<>(run.size());
+            for (PersonMutation mutation : run) {
+                toAdd.add(mutation.getPerson());
+                undoMutations.add(PersonMutation.remove(mutation.getPerson()));
+            }
+            int fromIndex = run.get(0).getIndex();
+            toAdd.forEach(person -> personsByName.put(person.getName(), person));
+            toAdd.forEach(person -> nameTokenIndex.add(person.getName()));
+            internalList.addAll(fromIndex, toAdd);
+            slotIndex.insertedAll(fromIndex, toAdd.size());
+            toAdd.forEach(tagIndex::add);
+            return undoMutations;
+        }
+
+        int[] positions = new int[run.size()];
+        for (int i = 0; i < run.size(); i++) {
+            positions[i] = indexOf(run.get(i).getTarget());
+            if (positions[i] == -1) {
+                throw new PersonNotFoundException();
+            }
+        }
+        Arrays.sort(positions);
+
+        // Removes blocks from the end of the list first, so that the positions of the other blocks stay the same
+        List<Person> removedPersons = new ArrayList<>(run.size());
+        int blockEnd = positions.length;
+        while (blockEnd > 0) {
+            int blockStart = blockEnd - 1;
+            while (blockStart > 0 && positions[blockStart - 1] == positions[blockStart] - 1) {
+                blockStart--;
+            }
+            int fromPosition = positions[blockStart];
+            int toPosition = positions[blockEnd - 1] + 1;
+            for (int position = toPosition - 1; position >= fromPosition; position--) {
+                Person removedPerson = internalList.get(position);
+                removedPersons.add(removedPerson);
+                undoMutations.add(PersonMutation.add(position, removedPerson));
+            }
+            internalList.remove(fromPosition, toPosition);
+            blockEnd = blockStart;
+        }
+
+        slotIndex.removedAll(removedPersons);
+        for (Person removedPerson : removedPersons) {
+            tagIndex.remove(removedPerson);
+            personsByName.remove(removedPerson.getName());
+            nameTokenIndex.remove(removedPerson.getName());
+        }
+        return undoMutations;
+    }
+
+    /**
+     * Makes {@code mutation}, and returns the mutation that undoes it.
+     */
+    private PersonMutation apply(PersonMutation mutation) {
+        switch (mutation.getKind()) {
+        case ADD:
+            if (mutation.hasIndex()) {
+                add(mutation.getIndex(), mutation.getPerson());
+            } else {
+                add(mutation.getPerson());
+            }
+            return PersonMutation.remove(mutation.getPerson());
+        case SET:
+            setPerson(mutation.getTarget(), mutation.getPerson());
+            return PersonMutation.set(mutation.getPerson(), mutation.getTarget());
+        case REMOVE:
+            int index = indexOf(mutation.getTarget());
+            remove(mutation.getTarget());
+            return PersonMutation.add(index, mutation.getTarget());
+        default:
+            throw new AssertionError("Unknown kind of mutation: " + mutation.getKind());
+        }
+    }
+
+    /**
+     * Returns {@code persons} indexed by name.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
+     */
+    private static Map<Name, Person> indexByName(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,90 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The dictionary of all tags used in the application.
+ * Every tag name is mapped to a single shared {@code Tag} instance and a small integer id, so that sets of tags can
+ * be stored as sorted arrays of ids (see {@link TagSet}) instead of sets of separate {@code Tag} objects.
+ * Ids are assigned in the order tag names are first seen and are never reused, as tags are never removed from the
+ * dictionary. The dictionary can be used from any thread.
+ */
+public final class TagDictionary {
+
+    private static final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private static final Object lock = new Object();
+
+    // Only grown while holding lock. A tag is stored here before its id is published in idsByName.
+    private static volatile Tag[] tagsById = new Tag[16];
+    private static int size = 0;
+
+    private TagDictionary() {} // prevents instantiation
+
+    /**
+     * Returns the shared {@code Tag} instance with {@code tagName}.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag intern(String tagName) {
+        requireNonNull(tagName);
+        Integer id = idsByName.get(tagName);
+        // The id must be known before the array is read, as adding the tag may replace the array
+        int knownId = id != null ? id : add(new Tag(tagName));
+        return tagsById[knownId];
+    }
+
+    /**
+     * Returns the shared {@code Tag} instance equal to {@code tag}.
+     */
+    public static Tag intern(Tag tag) {
+        int id = idOf(tag);
+        return tagsById[id];
+    }
+
+    /**
+     * Returns the id of {@code tag}, adding it to the dictionary if it is not in there yet.
+     */
+    static int idOf(Tag tag) {
+        requireNonNull(tag);
+        Integer id = idsByName.get(tag.tagName);
+        return id != null ? id : add(tag);
+    }
+
+    /**
+     * Returns the id of the tag with {@code tagName}, or -1 if there is no such tag in the dictionary.
+     */
+    static int findId(String tagName) {
+        return idsByName.getOrDefault(tagName, -1);
+    }
+
+    /**
+     * Returns the tag with {@code id}.
+     */
+    static Tag get(int id) {
+        return tagsById[id];
+    }
+
+    /**
+     * Adds {@code tag} to the dictionary unless a tag with the same name has been added in the meantime,
+     * and returns the id of its name.
+     */
+    private static int add(Tag tag) {
+        synchronized (lock) {
+            Integer existingId = idsByName.get(tag.tagName);
+            if (existingId != null) {
+                return existingId;
+            }
+
+            if (size == tagsById.length) {
+                tagsById = Arrays.copyOf(tagsById, size * 2);
+            }
+            tagsById[size] = tag;
+            idsByName.put(tag.tagName, size);
+            return size++;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A connection to a {@link CommandServer} on the same computer, which sends one request at a time and waits for its
+ * response. A client must not be used by several threads at once.
+ */
+public class CommandClient implements Closeable {
+
+    private final String token;
+    private final Socket socket;
+    private final BufferedReader responses;
+    private final Writer requests;
+
+    /**
+     * Connects to the command server on {@code port} of the loopback address, whose token is {@code token}.
+     *
+     * @throws IOException if the connection cannot be made.
+     */
+    public CommandClient(int port, String token) throws IOException {
+        requireNonNull(token);
+        this.token = token;
+        socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        socket.setTcpNoDelay(true);
+        responses = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        requests = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Connects to the command server on {@code port} of the loopback address, whose token is in the token file at
+     * {@code tokenFilePath}.
+     *
+     * @throws IOException if the token file cannot be read, or if the connection cannot be made.
+     */
+    public static CommandClient connect(int port, Path tokenFilePath) throws IOException {
+        return new CommandClient(port, Files.readString(tokenFilePath, StandardCharsets.UTF_8).strip());
+    }
+
+    /**
+     * Sends {@code request}, with the token of the server, and returns the server's response to it.
+     *
+     * @throws IOException if the request cannot be sent or the response cannot be read.
+     */
+    public ServerResponse send(ServerRequest request) throws IOException {
+        requireNonNull(request);
+        requests.write(JsonUtil.toCompactJsonString(request.withToken(token)));
+        requests.write('\n');
+        requests.flush();
+
+        String response = responses.readLine();
+        if (response == null) {
+            throw new IOException("The connection was closed by the command server");
+        }
+        return JsonUtil.fromJsonString(response, ServerResponse.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,435 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Lets other programs on the same computer execute commands and read the address book, by sending
+ * {@link ServerRequest}s to a local port, one line of JSON per request, and reading back one line of JSON per
+ * {@link ServerResponse}. Each connection is served on its own thread, never the JavaFX application thread.
+ * Commands are executed one at a time on the logic thread, like those entered in the UI, while reads are served
+ * concurrently from {@link Logic#getAddressBookSnapshot()}, so that every read sees the address book as it was
+ * between two commands, and never waits for a command unless the address book has changed since the latest read.
+ * <p>
+ * Every request must carry the token of the server, a random string that is written to the token file when the
+ * server starts, and that only the user running the app can read, so that other users of the computer, and web pages
+ * open in a browser, cannot send requests. A connection is closed as soon as a line on it is not a request with the
+ * right token, so that e.g. the body of an HTTP request sent by a browser is never read.
+ */
+public class CommandServer {
+
+    /** The maximum number of persons that can be read in one request. */
+    public static final int MAX_PAGE_SIZE = 1000;
+    /** The maximum number of characters in one request line, so that a client cannot use up all the memory. */
+    public static final int MAX_REQUEST_LENGTH = 64 * 1024;
+
+    static final String MESSAGE_INVALID_REQUEST = "Invalid request: %s";
+    static final String MESSAGE_UNKNOWN_REQUEST_TYPE = "Unknown request type: %s";
+    static final String MESSAGE_MISSING_COMMAND = "An execute request must have a command";
+    static final String MESSAGE_MISSING_KEYWORDS = "A find request must have at least one keyword";
+    static final String MESSAGE_INVALID_KEYWORD = "Each keyword must be a single word";
+    static final String MESSAGE_MISSING_REQUEST = "The request is empty";
+    static final String MESSAGE_REQUEST_TOO_LONG = "The request is longer than " + MAX_REQUEST_LENGTH + " characters";
+    static final String MESSAGE_UNEXPECTED_ERROR = "The request could not be handled";
+    static final String MESSAGE_INVALID_PAGE = "The offset cannot be negative, and the limit must be from 1 to "
+            + MAX_PAGE_SIZE;
+    static final String MESSAGE_INVALID_TOKEN = "The request does not have the token of the command server";
+
+    private static final String TOKEN_FILE_SUFFIX = ".server-token";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int TOKEN_BYTES = 32;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    private final Logic logic;
+    private final int requestedPort;
+    private final Path tokenFilePath;
+    private final String token = newToken();
+    private final ExecutorService connectionExecutor = Executors.newCachedThreadPool(runnable ->
+            newDaemonThread(runnable, "command-server-connection"));
+    private final Set<Socket> openConnections = ConcurrentHashMap.newKeySet();
+    private ServerSocket serverSocket;
+
+    /**
+     * Creates a {@code CommandServer} that serves {@code logic} on {@code port} of the loopback address once it is
+     * started, or on any free port if {@code port} is 0, and that writes its token to the file at
+     * {@code tokenFilePath}.
+     */
+    public CommandServer(Logic logic, int port, Path tokenFilePath) {
+        requireNonNull(logic);
+        requireNonNull(tokenFilePath);
+        checkArgument(port >= 0 && port <= 65535, "Invalid port");
+        this.logic = logic;
+        this.requestedPort = port;
+        this.tokenFilePath = tokenFilePath;
+    }
+
+    /**
+     * Returns the path of the token file conventionally kept next to the address book file at
+     * {@code addressBookFilePath}.
+     */
+    public static Path getTokenFilePath(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + TOKEN_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the token that every request must carry.
+     */
+    String getToken() {
+        return token;
+    }
+
+    private static String newToken() {
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+    }
+
+    /**
+     * Writes the token file, then starts accepting connections in the background, and returns once the port has been
+     * opened.
+     *
+     * @throws IOException if the token file cannot be written, or if the port cannot be opened, e.g. because another
+     *     program is using it.
+     * @throws IllegalStateException if the server has already been started.
+     */
+    public synchronized void start() throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("The command server has already been started");
+        }
+        writeTokenFile(tokenFilePath, token);
+        try {
+            serverSocket = new ServerSocket(requestedPort, 0, InetAddress.getLoopbackAddress());
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tokenFilePath);
+            throw ioe;
+        }
+        newDaemonThread(this::acceptConnections, "command-server").start();
+        logger.info("Accepting commands on port " + serverSocket.getLocalPort());
+    }
+
+    /**
+     * Returns the port connections are accepted on.
+     *
+     * @throws IllegalStateException if the server has not been started.
+     */
+    public synchronized int getPort() {
+        if (serverSocket == null) {
+            throw new IllegalStateException("The command server has not been started");
+        }
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections, closes those that are open and deletes the token file. Commands that are already
+     * being executed still finish, but their responses may not be sent.
+     */
+    public synchronized void stop() {
+        if (serverSocket == null) {
+            return;
+        }
+        closeQuietly(serverSocket);
+        connectionExecutor.shutdownNow();
+        openConnections.forEach(CommandServer::closeQuietly);
+        try {
+            Files.deleteIfExists(tokenFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Could not delete token file " + tokenFilePath + ": " + StringUtil.getDetails(ioe));
+        }
+        logger.info("Stopped accepting commands");
+    }
+
+    /**
+     * Writes {@code token} to the file at {@code filePath}, replacing any earlier token. Where the file system
+     * supports it, the file can only ever be read and written by the user running the app.
+     */
+    static void writeTokenFile(Path filePath, String token) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        Files.deleteIfExists(tempFilePath);
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                Files.createFile(tempFilePath,
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+            } else {
+                Files.createFile(tempFilePath);
+                tempFilePath.toFile().setReadable(false, false);
+                tempFilePath.toFile().setReadable(true, true);
+            }
+            Files.writeString(tempFilePath, token, StandardCharsets.UTF_8);
+            try {
+                Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+    }
+
+    private void acceptConnections() {
+        try {
+            while (true) {
+                Socket connection = serverSocket.accept();
+                connection.setTcpNoDelay(true);
+                openConnections.add(connection);
+                connectionExecutor.execute(() -> serve(connection));
+            }
+        } catch (SocketException | RejectedExecutionException e) {
+            // The server has been stopped
+        } catch (IOException ioe) {
+            logger.warning("Stopped accepting commands: " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Responds to the requests on {@code connection} until the other end closes it, or until a line is not a request
+     * with the right token.
+     */
+    private void serve(Socket connection) {
+        try (connection;
+                BufferedReader requests = new BufferedReader(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                Writer responses = new BufferedWriter(
+                        new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = readLine(requests)) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                ServerRequest request;
+                try {
+                    request = parse(line);
+                } catch (IllegalValueException ive) {
+                    respond(responses, ServerResponse.failure(String.format(MESSAGE_INVALID_REQUEST,
+                            ive.getMessage())));
+                    logger.warning("Closed a connection after an invalid request");
+                    return;
+                }
+                if (!hasToken(request)) {
+                    respond(responses, ServerResponse.failure(MESSAGE_INVALID_TOKEN));
+                    logger.warning("Closed a connection after a request without the right token");
+                    return;
+                }
+                respond(responses, handle(request));
+            }
+        } catch (IOException ioe) {
+            logger.fine("Connection closed: " + ioe.getMessage());
+        } finally {
+            openConnections.remove(connection);
+        }
+    }
+
+    /**
+     * Returns the next line of {@code requests}, without its line terminator, or null at the end of the stream.
+     * At most {@link #MAX_REQUEST_LENGTH} characters of a line are kept: the rest of a longer line is read and
+     * discarded, and the line returned is one character too long, so that it can be told apart.
+     */
+    static String readLine(Reader requests) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c = requests.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1 && c != '\n') {
+            if (line.length() <= MAX_REQUEST_LENGTH) {
+                line.append((char) c);
+            }
+            c = requests.read();
+        }
+        int length = line.length();
+        if (length > 0 && length <= MAX_REQUEST_LENGTH && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+    private static void respond(Writer responses, ServerResponse response) throws IOException {
+        responses.write(JsonUtil.toCompactJsonString(response));
+        responses.write('\n');
+        responses.flush();
+    }
+
+    /**
+     * Returns the {@code ServerRequest} in {@code requestLine}, a line of JSON.
+     *
+     * @throws IllegalValueException if the line is too long, or is not a request in JSON, e.g. because it is part of
+     *     an HTTP request.
+     */
+    static ServerRequest parse(String requestLine) throws IllegalValueException {
+        if (requestLine.length() > MAX_REQUEST_LENGTH) {
+            throw new IllegalValueException(MESSAGE_REQUEST_TOO_LONG);
+        }
+        ServerRequest request;
+        try {
+            request = JsonUtil.fromJsonString(requestLine, ServerRequest.class);
+        } catch (JsonProcessingException jpe) {
+            throw new IllegalValueException(jpe.getOriginalMessage(), jpe);
+        } catch (IOException ioe) {
+            throw new IllegalValueException(ioe.getMessage(), ioe);
+        }
+        if (request == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_REQUEST);
+        }
+        return request;
+    }
+
+    /**
+     * Returns true if {@code request} carries the token of this server. The tokens are compared in constant time, so
+     * that the time taken does not give away how much of a wrong token is right.
+     */
+    boolean hasToken(ServerRequest request) {
+        return request.getToken() != null && MessageDigest.isEqual(
+                request.getToken().getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the response to {@code request}, whose token has already been checked.
+     * Never throws, so that no request with the right token can close the connection it is sent on.
+     */
+    ServerResponse handle(ServerRequest request) {
+        requireNonNull(request);
+        try {
+            return dispatch(request);
+        } catch (RuntimeException e) {
+            logger.warning("Could not handle request " + request + ": " + StringUtil.getDetails(e));
+            return ServerResponse.failure(MESSAGE_UNEXPECTED_ERROR);
+        }
+    }
+
+    private ServerResponse dispatch(ServerRequest request) {
+        String type = String.valueOf(request.getType());
+        switch (type) {
+        case ServerRequest.TYPE_EXECUTE:
+            return execute(request);
+        case ServerRequest.TYPE_LIST:
+            return list(request);
+        case ServerRequest.TYPE_FIND:
+            return find(request);
+        default:
+            return ServerResponse.failure(String.format(MESSAGE_UNKNOWN_REQUEST_TYPE, type));
+        }
+    }
+
+    private ServerResponse execute(ServerRequest request) {
+        if (request.getCommand() == null) {
+            return ServerResponse.failure(MESSAGE_MISSING_COMMAND);
+        }
+        try {
+            return ServerResponse.success(logic.execute(request.getCommand()).getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            return ServerResponse.failure(e.getMessage());
+        }
+    }
+
+    private ServerResponse list(ServerRequest request) {
+        if (!isValidPage(request)) {
+            return ServerResponse.failure(MESSAGE_INVALID_PAGE);
+        }
+        List<Person> persons = logic.getAddressBookSnapshot().getPersonList();
+        int from = Math.min(request.getOffset(), persons.size());
+        int to = Math.min(from + request.getLimit(), persons.size());
+        return ServerResponse.page(persons.size(), persons.subList(from, to));
+    }
+
+    /**
+     * Reads the matching persons without changing the filtered person list, so that requests do not change the
+     * persons shown in the UI.
+     */
+    private ServerResponse find(ServerRequest request) {
+        if (request.getKeywords().isEmpty()) {
+            return ServerResponse.failure(MESSAGE_MISSING_KEYWORDS);
+        }
+        if (!request.getKeywords().stream().allMatch(CommandServer::isValidKeyword)) {
+            return ServerResponse.failure(MESSAGE_INVALID_KEYWORD);
+        }
+        if (!isValidPage(request)) {
+            return ServerResponse.failure(MESSAGE_INVALID_PAGE);
+        }
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(request.getKeywords());
+        List<Person> page = new ArrayList<>();
+        int matchCount = 0;
+        for (Person person : logic.getAddressBookSnapshot().getPersonList()) {
+            if (!predicate.test(person)) {
+                continue;
+            }
+            if (matchCount >= request.getOffset() && page.size() < request.getLimit()) {
+                page.add(person);
+            }
+            matchCount++;
+        }
+        return ServerResponse.page(matchCount, page);
+    }
+
+    /**
+     * Returns true if {@code keyword} is a single word, as the keywords of the find command are.
+     */
+    private static boolean isValidKeyword(String keyword) {
+        return keyword != null && !keyword.isEmpty() && keyword.chars().noneMatch(Character::isWhitespace);
+    }
+
+    private static boolean isValidPage(ServerRequest request) {
+        return request.getOffset() >= 0 && request.getLimit() >= 1 && request.getLimit() <= MAX_PAGE_SIZE;
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.fine("Could not close " + closeable + ": " + e.getMessage());
+        }
+    }
+}
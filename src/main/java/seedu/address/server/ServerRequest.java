@@ -0,0 +1,155 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A request sent to a {@link CommandServer}, as a line of JSON, e.g.
+ * {@code {"token":"...","type":"find","keywords":["alice"],"offset":0,"limit":20}}.
+ * Guarantees: immutable.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ServerRequest {
+
+    /** Executes {@link #getCommand()} as if it had been entered in the UI. */
+    public static final String TYPE_EXECUTE = "execute";
+    /** Reads a page of the persons in the address book. */
+    public static final String TYPE_LIST = "list";
+    /** Reads a page of the persons whose names contain any of {@link #getKeywords()}, as the find command does. */
+    public static final String TYPE_FIND = "find";
+
+    /** The number of persons in a page if the request does not say. */
+    public static final int DEFAULT_LIMIT = 100;
+
+    private final String token;
+    private final String type;
+    private final String command;
+    private final List<String> keywords;
+    private final Integer offset;
+    private final Integer limit;
+
+    /**
+     * Constructs a {@code ServerRequest} without a token, with the given details, any of which may be null if the
+     * request does not need it.
+     */
+    public ServerRequest(String type, String command, List<String> keywords, Integer offset, Integer limit) {
+        this(null, type, command, keywords, offset, limit);
+    }
+
+    /**
+     * Constructs a {@code ServerRequest} with the given token and details, any of which may be null if the request
+     * does not need it.
+     */
+    @JsonCreator
+    public ServerRequest(@JsonProperty("token") String token, @JsonProperty("type") String type,
+            @JsonProperty("command") String command, @JsonProperty("keywords") List<String> keywords,
+            @JsonProperty("offset") Integer offset, @JsonProperty("limit") Integer limit) {
+        this.token = token;
+        this.type = type;
+        this.command = command;
+        this.keywords = keywords == null ? null : new ArrayList<>(keywords);
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns a request that executes {@code commandText}.
+     */
+    public static ServerRequest execute(String commandText) {
+        requireNonNull(commandText);
+        return new ServerRequest(TYPE_EXECUTE, commandText, null, null, null);
+    }
+
+    /**
+     * Returns a request that reads {@code limit} persons of the address book, starting from the zero-based
+     * {@code offset}.
+     */
+    public static ServerRequest list(int offset, int limit) {
+        return new ServerRequest(TYPE_LIST, null, null, offset, limit);
+    }
+
+    /**
+     * Returns a request that reads {@code limit} of the persons whose names contain any of {@code keywords},
+     * starting from the zero-based {@code offset}.
+     */
+    public static ServerRequest find(List<String> keywords, int offset, int limit) {
+        requireNonNull(keywords);
+        return new ServerRequest(TYPE_FIND, null, keywords, offset, limit);
+    }
+
+    /**
+     * Returns a copy of this request with {@code token}, the token of the {@link CommandServer} it is sent to.
+     */
+    public ServerRequest withToken(String token) {
+        requireNonNull(token);
+        return new ServerRequest(token, type, command, keywords, offset, limit);
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Returns the keywords to find, or an empty list if there are none. The keywords are as sent, so any of them may
+     * be null.
+     */
+    public List<String> getKeywords() {
+        return keywords == null ? List.of() : Collections.unmodifiableList(keywords);
+    }
+
+    /**
+     * Returns the zero-based index of the first person to read, which is 0 if the request does not say.
+     */
+    public int getOffset() {
+        return offset == null ? 0 : offset;
+    }
+
+    /**
+     * Returns the maximum number of persons to read, which is {@link #DEFAULT_LIMIT} if the request does not say.
+     */
+    public int getLimit() {
+        return limit == null ? DEFAULT_LIMIT : limit;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ServerRequest // instanceof handles nulls
+                && Objects.equals(token, ((ServerRequest) other).token)
+                && Objects.equals(type, ((ServerRequest) other).type)
+                && Objects.equals(command, ((ServerRequest) other).command)
+                && getKeywords().equals(((ServerRequest) other).getKeywords())
+                && getOffset() == ((ServerRequest) other).getOffset()
+                && getLimit() == ((ServerRequest) other).getLimit());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(token, type, command, getKeywords(), getOffset(), getLimit());
+    }
+
+    /**
+     * Returns the request without its token, so that the token is never logged.
+     */
+    @Override
+    public String toString() {
+        return type + (command != null ? " " + command : "") + (keywords != null ? " " + keywords : "")
+                + (offset != null || limit != null ? " from " + getOffset() + " (" + getLimit() + ")" : "");
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * The response of a {@link CommandServer} to a {@link ServerRequest}, as a line of JSON, e.g.
+ * {@code {"success":true,"total":1,"persons":[{"name":"Alice Pauline",...}]}}.
+ * Guarantees: immutable.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ServerResponse {
+
+    private final boolean success;
+    private final String message;
+    private final Integer total;
+    private final List<JsonAdaptedPerson> persons;
+
+    /**
+     * Constructs a {@code ServerResponse} with the given details.
+     */
+    @JsonCreator
+    public ServerResponse(@JsonProperty("success") boolean success, @JsonProperty("message") String message,
+            @JsonProperty("total") Integer total, @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.success = success;
+        this.message = message;
+        this.total = total;
+        this.persons = persons == null ? null : new ArrayList<>(persons);
+    }
+
+    /**
+     * Returns the response to a command that succeeded with the feedback {@code message}.
+     */
+    public static ServerResponse success(String message) {
+        requireNonNull(message);
+        return new ServerResponse(true, message, null, null);
+    }
+
+    /**
+     * Returns the response to a request that failed with the error {@code message}.
+     */
+    public static ServerResponse failure(String message) {
+        requireNonNull(message);
+        return new ServerResponse(false, message, null, null);
+    }
+
+    /**
+     * Returns the response to a read of {@code page}, out of {@code total} persons that could be read.
+     */
+    public static ServerResponse page(int total, List<Person> page) {
+        requireNonNull(page);
+        return new ServerResponse(true, null, total,
+                page.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * Returns the feedback of the command or the error, or null if persons were read.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Returns the number of persons that could be read, which may be more than those in this response,
+     * or 0 if no persons were read.
+     */
+    public int getTotal() {
+        return total == null ? 0 : total;
+    }
+
+    /**
+     * Returns the persons read, or an empty list if none were.
+     *
+     * @throws IllegalValueException if any of the persons are invalid.
+     */
+    public List<Person> getPersons() throws IllegalValueException {
+        if (persons == null) {
+            return List.of();
+        }
+        List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            modelPersons.add(person.toModelType());
+        }
+        return modelPersons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ServerResponse)) {
+            return false;
+        }
+
+        ServerResponse otherResponse = (ServerResponse) other;
+        try {
+            return success == otherResponse.success
+                    && Objects.equals(message, otherResponse.message)
+                    && getTotal() == otherResponse.getTotal()
+                    && getPersons().equals(otherResponse.getPersons());
+        } catch (IllegalValueException ive) {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(success, message, getTotal());
+    }
+
+    @Override
+    public String toString() {
+        return (success ? "success" : "failure") + (message != null ? ": " + message : "")
+                + (total != null ? ", " + persons.size() + " of " + total + " persons" : "");
+    }
+}
@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until any writes this storage does in the background, after a read or save has returned, are done.
+     * Called before the app exits, so that no file is left half written.
+     */
+    default void awaitBackgroundWrites() throws InterruptedException {
+    }
+
 }
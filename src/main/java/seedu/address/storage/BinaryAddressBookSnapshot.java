@@ -0,0 +1,264 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A compact binary copy of the persons in an address book JSON file, kept next to the JSON file so that the persons
+ * can be loaded again without parsing the JSON.
+ * The JSON file stays the source of truth: a snapshot records the {@code JsonFileFingerprint} of the JSON file it was
+ * made from, and is only read back while the JSON file still has that fingerprint.
+ *
+ * A snapshot is laid out as follows, with every number in big-endian order:
+ * <pre>
+ * magic (int), format version (int)
+ * size (long), last modified time (long) and checksum (int) of the JSON file
+ * string count (int), then every string as its length in bytes (int) followed by its UTF-8 bytes
+ * person count (int), then every person as the string ids (int) of its name, phone, email and address,
+ *     followed by its tag count (int) and the string ids (int) of its tag names
+ * CRC-32C (int) of everything before it
+ * </pre>
+ * Every distinct string is stored once, and is referred to by its position among the strings.
+ */
+class BinaryAddressBookSnapshot {
+
+    static final int MAGIC = 0x41425331; // "ABS1"
+    static final int FORMAT_VERSION = 1;
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + 2 * Long.BYTES + Integer.BYTES;
+
+    private BinaryAddressBookSnapshot() {} // prevents instantiation
+
+    /**
+     * Writes a snapshot of {@code persons}, as read from or written to a JSON file with {@code jsonFingerprint},
+     * to {@code snapshotFilePath}. Like the JSON file, the snapshot replaces any previous one only once it has been
+     * completely written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(List<Person> persons, JsonFileFingerprint jsonFingerprint, Path snapshotFilePath)
+            throws IOException {
+        requireNonNull(persons);
+        requireNonNull(jsonFingerprint);
+        FileUtil.createParentDirsOfFile(snapshotFilePath);
+        Path tempFilePath = snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + TEMP_FILE_SUFFIX);
+
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[] personStringIds = new int[persons.size() * 4];
+        int position = 0;
+        for (Person person : persons) {
+            personStringIds[position++] = idOf(person.getName().fullName, stringIds, strings);
+            personStringIds[position++] = idOf(person.getPhone().value, stringIds, strings);
+            personStringIds[position++] = idOf(person.getEmail().value, stringIds, strings);
+            personStringIds[position++] = idOf(person.getAddress().value, stringIds, strings);
+            for (Tag tag : person.getTags()) {
+                idOf(tag.tagName, stringIds, strings);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Checksum checksum = JsonFileFingerprint.newChecksum();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), checksum));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(jsonFingerprint.getSize());
+            out.writeLong(jsonFingerprint.getLastModifiedMillis());
+            out.writeInt(jsonFingerprint.getChecksum());
+
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(persons.size());
+            position = 0;
+            for (Person person : persons) {
+                for (int field = 0; field < 4; field++) {
+                    out.writeInt(personStringIds[position++]);
+                }
+                Set<Tag> tags = person.getTags();
+                out.writeInt(tags.size());
+                for (Tag tag : tags) {
+                    out.writeInt(stringIds.get(tag.tagName));
+                }
+            }
+
+            out.flush();
+            new DataOutputStream(Channels.newOutputStream(channel)).writeInt((int) checksum.getValue());
+            channel.force(false);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+
+        try {
+            Files.move(tempFilePath, snapshotFilePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempFilePath, snapshotFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the persons in the snapshot at {@code snapshotFilePath}, if there is one and it was made from the JSON
+     * file at {@code jsonFilePath} as that file is now.
+     * The size and last modified time of the JSON file are compared first, so that the JSON file is only read to
+     * compute its checksum if it might still match.
+     *
+     * @throws IOException if either file cannot be read, or if the snapshot is corrupt.
+     */
+    static Optional<List<Person>> read(Path snapshotFilePath, Path jsonFilePath) throws IOException {
+        requireNonNull(snapshotFilePath);
+        requireNonNull(jsonFilePath);
+        if (!Files.exists(snapshotFilePath)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(snapshotFilePath));
+        try {
+            if (snapshot.remaining() < HEADER_SIZE + Integer.BYTES || snapshot.getInt() != MAGIC) {
+                throw new IOException("Not an address book snapshot");
+            }
+            if (snapshot.getInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            JsonFileFingerprint snapshotFingerprint =
+                    new JsonFileFingerprint(snapshot.getLong(), snapshot.getLong(), snapshot.getInt());
+            if (!Files.exists(jsonFilePath) || !snapshotFingerprint.mightMatch(jsonFilePath)
+                    || !snapshotFingerprint.equals(JsonFileFingerprint.of(jsonFilePath))) {
+                return Optional.empty();
+            }
+
+            verifyChecksum(snapshot);
+            return Optional.of(readPersons(snapshot));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Address book snapshot " + snapshotFilePath + " is corrupt", e);
+        }
+    }
+
+    /**
+     * Checks that the checksum at the end of {@code snapshot} matches its contents.
+     */
+    private static void verifyChecksum(ByteBuffer snapshot) throws IOException {
+        int bodyLength = snapshot.limit() - Integer.BYTES;
+        Checksum checksum = JsonFileFingerprint.newChecksum();
+        checksum.update(snapshot.array(), 0, bodyLength);
+        if ((int) checksum.getValue() != snapshot.getInt(bodyLength)) {
+            throw new IOException("Address book snapshot checksum does not match its contents");
+        }
+        snapshot.limit(bodyLength);
+    }
+
+    /**
+     * Reads the strings and persons of {@code snapshot}, which is positioned just after the header.
+     * The strings were all taken from valid persons, so fields are created from them without validating them again.
+     * Every field is only created once per distinct string, and is shared by all persons with that string.
+     */
+    private static List<Person> readPersons(ByteBuffer snapshot) {
+        String[] strings = new String[snapshot.getInt()];
+        byte[] bytes = snapshot.array();
+        for (int i = 0; i < strings.length; i++) {
+            int length = snapshot.getInt();
+            strings[i] = new String(bytes, snapshot.position(), length, StandardCharsets.UTF_8);
+            snapshot.position(snapshot.position() + length);
+        }
+
+        FieldCache fields = new FieldCache(strings);
+        int personCount = snapshot.getInt();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Name name = fields.get(snapshot.getInt(), Name.class, Name::ofValidated);
+            Phone phone = fields.get(snapshot.getInt(), Phone.class, Phone::ofValidated);
+            Email email = fields.get(snapshot.getInt(), Email.class, Email::ofValidated);
+            Address address = fields.get(snapshot.getInt(), Address.class, Address::ofValidated);
+            Tag[] tags = new Tag[snapshot.getInt()];
+            for (int j = 0; j < tags.length; j++) {
+                tags[j] = fields.get(snapshot.getInt(), Tag.class, TagDictionary::intern);
+            }
+            persons.add(new Person(name, phone, email, address, TagSet.of(Arrays.asList(tags))));
+        }
+        if (snapshot.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected data after the last person");
+        }
+        return persons;
+    }
+
+    private static int idOf(String string, Map<String, Integer> stringIds, List<String> strings) {
+        Integer id = stringIds.putIfAbsent(string, strings.size());
+        if (id != null) {
+            return id;
+        }
+        strings.add(string);
+        return strings.size() - 1;
+    }
+
+    /**
+     * The fields created from the strings of a snapshot, by string id.
+     * A string is almost always used by fields of a single type, so only the first field created from each string is
+     * kept, and fields of other types are created afresh.
+     */
+    private static class FieldCache {
+        private final String[] strings;
+        private final Object[] fields;
+
+        FieldCache(String[] strings) {
+            this.strings = strings;
+            this.fields = new Object[strings.length];
+        }
+
+        /**
+         * Returns a field of type {@code type} created by {@code factory} from the string with {@code id}.
+         */
+        <T> T get(int id, Class<T> type, Function<String, T> factory) {
+            Object field = fields[id];
+            if (type.isInstance(field)) {
+                return type.cast(field);
+            }
+            T newField = factory.apply(strings[id]);
+            if (field == null) {
+                fields[id] = newField;
+            }
+            return newField;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.ListEdit;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a {@link ListEdit} of the list of persons.
+ */
+class JsonAdaptedListEdit {
+
+    public static final String MESSAGE_NEGATIVE_FIELD = "List edit's index and removeCount cannot be negative!";
+
+    private final int index;
+    private final int removeCount;
+    private final List<JsonAdaptedPerson> inserted = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedListEdit(@JsonProperty("index") int index, @JsonProperty("removeCount") int removeCount,
+            @JsonProperty("inserted") List<JsonAdaptedPerson> inserted) {
+        this.index = index;
+        this.removeCount = removeCount;
+        if (inserted != null) {
+            this.inserted.addAll(inserted);
+        }
+    }
+
+    /**
+     * Converts a given {@code ListEdit} into this class for Jackson use.
+     */
+    public JsonAdaptedListEdit(ListEdit<Person> source) {
+        index = source.getIndex();
+        removeCount = source.getRemovedCount();
+        inserted.addAll(source.getAddedElements().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted edit object into the model's {@code ListEdit} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit.
+     */
+    public ListEdit<Person> toModelType() throws IllegalValueException {
+        if (index < 0 || removeCount < 0) {
+            throw new IllegalValueException(MESSAGE_NEGATIVE_FIELD);
+        }
+        List<Person> insertedPersons = new ArrayList<>(inserted.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : inserted) {
+            insertedPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return new ListEdit<>(index, removeCount, insertedPersons);
+    }
+
+}
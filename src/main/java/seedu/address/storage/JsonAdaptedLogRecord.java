@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.ListEdit;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of the changes to the list of persons made by one save, as appended to a write-ahead log.
+ * The changes are the {@code edits} made to the list since the previous save, in order, each of which replaces a run
+ * of consecutive persons, so the record only holds the persons that were added or changed.
+ */
+class JsonAdaptedLogRecord {
+
+    public static final String MESSAGE_OUT_OF_BOUNDS = "Log record %d changes persons outside of the address book!";
+
+    private final long sequence;
+    private final List<JsonAdaptedListEdit> edits = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedLogRecord} with the given record details.
+     * Records written by earlier versions hold a single edit in {@code index}, {@code removeCount} and
+     * {@code inserted} instead of {@code edits}.
+     */
+    @JsonCreator
+    public JsonAdaptedLogRecord(@JsonProperty("sequence") long sequence,
+            @JsonProperty("edits") List<JsonAdaptedListEdit> edits, @JsonProperty("index") Integer index,
+            @JsonProperty("removeCount") Integer removeCount,
+            @JsonProperty("inserted") List<JsonAdaptedPerson> inserted) {
+        this.sequence = sequence;
+        if (edits != null) {
+            this.edits.addAll(edits);
+        } else if (index != null && removeCount != null) {
+            this.edits.add(new JsonAdaptedListEdit(index, removeCount, inserted));
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedLogRecord} of {@code edits}.
+     */
+    public JsonAdaptedLogRecord(long sequence, List<ListEdit<Person>> edits) {
+        this.sequence = sequence;
+        this.edits.addAll(edits.stream()
+                .map(JsonAdaptedListEdit::new)
+                .collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies the recorded edits to {@code persons}, in order.
+     *
+     * @throws IllegalValueException if an edit does not fit {@code persons} or any inserted person is invalid.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        for (JsonAdaptedListEdit edit : edits) {
+            try {
+                edit.toModelType().applyTo(persons);
+            } catch (IndexOutOfBoundsException ioobe) {
+                throw new IllegalValueException(String.format(MESSAGE_OUT_OF_BOUNDS, sequence), ioobe);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes address books in the JSON format of {@link JsonSerializableAddressBook} one person at a time,
+ * so that neither the file contents nor a full list of {@link JsonAdaptedPerson} is ever held in memory.
+ * Persons read are converted to the model's {@code Person} in parallel, see {@link PersonRecordConverter}.
+ */
+class JsonAddressBookSerializer {
+
+    static final String PERSONS_FIELD = "persons";
+    static final String MESSAGE_NOT_A_PERSON = "Persons list contains a value that is not a person.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookSerializer.class);
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private JsonAddressBookSerializer() {} // prevents instantiation
+
+    /**
+     * Returns the address book stored in the JSON file at {@code filePath}.
+     * Each person is converted to the model's {@code Person} as soon as it has been parsed.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, new HashMap<>());
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but also puts the text of every other top-level field of the file that has a
+     * scalar value into {@code otherFields}.
+     */
+    static AddressBook read(Path filePath, Map<String, String> otherFields) throws IOException, IllegalValueException {
+        return read(filePath, otherFields, null);
+    }
+
+    /**
+     * Similar to {@link #read(Path, Map)}, but puts the records of persons that violate data constraints, or that
+     * have the same name as an earlier person, into {@code quarantine} and reads the other persons, unless
+     * {@code quarantine} is null.
+     */
+    static AddressBook read(Path filePath, Map<String, String> otherFields, RecordQuarantine<JsonNode> quarantine)
+            throws IOException, IllegalValueException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return read(in, filePath, otherFields, quarantine);
+        }
+    }
+
+    /**
+     * Similar to {@link #read(Path, Map, RecordQuarantine)}, but reads the contents of the file at {@code filePath}
+     * from {@code in}, which is left open. Reading stops at the end of the address book object.
+     */
+    static AddressBook read(InputStream in, Path filePath, Map<String, String> otherFields,
+            RecordQuarantine<JsonNode> quarantine) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            AddressBook addressBook = new AddressBook();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName)) {
+                    addressBook = readPersons(parser, quarantine, filePath);
+                } else if (valueToken.isScalarValue()) {
+                    otherFields.put(fieldName, parser.getValueAsString());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return addressBook;
+        }
+    }
+
+    /**
+     * Returns an address book with the array of persons the {@code parser} is positioned at.
+     * Only the JSON syntax of the persons is parsed by the calling thread; persons are bound and validated in
+     * parallel by a {@code PersonRecordConverter} as they are parsed.
+     */
+    private static AddressBook readPersons(JsonParser parser, RecordQuarantine<JsonNode> quarantine, Path filePath)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return new AddressBook();
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of persons");
+        }
+
+        ObjectCodec codec = parser.getCodec();
+        PersonRecordConverter<JsonNode> converter =
+                new PersonRecordConverter<>(record -> toPerson(codec, record), quarantine);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            converter.add(parser.readValueAsTree());
+        }
+        AddressBook addressBook = converter.finish();
+        logger.info("Read persons from " + filePath + ": " + converter.getTimingReport());
+        return addressBook;
+    }
+
+    /**
+     * Converts the JSON tree of a person into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if the tree is not a person, or if there were any data constraints violated.
+     */
+    private static Person toPerson(ObjectCodec codec, JsonNode record) throws IllegalValueException {
+        if (record == null || !record.isObject()) {
+            throw new IllegalValueException(MESSAGE_NOT_A_PERSON);
+        }
+        try {
+            return codec.treeToValue(record, JsonAdaptedPerson.class).toModelType();
+        } catch (JsonProcessingException jpe) {
+            throw new IllegalValueException(jpe.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the JSON file at {@code filePath}, creating the file if it is missing.
+     * The data is first streamed to a temporary file next to {@code filePath} and forced to the storage device,
+     * then the temporary file replaces {@code filePath}, so that a failed write never leaves a partially written
+     * address book behind.
+     *
+     * @return the fingerprint of the file written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static JsonFileFingerprint write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        return write(addressBook, filePath, Map.of());
+    }
+
+    /**
+     * Similar to {@link #write(ReadOnlyAddressBook, Path)}, but also writes {@code otherFields} as top-level fields
+     * with string values before the persons.
+     */
+    static JsonFileFingerprint write(ReadOnlyAddressBook addressBook, Path filePath, Map<String, String> otherFields)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        Checksum checksum = JsonFileFingerprint.newChecksum();
+        long size;
+
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                JsonGenerator generator = JsonUtil.createGenerator(
+                        new CheckedOutputStream(Channels.newOutputStream(channel), checksum))) {
+            generator.writeStartObject();
+            for (Map.Entry<String, String> field : otherFields.entrySet()) {
+                generator.writeStringField(field.getKey(), field.getValue());
+            }
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+            channel.force(false);
+            size = channel.size();
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return new JsonFileFingerprint(size, JsonFileFingerprint.lastModifiedMillis(filePath),
+                (int) checksum.getValue());
+    }
+
+}
@@ -3,34 +3,125 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is streamed one person at a time in both directions, see {@link JsonAddressBookSerializer}.
+ * If a quarantine file is given, persons that cannot be read are moved to the quarantine file instead of failing the
+ * whole read, see {@link RecordQuarantine}.
+ * If a snapshot file is given, a binary snapshot of the persons is kept there, see {@link BinaryAddressBookSnapshot}.
+ * The snapshot is written in the background after every read or save of the file, and is read instead of the file
+ * for as long as the file does not change.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String QUARANTINE_FILE_SUFFIX = ".quarantine.json";
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+    private static final DateTimeFormatter FALLBACK_QUARANTINE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final long SNAPSHOT_WRITER_KEEP_ALIVE_SECONDS = 10;
+
     private Path filePath;
+    private Path quarantineFilePath;
+    private Path snapshotFilePath;
+
+    // Only the latest snapshot requested is written, as it replaces any earlier one
+    private final AtomicReference<Runnable> pendingSnapshotWrite = new AtomicReference<>();
+    private final ExecutorService snapshotWriter;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that moves the persons in the file at {@code filePath} that cannot be
+     * read to the quarantine file at {@code quarantineFilePath}, or that fails the whole read if
+     * {@code quarantineFilePath} is null.
+     */
+    public JsonAddressBookStorage(Path filePath, Path quarantineFilePath) {
+        this(filePath, quarantineFilePath, null);
+    }
+
+    /**
+     * Similar to {@link #JsonAddressBookStorage(Path, Path)}, but also keeps a binary snapshot of the persons in the
+     * file at {@code filePath} in the file at {@code snapshotFilePath}, unless {@code snapshotFilePath} is null.
+     */
+    public JsonAddressBookStorage(Path filePath, Path quarantineFilePath, Path snapshotFilePath) {
         this.filePath = filePath;
+        this.quarantineFilePath = quarantineFilePath;
+        this.snapshotFilePath = snapshotFilePath;
+        this.snapshotWriter = createSnapshotWriter();
+    }
+
+    /**
+     * Returns a single thread executor whose thread only lives while there are snapshots to write, so that storages
+     * that are no longer used do not keep threads around.
+     */
+    private static ExecutorService createSnapshotWriter() {
+        ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, SNAPSHOT_WRITER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), JsonAddressBookStorage::newSnapshotWriterThread);
+        writer.allowCoreThreadTimeOut(true);
+        return writer;
+    }
+
+    private static Thread newSnapshotWriterThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "address-book-snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    public Optional<Path> getQuarantineFilePath() {
+        return Optional.ofNullable(quarantineFilePath);
+    }
+
+    /**
+     * Returns the path of the quarantine file conventionally kept next to the address book file at {@code filePath}.
+     */
+    public static Path getQuarantineFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_FILE_SUFFIX);
+    }
+
+    public Optional<Path> getSnapshotFilePath() {
+        return Optional.ofNullable(snapshotFilePath);
+    }
+
+    /**
+     * Returns the path of the snapshot file conventionally kept next to the address book file at {@code filePath}.
+     */
+    public static Path getSnapshotFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
         return readAddressBook(filePath);
@@ -45,20 +136,84 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        boolean isSnapshotKept = isSnapshotKeptFor(filePath);
+        if (isSnapshotKept) {
+            Optional<ReadOnlyAddressBook> addressBook = readSnapshot();
+            if (addressBook.isPresent()) {
+                return addressBook;
+            }
+        }
+
+        RecordQuarantine<JsonNode> quarantine = quarantineFilePath == null ? null : new RecordQuarantine<>();
+        try (JsonFileFingerprint.FingerprintingInputStream in =
+                JsonFileFingerprint.FingerprintingInputStream.open(filePath)) {
+            AddressBook addressBook = JsonAddressBookSerializer.read(in, filePath, new HashMap<>(), quarantine);
+            boolean isQuarantined = quarantine == null || quarantine.isEmpty()
+                    || writeQuarantine(quarantine, filePath);
+            // Without a snapshot, the next read retries the quarantine of persons that could not be quarantined now
+            if (isSnapshotKept && isQuarantined) {
+                scheduleSnapshot(addressBook, in);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Writes the persons in {@code quarantine}, read from the file at {@code filePath}, to the quarantine file, or to a
+     * new timestamped file next to it if the quarantine file cannot be read or written.
+     * A failure to quarantine is only logged, as the persons that were read should still be loaded.
+     *
+     * @return true if the persons were written to either file.
+     */
+    private boolean writeQuarantine(RecordQuarantine<JsonNode> quarantine, Path filePath) {
+        try {
+            quarantine.writeTo(quarantineFilePath);
+            logger.warning(quarantine.size() + " invalid persons in " + filePath + " were moved to "
+                    + quarantineFilePath);
+            return true;
+        } catch (IOException ioe) {
+            logger.warning("Error writing to quarantine file " + quarantineFilePath + ": "
+                    + StringUtil.getDetails(ioe));
+        }
+
+        Path fallbackFilePath = getFallbackQuarantineFilePath(quarantineFilePath, LocalDateTime.now());
+        try {
+            quarantine.writeTo(fallbackFilePath);
+            logger.warning(quarantine.size() + " invalid persons in " + filePath + " were moved to "
+                    + fallbackFilePath);
+            return true;
+        } catch (IOException ioe) {
+            logger.severe(quarantine.size() + " invalid persons could not be quarantined and are only kept in "
+                    + filePath + " until it is saved: " + StringUtil.getDetails(ioe));
+            return false;
+        }
+    }
+
+    /**
+     * Returns the path of the file next to the quarantine file at {@code quarantineFilePath} that quarantined persons
+     * are written to at {@code time} if the quarantine file cannot be used.
+     */
+    static Path getFallbackQuarantineFilePath(Path quarantineFilePath, LocalDateTime time) {
+        String fileName = quarantineFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        if (extensionIndex <= 0) {
+            extensionIndex = fileName.length();
+        }
+        return quarantineFilePath.resolveSibling(fileName.substring(0, extensionIndex) + "-"
+                + FALLBACK_QUARANTINE_TIME_FORMAT.format(time) + fileName.substring(extensionIndex));
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +228,99 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonFileFingerprint fingerprint = JsonAddressBookSerializer.write(addressBook, filePath);
+        if (isSnapshotKeptFor(filePath)) {
+            scheduleSnapshot(addressBook, fingerprint);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The only such writes are those of snapshots, so this is the same as {@link #awaitSnapshot()}.
+     */
+    @Override
+    public void awaitBackgroundWrites() throws InterruptedException {
+        awaitSnapshot();
+    }
+
+    /**
+     * Blocks until every snapshot requested so far has been written, or has failed to be written.
+     */
+    void awaitSnapshot() throws InterruptedException {
+        try {
+            snapshotWriter.submit(() -> { }).get();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail", ee);
+        }
+    }
+
+    private boolean isSnapshotKeptFor(Path filePath) {
+        return snapshotFilePath != null && filePath.equals(this.filePath);
+    }
+
+    /**
+     * Returns the address book in the snapshot file, if the snapshot matches the address book file as it is now.
+     * A snapshot that cannot be read is ignored, as the address book file can be read instead.
+     */
+    private Optional<ReadOnlyAddressBook> readSnapshot() {
+        long startNanos = System.nanoTime();
+        try {
+            Optional<List<Person>> persons = BinaryAddressBookSnapshot.read(snapshotFilePath, filePath);
+            if (persons.isEmpty()) {
+                logger.info("No snapshot of " + filePath + " matches its current contents");
+                return Optional.empty();
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons.get());
+            logger.info("Read " + persons.get().size() + " persons from snapshot " + snapshotFilePath + " in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms");
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Ignoring snapshot " + snapshotFilePath + " that cannot be read: " + ioe);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Requests a snapshot of {@code addressBook}, which has just been read from {@code in}, unless the address book
+     * file has been modified while it was read.
+     */
+    private void scheduleSnapshot(ReadOnlyAddressBook addressBook, JsonFileFingerprint.FingerprintingInputStream in) {
+        try {
+            scheduleSnapshot(addressBook, in.finish());
+        } catch (IOException ioe) {
+            logger.info("Not writing snapshot of " + filePath + ": " + ioe);
+        }
+    }
+
+    /**
+     * Requests that a snapshot of the persons in {@code addressBook}, which is stored in the address book file with
+     * {@code fingerprint}, be written in the background. Replaces any snapshot that has been requested but not yet
+     * written.
+     */
+    private void scheduleSnapshot(ReadOnlyAddressBook addressBook, JsonFileFingerprint fingerprint) {
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        Runnable snapshotWrite = () -> {
+            try {
+                BinaryAddressBookSnapshot.write(persons, fingerprint, snapshotFilePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to write snapshot " + snapshotFilePath + ": " + ioe);
+            }
+        };
+        if (pendingSnapshotWrite.getAndSet(snapshotWrite) == null) {
+            snapshotWriter.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Writes the latest requested snapshot, if any. Only runs on the snapshot writer thread.
+     */
+    private void writePendingSnapshot() {
+        Runnable snapshotWrite = pendingSnapshotWrite.getAndSet(null);
+        if (snapshotWrite != null) {
+            snapshotWrite.run();
+        }
     }
 
 }
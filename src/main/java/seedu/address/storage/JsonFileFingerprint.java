@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+
+/**
+ * Identifies the contents of a file by its size, its last modified time and a CRC-32C checksum of its bytes,
+ * so that data derived from the file can be checked to still match it.
+ */
+class JsonFileFingerprint {
+
+    private final long size;
+    private final long lastModifiedMillis;
+    private final int checksum;
+
+    JsonFileFingerprint(long size, long lastModifiedMillis, int checksum) {
+        this.size = size;
+        this.lastModifiedMillis = lastModifiedMillis;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the fingerprint of the file at {@code filePath}, reading the whole file.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    static JsonFileFingerprint of(Path filePath) throws IOException {
+        try (FingerprintingInputStream in = FingerprintingInputStream.open(filePath)) {
+            return in.finish();
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} might still have this fingerprint, judging only by its size and
+     * last modified time. A file that does not match can be ruled out without reading it.
+     *
+     * @throws IOException if the attributes of the file cannot be read.
+     */
+    boolean mightMatch(Path filePath) throws IOException {
+        return Files.size(filePath) == size && lastModifiedMillis(filePath) == lastModifiedMillis;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    long getLastModifiedMillis() {
+        return lastModifiedMillis;
+    }
+
+    int getChecksum() {
+        return checksum;
+    }
+
+    static long lastModifiedMillis(Path filePath) throws IOException {
+        return Files.getLastModifiedTime(filePath).toMillis();
+    }
+
+    /**
+     * Returns a new, empty checksum of the kind used in fingerprints.
+     */
+    static Checksum newChecksum() {
+        return new CRC32C();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JsonFileFingerprint // instanceof handles nulls
+                && size == ((JsonFileFingerprint) other).size
+                && lastModifiedMillis == ((JsonFileFingerprint) other).lastModifiedMillis
+                && checksum == ((JsonFileFingerprint) other).checksum);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, lastModifiedMillis, checksum);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d bytes, modified at %d, checksum %08x", size, lastModifiedMillis, checksum);
+    }
+
+    /**
+     * An input stream over a file that computes the fingerprint of the file as it is read.
+     */
+    static class FingerprintingInputStream extends CheckedInputStream {
+        private final Path filePath;
+        private final long size;
+        private final long lastModifiedMillis;
+
+        private FingerprintingInputStream(Path filePath, InputStream in) throws IOException {
+            super(in, newChecksum());
+            this.filePath = filePath;
+            this.size = Files.size(filePath);
+            this.lastModifiedMillis = lastModifiedMillis(filePath);
+        }
+
+        /**
+         * Opens the file at {@code filePath} for reading.
+         *
+         * @throws IOException if the file cannot be opened.
+         */
+        static FingerprintingInputStream open(Path filePath) throws IOException {
+            requireNonNull(filePath);
+            return new FingerprintingInputStream(filePath, Files.newInputStream(filePath));
+        }
+
+        /**
+         * Reads the rest of the file, and returns its fingerprint.
+         *
+         * @throws IOException if the file cannot be read, or if it has been modified while it was read.
+         */
+        JsonFileFingerprint finish() throws IOException {
+            transferTo(OutputStream.nullOutputStream());
+            if (Files.size(filePath) != size || lastModifiedMillis(filePath) != lastModifiedMillis) {
+                throw new IOException("File " + filePath + " was modified while it was read");
+            }
+            return new JsonFileFingerprint(size, lastModifiedMillis, (int) getChecksum().getValue());
+        }
+    }
+}
@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -42,19 +41,24 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons are converted in parallel, see {@link PersonRecordConverter}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-        return addressBook;
+        return toModelType(null);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but puts the persons that violate data constraints, or that have the same
+     * name as an earlier person, into {@code quarantine} and converts the other persons, unless {@code quarantine}
+     * is null.
+     */
+    public AddressBook toModelType(RecordQuarantine<JsonAdaptedPerson> quarantine) throws IllegalValueException {
+        PersonRecordConverter<JsonAdaptedPerson> converter =
+                new PersonRecordConverter<>(JsonAdaptedPerson::toModelType, quarantine);
+        converter.addAll(persons);
+        return converter.finish();
     }
 
 }
@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts stored records of persons into the model's {@code Person} objects on a {@code ForkJoinPool}, while the
+ * records are still being read.
+ * Records are handed over one at a time in the order they are stored, gathered into batches, and every full batch is
+ * converted in parallel chunks as soon as it is complete. The converted persons are collected in the same order
+ * as their records, and at most a few batches per worker thread are held in memory at any time.
+ *
+ * Records that cannot be converted, and records of persons with the same name as an earlier person, are either
+ * put in a {@code RecordQuarantine}, so that the other persons can still be loaded, or fail the whole conversion if
+ * there is no quarantine.
+ *
+ * @param <T> the type of the records.
+ */
+class PersonRecordConverter<T> {
+
+    /** The number of records gathered before they are converted. */
+    static final int BATCH_SIZE = 4096;
+
+    /** The number of records below which a chunk of a batch is converted by a single task. */
+    private static final int CHUNK_SIZE = 512;
+
+    /** The number of batches per worker thread that can be converted or waiting to be collected at a time. */
+    private static final int PENDING_BATCHES_PER_THREAD = 4;
+
+    /**
+     * Converts a record into a {@code Person}.
+     *
+     * @param <T> the type of the records.
+     */
+    @FunctionalInterface
+    interface Conversion<T> {
+        Person convert(T record) throws IllegalValueException;
+    }
+
+    private final Conversion<T> conversion;
+    private final RecordQuarantine<T> quarantine;
+    private final ForkJoinPool pool;
+    private final int maxPendingBatches;
+
+    private final Deque<Batch> pendingBatches = new ArrayDeque<>();
+    private Batch currentBatch;
+    private int recordCount = 0;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Name> names = new HashSet<>();
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder convertingNanos = new LongAdder();
+    private long waitingNanos = 0;
+    private long indexingNanos = 0;
+    private long totalNanos = 0;
+
+    /**
+     * Creates a converter that converts records with {@code conversion} on the common {@code ForkJoinPool}.
+     *
+     * @param quarantine where records that cannot be converted are put, or null if such records should fail the
+     *     whole conversion.
+     */
+    PersonRecordConverter(Conversion<T> conversion, RecordQuarantine<T> quarantine) {
+        this(conversion, quarantine, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a converter that converts records with {@code conversion} on {@code pool}.
+     *
+     * @param quarantine where records that cannot be converted are put, or null if such records should fail the
+     *     whole conversion.
+     */
+    PersonRecordConverter(Conversion<T> conversion, RecordQuarantine<T> quarantine, ForkJoinPool pool) {
+        this.conversion = requireNonNull(conversion);
+        this.quarantine = quarantine;
+        this.pool = requireNonNull(pool);
+        this.maxPendingBatches = pool.getParallelism() * PENDING_BATCHES_PER_THREAD;
+        this.currentBatch = new Batch(0);
+    }
+
+    /**
+     * Adds {@code record} as the next record to be converted.
+     *
+     * @throws IllegalValueException if an earlier record could not be converted and there is no quarantine.
+     */
+    void add(T record) throws IllegalValueException {
+        currentBatch.records.add(record);
+        recordCount++;
+        if (currentBatch.records.size() == BATCH_SIZE) {
+            submitCurrentBatch();
+        }
+    }
+
+    /**
+     * Adds all of {@code records}, in order, as the next records to be converted.
+     *
+     * @throws IllegalValueException if an earlier record could not be converted and there is no quarantine.
+     */
+    void addAll(List<? extends T> records) throws IllegalValueException {
+        for (T record : records) {
+            add(record);
+        }
+    }
+
+    /**
+     * Waits for all records added to be converted, and returns an {@code AddressBook} with the persons converted,
+     * in the order of their records.
+     *
+     * @throws IllegalValueException if a record could not be converted and there is no quarantine.
+     */
+    AddressBook finish() throws IllegalValueException {
+        if (!currentBatch.records.isEmpty()) {
+            submitCurrentBatch();
+        }
+        while (!pendingBatches.isEmpty()) {
+            collectOldestBatch();
+        }
+
+        long indexingStartNanos = System.nanoTime();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        indexingNanos += System.nanoTime() - indexingStartNanos;
+        totalNanos = System.nanoTime() - startNanos;
+        return addressBook;
+    }
+
+    /**
+     * Returns a report of the time spent in each phase of the conversion, once it has finished.
+     * Reading is the time spent by the thread adding the records on anything other than the conversion,
+     * converting is the time spent by all worker threads together, and indexing is the time spent on building the
+     * address book from the persons converted.
+     */
+    String getTimingReport() {
+        long readingNanos = totalNanos - waitingNanos - indexingNanos;
+        return String.format("%d records in %d ms: reading %d ms, converting %d ms on %d threads"
+                + " (waited for %d ms), indexing %d ms",
+                recordCount, toMillis(totalNanos), toMillis(readingNanos), toMillis(convertingNanos.sum()),
+                pool.getParallelism(), toMillis(waitingNanos), toMillis(indexingNanos));
+    }
+
+    private void submitCurrentBatch() throws IllegalValueException {
+        if (pendingBatches.size() == maxPendingBatches) {
+            collectOldestBatch();
+        }
+        Batch batch = currentBatch;
+        batch.persons = new Person[batch.records.size()];
+        batch.errors = new IllegalValueException[batch.records.size()];
+        batch.task = pool.submit(new ConvertChunk(batch, 0, batch.records.size()));
+        pendingBatches.addLast(batch);
+        currentBatch = new Batch(batch.firstRecordIndex + batch.records.size());
+    }
+
+    /**
+     * Waits for the oldest batch to be converted, and collects its persons.
+     */
+    private void collectOldestBatch() throws IllegalValueException {
+        Batch batch = pendingBatches.removeFirst();
+        long waitingStartNanos = System.nanoTime();
+        batch.task.join();
+        waitingNanos += System.nanoTime() - waitingStartNanos;
+
+        long indexingStartNanos = System.nanoTime();
+        for (int i = 0; i < batch.records.size(); i++) {
+            IllegalValueException error = batch.errors[i];
+            if (error == null && !names.add(batch.persons[i].getName())) {
+                error = new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+
+            if (error == null) {
+                persons.add(batch.persons[i]);
+            } else if (quarantine != null) {
+                quarantine.add(batch.firstRecordIndex + i, batch.records.get(i), error.getMessage());
+            } else {
+                throw error;
+            }
+        }
+        indexingNanos += System.nanoTime() - indexingStartNanos;
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Records gathered to be converted together, and the outcome of converting each of them.
+     */
+    private class Batch {
+        private final int firstRecordIndex;
+        private final List<T> records = new ArrayList<>(BATCH_SIZE);
+        private Person[] persons;
+        private IllegalValueException[] errors;
+        private ForkJoinTask<?> task;
+
+        Batch(int firstRecordIndex) {
+            this.firstRecordIndex = firstRecordIndex;
+        }
+    }
+
+    /**
+     * Converts the records of a batch from {@code from} (inclusive) to {@code to} (exclusive), splitting them into
+     * halves converted in parallel until they are no larger than a chunk.
+     */
+    private class ConvertChunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Batch batch;
+        private final int from;
+        private final int to;
+
+        ConvertChunk(Batch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ConvertChunk(batch, from, middle), new ConvertChunk(batch, middle, to));
+                return;
+            }
+
+            long chunkStartNanos = System.nanoTime();
+            for (int i = from; i < to; i++) {
+                try {
+                    batch.persons[i] = conversion.convert(batch.records.get(i));
+                } catch (IllegalValueException ive) {
+                    batch.errors[i] = ive;
+                }
+            }
+            convertingNanos.add(System.nanoTime() - chunkStartNanos);
+        }
+    }
+}
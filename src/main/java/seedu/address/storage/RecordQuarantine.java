@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Records of persons that could not be loaded, kept aside with the reason why, so that they can be repaired by hand
+ * instead of being lost. The records are written to a quarantine file in JSON format:
+ * {@code {"quarantined": [{"reason": ..., "record": {...}}, ...]}}.
+ *
+ * @param <T> the type of the records.
+ */
+class RecordQuarantine<T> {
+
+    static final String QUARANTINED_FIELD = "quarantined";
+    static final String REASON_FIELD = "reason";
+    static final String RECORD_FIELD = "record";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Puts {@code record}, the record at {@code position} among the records loaded, in quarantine for
+     * {@code reason}.
+     */
+    void add(int position, T record, String reason) {
+        entries.add(new Entry(position, record, reason));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the positions among the records loaded of the records in quarantine, in the order they were added.
+     */
+    List<Integer> getPositions() {
+        List<Integer> positions = new ArrayList<>();
+        entries.forEach(entry -> positions.add(entry.position));
+        return positions;
+    }
+
+    /**
+     * Adds the records in quarantine to the quarantine file at {@code filePath}, creating the file if it is missing.
+     * Records already in the file are kept, and records equal to one already in the file are not added again, so that
+     * loading the same records twice does not quarantine them twice.
+     * The file is written to a temporary file first and then moved over the existing file, so that a failed write
+     * leaves the existing file as it was.
+     *
+     * @throws IOException if the existing file cannot be read, or if there was any problem writing to the file.
+     */
+    void writeTo(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        List<JsonNode> existingEntries = Files.exists(filePath) ? readEntries(filePath) : new ArrayList<>();
+        Set<String> recordsWritten = new HashSet<>();
+        for (JsonNode existingEntry : existingEntries) {
+            recordsWritten.add(JsonUtil.toJsonString(existingEntry.get(RECORD_FIELD)));
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (JsonGenerator generator = JsonUtil.createGenerator(Files.newOutputStream(tempFilePath))) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(QUARANTINED_FIELD);
+            for (JsonNode existingEntry : existingEntries) {
+                generator.writeTree(existingEntry);
+            }
+            for (Entry entry : entries) {
+                if (!recordsWritten.add(JsonUtil.toJsonString(entry.record))) {
+                    continue;
+                }
+                generator.writeStartObject();
+                generator.writeStringField(REASON_FIELD, entry.reason);
+                generator.writeFieldName(RECORD_FIELD);
+                generator.writeObject(entry.record);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+
+        try {
+            moveReplacing(tempFilePath, filePath);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Moves the file at {@code source} to {@code target}, atomically if the file system supports it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the entries of the quarantine file at {@code filePath}.
+     */
+    private static List<JsonNode> readEntries(Path filePath) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            JsonNode root = parser.readValueAsTree();
+            JsonNode quarantined = root == null ? null : root.get(QUARANTINED_FIELD);
+            if (quarantined == null || !quarantined.isArray()) {
+                throw new JsonParseException(parser, "Expected an array of quarantined records");
+            }
+
+            List<JsonNode> entries = new ArrayList<>();
+            quarantined.forEach(entries::add);
+            return entries;
+        }
+    }
+
+    /**
+     * A record in quarantine.
+     */
+    private class Entry {
+        private final int position;
+        private final T record;
+        private final String reason;
+
+        Entry(int position, T record, String reason) {
+            this.position = position;
+            this.record = record;
+            this.reason = reason;
+        }
+    }
+}
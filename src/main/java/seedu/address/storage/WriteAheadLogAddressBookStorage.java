@@ -0,0 +1,554 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ListEdit;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a write-ahead log of the changes made since.
+ * <p>
+ * The snapshot is a file in the format of {@link JsonAddressBookStorage}, which also records the id of its log and
+ * the sequence number of the last change it contains. Instead of rewriting the snapshot, every save appends a single
+ * {@link JsonAdaptedLogRecord} to the log (the snapshot's file name followed by {@code .wal}) and forces it to the
+ * storage device, so a burst of changes saved together costs one sync. The record holds the edits made to the persons
+ * since the previous save, as recorded by the address book itself (see {@link ReadOnlyAddressBook#getEditsSince}), so
+ * a save costs as much as the persons it changed, not the whole address book. Only if the edits are not known, e.g. on
+ * the first save after a read, is the difference between the two lists of persons found by comparing them.
+ * Once the log grows beyond a threshold, it is compacted in the background by writing a new snapshot and dropping
+ * the records it contains from the log.
+ * <p>
+ * Every log entry is framed by its length and checksum, so a save interrupted at any point, including by the process
+ * being killed, loses at most that save: reading stops at the first incomplete or damaged entry, which is cut off.
+ */
+public class WriteAheadLogAddressBookStorage implements AddressBookStorage {
+
+    public static final String LOG_FILE_SUFFIX = ".wal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+
+    static final String LOG_ID_FIELD = "writeAheadLogId";
+    static final String LOG_SEQUENCE_FIELD = "writeAheadLogSequence";
+
+    private static final Logger logger = LogsCenter.getLogger(WriteAheadLogAddressBookStorage.class);
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int FRAME_HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final Path filePath;
+    private final Path logFilePath;
+    private final long compactionThresholdBytes;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Held while a snapshot is written. Never wait for the lock on this storage while holding it. */
+    private final Object snapshotLock = new Object();
+
+    // The state of the log being appended to. Only accessed while holding the lock on this storage, and logId
+    // is only changed while also holding snapshotLock. logId is null if there is no log to append to yet.
+    private volatile String logId;
+    private long sequence;
+    private FileChannel logChannel;
+    private ReadOnlyAddressBook savedAddressBook = new AddressBook().getSnapshot();
+    private List<ByteBuffer> framesSinceCompactionStart;
+    private boolean isCompactionScheduled;
+
+    public WriteAheadLogAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Creates a {@code WriteAheadLogAddressBookStorage} that compacts its log once it is larger than
+     * {@code compactionThresholdBytes}.
+     */
+    public WriteAheadLogAddressBookStorage(Path filePath, long compactionThresholdBytes) {
+        requireNonNull(filePath);
+        checkArgument(compactionThresholdBytes >= 0, "Compaction threshold cannot be negative");
+        this.filePath = filePath;
+        this.logFilePath = getLogFilePath(filePath);
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getLogFilePath() {
+        return logFilePath;
+    }
+
+    /**
+     * Returns the path of the write-ahead log of the snapshot at {@code filePath}.
+     */
+    public static Path getLogFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + LOG_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The changes in the log of the snapshot at {@code filePath} are applied to the snapshot. If {@code filePath} is
+     * the file of this storage, later saves continue that log.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or a complete entry of its log is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            if (isOwnFile) {
+                synchronized (this) {
+                    closeLog();
+                }
+            }
+            return Optional.empty();
+        }
+
+        try {
+            Map<String, String> snapshotFields = new HashMap<>();
+            AddressBook snapshot = JsonAddressBookSerializer.read(filePath, snapshotFields);
+            List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+            String snapshotLogId = snapshotFields.get(LOG_ID_FIELD);
+            long snapshotSequence = parseSequence(snapshotFields.get(LOG_SEQUENCE_FIELD));
+
+            LogReplay replay = replayLog(getLogFilePath(filePath), snapshotLogId, snapshotSequence, persons);
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+
+            if (isOwnFile) {
+                bindLog(replay, addressBook.getSnapshot());
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Illegal values found in " + filePath + ": " + dpe.getMessage());
+            throw new DataConversionException(dpe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any file other than the file of this storage writes a plain snapshot without a log.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonAddressBookSerializer.write(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        synchronized (this) {
+            if (logId == null) {
+                startNewLog(snapshot);
+            } else {
+                appendChange(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Folds the log into the snapshot, leaving a plain snapshot that {@link JsonAddressBookStorage} reads in full,
+     * and deletes the log. Does nothing if the file of this storage does not exist.
+     *
+     * @throws DataConversionException if the snapshot or its log is not in the correct format.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void checkpoint() throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (!addressBook.isPresent()) {
+            return;
+        }
+
+        synchronized (this) {
+            synchronized (snapshotLock) {
+                closeLog();
+                JsonAddressBookSerializer.write(addressBook.get(), filePath);
+                Files.deleteIfExists(logFilePath);
+            }
+        }
+    }
+
+    /**
+     * Blocks until the compaction in progress, if any, has finished.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactor.submit(() -> { }).get();
+    }
+
+    //// log writing
+
+    /**
+     * Writes {@code addressBook} as a snapshot belonging to a new, empty log, and appends later saves to that log.
+     */
+    private void startNewLog(ReadOnlyAddressBook addressBook) throws IOException {
+        assert Thread.holdsLock(this);
+        String newLogId = UUID.randomUUID().toString();
+
+        synchronized (snapshotLock) {
+            closeLog();
+            // the new snapshot must be in place before its log: the old log is ignored as soon as it is
+            writeSnapshot(addressBook, newLogId, 0);
+            replaceLog(newLogId, List.of());
+            logId = newLogId;
+        }
+        sequence = 0;
+        savedAddressBook = addressBook;
+        framesSinceCompactionStart = null;
+    }
+
+    /**
+     * Appends the edits made to the persons since the previous save to the log, all in one entry, so that they are
+     * read back either all together or not at all.
+     */
+    private void appendChange(ReadOnlyAddressBook addressBook) throws IOException {
+        assert Thread.holdsLock(this);
+        List<ListEdit<Person>> edits = addressBook.getEditsSince(savedAddressBook)
+                .orElseGet(() -> diff(savedAddressBook.getPersonList(), addressBook.getPersonList()));
+        if (edits.isEmpty()) {
+            savedAddressBook = addressBook;
+            return;
+        }
+
+        ByteBuffer frame = toFrame(JsonUtil.toJsonString(new JsonAdaptedLogRecord(sequence + 1, edits)));
+        try {
+            writeFully(logChannel, frame.duplicate());
+            logChannel.force(false);
+        } catch (IOException ioe) {
+            // the end of the log is unknown, so start over with a new snapshot on the next save
+            synchronized (snapshotLock) {
+                closeLog();
+            }
+            throw ioe;
+        }
+
+        sequence++;
+        savedAddressBook = addressBook;
+        if (framesSinceCompactionStart != null) {
+            framesSinceCompactionStart.add(frame);
+        }
+        if (!isCompactionScheduled && logChannel.size() > compactionThresholdBytes) {
+            isCompactionScheduled = true;
+            compactor.execute(this::compact);
+        }
+    }
+
+    /**
+     * Writes a new snapshot with the last saved persons and removes the records it contains from the log.
+     * Saves may continue while the snapshot is written. Only runs on the compactor thread.
+     */
+    private void compact() {
+        String compactedLogId;
+        long compactedSequence;
+        ReadOnlyAddressBook compactedAddressBook;
+        synchronized (this) {
+            isCompactionScheduled = false;
+            if (logId == null) {
+                return;
+            }
+            compactedLogId = logId;
+            compactedSequence = sequence;
+            compactedAddressBook = savedAddressBook;
+            framesSinceCompactionStart = new ArrayList<>();
+        }
+
+        try {
+            synchronized (snapshotLock) {
+                if (!compactedLogId.equals(logId)) {
+                    return;
+                }
+                writeSnapshot(compactedAddressBook, compactedLogId, compactedSequence);
+            }
+
+            synchronized (this) {
+                if (compactedLogId.equals(logId) && framesSinceCompactionStart != null) {
+                    synchronized (snapshotLock) {
+                        closeLog();
+                        replaceLog(compactedLogId, framesSinceCompactionStart);
+                        logId = compactedLogId;
+                    }
+                }
+            }
+            logger.fine("Compacted write-ahead log " + logFilePath + " up to record " + compactedSequence);
+        } catch (IOException ioe) {
+            // every step above leaves a readable snapshot and log behind, so the next compaction can simply retry
+            logger.warning("Failed to compact write-ahead log " + logFilePath + ": " + ioe);
+        } finally {
+            synchronized (this) {
+                framesSinceCompactionStart = null;
+            }
+        }
+    }
+
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, String snapshotLogId, long snapshotSequence)
+            throws IOException {
+        assert Thread.holdsLock(snapshotLock);
+        Map<String, String> snapshotFields = Map.of(
+                LOG_ID_FIELD, snapshotLogId,
+                LOG_SEQUENCE_FIELD, String.valueOf(snapshotSequence));
+        JsonAddressBookSerializer.write(addressBook, filePath, snapshotFields);
+    }
+
+    /**
+     * Atomically replaces the log with one that contains {@code frames} and opens it for appending.
+     */
+    private void replaceLog(String newLogId, List<ByteBuffer> frames) throws IOException {
+        assert Thread.holdsLock(snapshotLock);
+        Path tempFilePath = logFilePath.resolveSibling(logFilePath.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, toFrame(newLogId));
+            for (ByteBuffer frame : frames) {
+                writeFully(channel, frame.duplicate());
+            }
+            channel.force(false);
+        }
+
+        try {
+            Files.move(tempFilePath, logFilePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempFilePath, logFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        logChannel = FileChannel.open(logFilePath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Stops appending to the current log, if any. The next save starts a new log.
+     */
+    private void closeLog() {
+        synchronized (snapshotLock) {
+            logId = null;
+            if (logChannel == null) {
+                return;
+            }
+            try {
+                logChannel.close();
+            } catch (IOException ioe) {
+                logger.warning("Failed to close write-ahead log " + logFilePath + ": " + ioe);
+            }
+            logChannel = null;
+        }
+    }
+
+    /**
+     * Continues the log that was read by {@code replay}, if it belongs to the snapshot that was read.
+     * Any incomplete or damaged entries at the end of the log are cut off.
+     */
+    private synchronized void bindLog(LogReplay replay, ReadOnlyAddressBook addressBook) throws IOException {
+        synchronized (snapshotLock) {
+            closeLog();
+            if (replay.logId == null) {
+                return;
+            }
+
+            FileChannel channel = FileChannel.open(logFilePath, StandardOpenOption.WRITE);
+            if (channel.size() > replay.validLength) {
+                logger.warning("Discarding incomplete entries at the end of write-ahead log " + logFilePath);
+                channel.truncate(replay.validLength);
+                channel.force(false);
+            }
+            channel.position(replay.validLength);
+            logChannel = channel;
+            logId = replay.logId;
+        }
+        sequence = replay.sequence;
+        savedAddressBook = addressBook;
+        framesSinceCompactionStart = null;
+    }
+
+    //// log reading
+
+    /**
+     * Applies the records of the log at {@code logFilePath} that follow {@code snapshotSequence} to {@code persons},
+     * if the log belongs to the snapshot with {@code snapshotLogId}.
+     */
+    private static LogReplay replayLog(Path logFilePath, String snapshotLogId, long snapshotSequence,
+            List<Person> persons) throws IOException, IllegalValueException {
+        LogReplay replay = new LogReplay();
+        if (snapshotLogId == null || !Files.exists(logFilePath)) {
+            return replay;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFilePath)))) {
+            long logLength = Files.size(logFilePath);
+            Optional<String> header = readFrame(in, logLength);
+            if (!header.isPresent() || !header.get().equals(snapshotLogId)) {
+                logger.warning("Ignoring write-ahead log " + logFilePath + " that does not belong to its snapshot");
+                return replay;
+            }
+
+            replay.logId = snapshotLogId;
+            replay.sequence = snapshotSequence;
+            replay.validLength = FRAME_HEADER_BYTES + toBytes(snapshotLogId).length;
+            for (Optional<String> payload = readFrame(in, logLength - replay.validLength); payload.isPresent();
+                    payload = readFrame(in, logLength - replay.validLength)) {
+                JsonAdaptedLogRecord record = JsonUtil.fromJsonString(payload.get(), JsonAdaptedLogRecord.class);
+                if (record.getSequence() > replay.sequence + 1) {
+                    break;
+                }
+                if (record.getSequence() == replay.sequence + 1) {
+                    record.applyTo(persons);
+                    replay.sequence++;
+                }
+                replay.validLength += FRAME_HEADER_BYTES + toBytes(payload.get()).length;
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * Returns the payload of the next entry of a log with {@code remainingBytes} left to read,
+     * or an empty {@code Optional} if there is no complete and undamaged entry left.
+     */
+    private static Optional<String> readFrame(DataInputStream in, long remainingBytes) throws IOException {
+        if (remainingBytes < FRAME_HEADER_BYTES) {
+            return Optional.empty();
+        }
+
+        int length = in.readInt();
+        int checksum = in.readInt();
+        if (length < 0 || length > remainingBytes - FRAME_HEADER_BYTES) {
+            return Optional.empty();
+        }
+
+        byte[] payload = new byte[length];
+        try {
+            in.readFully(payload);
+        } catch (EOFException eofe) {
+            return Optional.empty();
+        }
+        if (checksum(payload) != checksum) {
+            return Optional.empty();
+        }
+        return Optional.of(new String(payload, StandardCharsets.UTF_8));
+    }
+
+    //// helpers
+
+    /**
+     * Returns the edits that turn {@code oldPersons} into {@code newPersons}: a single edit that replaces everything
+     * between their longest common prefix and suffix, or no edit if they are equal.
+     */
+    private static List<ListEdit<Person>> diff(List<Person> oldPersons, List<Person> newPersons) {
+        int maxCommon = Math.min(oldPersons.size(), newPersons.size());
+        int prefix = 0;
+        while (prefix < maxCommon && oldPersons.get(prefix).equals(newPersons.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix && oldPersons.get(oldPersons.size() - 1 - suffix)
+                .equals(newPersons.get(newPersons.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        int removeCount = oldPersons.size() - prefix - suffix;
+        List<Person> inserted = newPersons.subList(prefix, newPersons.size() - suffix);
+        if (removeCount == 0 && inserted.isEmpty()) {
+            return List.of();
+        }
+        return List.of(new ListEdit<>(prefix, removeCount, inserted));
+    }
+
+    private static ByteBuffer toFrame(String payload) {
+        byte[] bytes = toBytes(payload);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + bytes.length);
+        frame.putInt(bytes.length).putInt(checksum(bytes)).put(bytes).flip();
+        return frame.asReadOnlyBuffer();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static byte[] toBytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static long parseSequence(String sequence) throws IllegalValueException {
+        if (sequence == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(sequence);
+        } catch (NumberFormatException nfe) {
+            throw new IllegalValueException("Invalid write-ahead log sequence number: " + sequence);
+        }
+    }
+
+    /**
+     * The outcome of reading a log.
+     */
+    private static class LogReplay {
+        /** The id of the log, or null if the log was ignored. */
+        private String logId;
+        /** The sequence number of the last record applied. */
+        private long sequence;
+        /** The length of the complete and undamaged entries at the start of the log. */
+        private long validLength;
+    }
+
+}
@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address book snapshots to an {@code AddressBookStorage} on a dedicated background writer thread.
+ * A burst of saves requested within {@code delayMillis} of each other is coalesced into a single write of the
+ * latest snapshot, so no requested snapshot waits longer than {@code delayMillis} (plus the time taken by the write
+ * in progress, if any) before it reaches the storage.
+ * A write that fails is retried in the background, first after {@link #INITIAL_RETRY_DELAY_MILLIS} and then after
+ * twice as long as the previous retry, up to {@link #MAX_RETRY_DELAY_MILLIS}, until a write succeeds.
+ * Snapshots handed to this saver must not be modified afterwards.
+ */
+public class WriteBehindAddressBookSaver {
+
+    static final long INITIAL_RETRY_DELAY_MILLIS = 1000;
+    static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long delayMillis;
+    private final long initialRetryDelayMillis;
+    private final long maxRetryDelayMillis;
+    private final ScheduledThreadPoolExecutor writer = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The delay before the next retry of a failed write. Only used on the writer thread. */
+    private long retryDelayMillis;
+
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+    private final AtomicBoolean isSaveScheduled = new AtomicBoolean(false);
+    private final AtomicReference<IOException> saveFailure = new AtomicReference<>();
+
+    /**
+     * Creates a {@code WriteBehindAddressBookSaver} that writes to {@code addressBookStorage} at most
+     * {@code delayMillis} after a save is requested.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage addressBookStorage, long delayMillis) {
+        this(addressBookStorage, delayMillis, INITIAL_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Similar to {@link #WriteBehindAddressBookSaver(AddressBookStorage, long)}, but the first retry of a failed write
+     * is after {@code initialRetryDelayMillis} instead.
+     */
+    WriteBehindAddressBookSaver(AddressBookStorage addressBookStorage, long delayMillis, long initialRetryDelayMillis) {
+        requireNonNull(addressBookStorage);
+        checkArgument(delayMillis >= 0, "Write-behind delay cannot be negative");
+        checkArgument(initialRetryDelayMillis > 0, "Retry delay must be positive");
+        this.addressBookStorage = addressBookStorage;
+        this.delayMillis = delayMillis;
+        this.initialRetryDelayMillis = initialRetryDelayMillis;
+        this.maxRetryDelayMillis = Math.max(initialRetryDelayMillis, MAX_RETRY_DELAY_MILLIS);
+        this.retryDelayMillis = initialRetryDelayMillis;
+        // a retry still waiting at shutdown is dropped, as shutdown has already tried to write the snapshot
+        writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Requests that {@code snapshot} be saved in the background.
+     * Replaces any snapshot that has been requested but not yet written.
+     */
+    public void scheduleSave(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        pendingSnapshot.set(snapshot);
+        if (isSaveScheduled.compareAndSet(false, true)) {
+            writer.schedule(this::savePendingSnapshot, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns and clears the failure of the most recent background save that failed, if any.
+     * The snapshot that failed to save is kept and retried in the background, or by the next save or {@link #flush()}.
+     */
+    public Optional<IOException> pollSaveFailure() {
+        return Optional.ofNullable(saveFailure.getAndSet(null));
+    }
+
+    /**
+     * Blocks until every snapshot requested so far has been written.
+     *
+     * @throws IOException if writing the latest snapshot fails.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::savePendingSnapshot).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException("Unexpected failure while saving the address book", ee.getCause());
+        }
+
+        Optional<IOException> failure = pollSaveFailure();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Writes any pending snapshot and stops the background writer thread.
+     * No further saves can be requested afterwards.
+     *
+     * @throws IOException if writing the latest snapshot fails.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Writes the latest requested snapshot, if any. Only runs on the writer thread.
+     */
+    private void savePendingSnapshot() {
+        isSaveScheduled.set(false);
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+            saveFailure.set(null);
+            retryDelayMillis = initialRetryDelayMillis;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book in the background, retrying in " + retryDelayMillis + " ms: "
+                    + ioe);
+            // keep the snapshot for a retry unless a newer one has been requested in the meantime
+            pendingSnapshot.compareAndSet(null, snapshot);
+            saveFailure.set(ioe);
+            scheduleRetry();
+        }
+    }
+
+    /**
+     * Schedules a retry of the failed write after the current retry delay, and doubles the delay for the next one.
+     * Only runs on the writer thread.
+     */
+    private void scheduleRetry() {
+        if (writer.isShutdown() || !isSaveScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        writer.schedule(this::savePendingSnapshot, retryDelayMillis, TimeUnit.MILLISECONDS);
+        retryDelayMillis = retryDelayMillis > maxRetryDelayMillis / 2 ? maxRetryDelayMillis : retryDelayMillis * 2;
+    }
+
+}
@@ -3,9 +3,11 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.logic.LoadingProgress;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -17,12 +19,26 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which also shows {@code loadingProgress}
+     * until the address book has been loaded.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<LoadingProgress> loadingProgress) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        showLoadingProgress(loadingProgress.getValue());
+        loadingProgress.addListener((observable, oldProgress, newProgress) -> showLoadingProgress(newProgress));
+    }
+
+    private void showLoadingProgress(LoadingProgress progress) {
+        if (progress.isFailed()) {
+            loadingStatus.setText("Loading " + progress + ", changes will not be saved");
+        } else {
+            loadingStatus.setText(progress.isDone() ? "" : "Loading: " + progress);
+        }
     }
 
 }
@@ -1,6 +1,8 @@
 package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -37,6 +39,36 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptAndCheckpoint_success() {
+        parametersStub.namedParameters.put("script", "commands.txt");
+        parametersStub.namedParameters.put("checkpoint", "1000");
+        expected.setScript("commands.txt");
+        expected.setCheckpointInterval(1000);
+        AppParameters actual = AppParameters.parse(parametersStub);
+        assertEquals(expected, actual);
+        assertTrue(actual.isHeadless());
+    }
+
+    @Test
+    public void parse_noScript_notHeadless() {
+        assertFalse(AppParameters.parse(parametersStub).isHeadless());
+    }
+
+    @Test
+    public void parse_invalidCheckpoint_success() {
+        parametersStub.namedParameters.put("checkpoint", "-5");
+        expected.setCheckpointInterval(0);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScript(AppParameters.STANDARD_INPUT_SCRIPT);
+        assertEquals(expected, AppParameters.parse("--config=config.json", "--script=-", "unnamed", "--=x"));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,150 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final AppParameters appParameters = new AppParameters();
+    private StorageManager storage;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = LogicManager.withoutUi(new ModelManager(), storage);
+    }
+
+    @Test
+    public void runScript_validCommands_resultsPrintedAndNotSaved() throws Exception {
+        int exitStatus = runScript("# comment", "", "  " + PersonUtil.getAddCommand(AMY), "list");
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        String printed = getOutput();
+        assertTrue(printed.startsWith(HeadlessApp.COMMAND_PROMPT + PersonUtil.getAddCommand(AMY).trim() + "\n"
+                + String.format(AddCommand.MESSAGE_SUCCESS, AMY) + "\n"));
+        assertTrue(printed.contains("Ran 2 commands (0 failed) in "));
+        assertFalse(printed.contains("comment"));
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void runScript_failingCommand_errorPrintedAndScriptContinues() throws Exception {
+        int exitStatus = runScript(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(AMY),
+                PersonUtil.getAddCommand(BOB));
+
+        assertEquals(HeadlessApp.EXIT_COMMANDS_FAILED, exitStatus);
+        assertTrue(getOutput().contains(HeadlessApp.ERROR_PREFIX + AddCommand.MESSAGE_DUPLICATE_PERSON));
+        assertEquals(2, logic.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void runScript_exitCommand_stopsScript() throws Exception {
+        runScript(PersonUtil.getAddCommand(AMY), ExitCommand.COMMAND_WORD, PersonUtil.getAddCommand(BOB));
+        assertEquals(1, logic.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void runScript_checkpointInterval_savedAtCheckpoints() throws Exception {
+        appParameters.setCheckpointInterval(2);
+        runScript(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB), PersonUtil.getAddCommand(ALICE));
+
+        ReadOnlyAddressBook saved = storage.readAddressBook().get();
+        assertEquals(2, saved.getPersonList().size());
+        assertFalse(saved.getPersonList().contains(ALICE));
+    }
+
+    @Test
+    public void run_scriptFromStandardInput_addressBookSavedOnce() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("data").resolve("addressbook.json");
+        appParameters.setConfigPath(initConfig(addressBookFilePath));
+        appParameters.setScript(AppParameters.STANDARD_INPUT_SCRIPT);
+        String script = "clear\n" + PersonUtil.getAddCommand(AMY) + "\n";
+
+        int exitStatus = new HeadlessApp(appParameters,
+                new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), new PrintStream(output)).run();
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertTrue(getOutput().contains("Saved address book in "));
+        AddressBook expected = new AddressBook();
+        expected.addPerson(AMY);
+        assertEquals(expected, new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void run_missingScript_errorPrinted() throws Exception {
+        appParameters.setConfigPath(initConfig(temporaryFolder.resolve("addressbook.json")));
+        appParameters.setScript(temporaryFolder.resolve("missing.txt").toString());
+
+        int exitStatus = new HeadlessApp(appParameters, new ByteArrayInputStream(new byte[0]),
+                new PrintStream(output)).run();
+
+        assertEquals(HeadlessApp.EXIT_ERROR, exitStatus);
+        assertTrue(getOutput().startsWith(HeadlessApp.ERROR_PREFIX + "Could not read script"));
+    }
+
+    private int runScript(String... lines) throws IOException {
+        HeadlessApp app = new HeadlessApp(appParameters, new ByteArrayInputStream(new byte[0]),
+                new PrintStream(output));
+        return app.runScript(logic, new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    private String getOutput() {
+        return output.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+
+    /**
+     * Saves a config file, and the user prefs file it refers to, in the temporary folder, so that the app keeps the
+     * address book at {@code addressBookFilePath}. Returns the path of the config file.
+     */
+    private Path initConfig(Path addressBookFilePath) throws IOException {
+        Path userPrefsFilePath = temporaryFolder.resolve("preferences.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        Path configFilePath = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+        return configFilePath;
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyRecorderTest {
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    @Test
+    public void record_negativeLatency_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> recorder.record(-1));
+    }
+
+    @Test
+    public void getPercentileNanos_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> recorder.getPercentileNanos(100.5));
+    }
+
+    @Test
+    public void getPercentileNanos_nothingRecorded_returnsZero() {
+        assertEquals(0, recorder.getPercentileNanos(50));
+    }
+
+    @Test
+    public void getPercentileNanos_manyLatencies_exactPercentiles() {
+        // records 1 to 2000 in an order other than ascending, growing the recorder beyond its initial capacity
+        for (int i = 2000; i >= 1; i--) {
+            recorder.record(i);
+        }
+        assertEquals(2000, recorder.getCount());
+        assertEquals(1, recorder.getPercentileNanos(0));
+        assertEquals(1000, recorder.getPercentileNanos(50));
+        assertEquals(1980, recorder.getPercentileNanos(99));
+        assertEquals(2000, recorder.getPercentileNanos(100));
+
+        recorder.record(5000);
+        assertEquals(5000, recorder.getPercentileNanos(100));
+    }
+
+    @Test
+    public void recordAll_otherRecorder_latenciesCombined() {
+        LatencyRecorder other = new LatencyRecorder();
+        other.record(3);
+        recorder.record(1);
+        recorder.recordAll(other);
+        assertEquals(2, recorder.getCount());
+        assertEquals(3, recorder.getPercentileNanos(100));
+    }
+
+    @Test
+    public void summarize() {
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(1));
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(3));
+        assertEquals("0.50 s (4 per second), latency p50 1.00 ms, p99 3.00 ms, max 3.00 ms",
+                recorder.summarize(TimeUnit.MILLISECONDS.toNanos(500)));
+    }
+}
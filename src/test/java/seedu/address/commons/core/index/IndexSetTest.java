@@ -0,0 +1,64 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSetTest {
+
+    @Test
+    public void ofRange_lastBeforeFirst_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                IndexSet.ofRange(Index.fromOneBased(5), Index.fromOneBased(4)));
+    }
+
+    @Test
+    public void union_emptyCollection_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexSet.union(List.of()));
+    }
+
+    @Test
+    public void union_overlappingAndTouchingRanges_merged() {
+        IndexSet indexes = IndexSet.union(List.of(range(10, 20), IndexSet.of(Index.fromOneBased(4)),
+                range(15, 30), IndexSet.of(Index.fromOneBased(31)), IndexSet.of(Index.fromOneBased(1)),
+                IndexSet.of(Index.fromOneBased(4))));
+
+        assertEquals("1 4 10-31", indexes.toString());
+        assertEquals(24, indexes.size());
+        assertEquals(Index.fromOneBased(31), indexes.getLast());
+        assertEquals(List.of(0, 3, 9, 10), indexes.streamZeroBased().limit(4).boxed().collect(Collectors.toList()));
+        assertEquals(indexes, IndexSet.union(List.of(range(1, 1), range(4, 4), range(10, 31))));
+    }
+
+    @Test
+    public void equals() {
+        IndexSet firstToThird = range(1, 3);
+
+        // same values -> returns true
+        assertTrue(firstToThird.equals(range(1, 3)));
+        assertEquals(firstToThird.hashCode(), range(1, 3).hashCode());
+
+        // same object -> returns true
+        assertTrue(firstToThird.equals(firstToThird));
+
+        // null -> returns false
+        assertFalse(firstToThird.equals(null));
+
+        // different types -> returns false
+        assertFalse(firstToThird.equals(Index.fromOneBased(1)));
+
+        // different indexes -> returns false
+        assertFalse(firstToThird.equals(range(1, 4)));
+        assertFalse(firstToThird.equals(IndexSet.union(List.of(range(1, 1), range(3, 3)))));
+    }
+
+    private static IndexSet range(int oneBasedFirst, int oneBasedLast) {
+        return IndexSet.ofRange(Index.fromOneBased(oneBasedFirst), Index.fromOneBased(oneBasedLast));
+    }
+}
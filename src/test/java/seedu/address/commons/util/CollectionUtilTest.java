@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -8,7 +9,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +86,46 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void highestScoring_invalidArguments_throwsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                CollectionUtil.highestScoring(List.of("a"), -1, String::length));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.highestScoring(null, 1, String::length));
+    }
+
+    @Test
+    public void highestScoring() {
+        List<String> words = List.of("bb", "a", "dddd", "ccc", "ee", "ffff");
+
+        // highest first, and earlier items first among equal scores
+        assertEquals(List.of("dddd", "ffff", "ccc"), CollectionUtil.highestScoring(words, 3, String::length));
+        assertEquals(List.of("dddd", "ffff", "ccc", "bb", "ee"),
+                CollectionUtil.highestScoring(words, 5, String::length));
+
+        // limit at least the number of items -> all items
+        assertEquals(List.of("dddd", "ffff", "ccc", "bb", "ee", "a"),
+                CollectionUtil.highestScoring(words, 10, String::length));
+
+        // zero limit or no items -> no items
+        assertEquals(List.of(), CollectionUtil.highestScoring(words, 0, String::length));
+        assertEquals(List.of(), CollectionUtil.highestScoring(List.<String>of(), 3, String::length));
+    }
+
+    @Test
+    public void highestScoring_randomScores_sameAsSortingAll() {
+        Random random = new Random(5);
+        for (int round = 0; round < 200; round++) {
+            List<Integer> items = random.ints(random.nextInt(60), 0, 20).boxed().collect(Collectors.toList());
+            int limit = random.nextInt(70);
+            // scores only the tens, so that there are many equal scores
+            List<Integer> expected = items.stream()
+                    .sorted(Comparator.comparingInt((Integer item) -> item / 10).reversed())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+            assertEquals(expected, CollectionUtil.highestScoring(items, limit, item -> item / 10));
+        }
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
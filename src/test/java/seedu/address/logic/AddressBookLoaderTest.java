@@ -0,0 +1,124 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonGenerator;
+
+public class AddressBookLoaderTest {
+
+    private final BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+    private final List<LoadingProgress> progressReported = new ArrayList<>();
+    private final Model model = new ModelManager();
+    private final AddressBookLoader loader = new AddressBookLoader(model, modelTasks::add, progressReported::add);
+
+    @Test
+    public void start_reportsReadingBeforeReturning() {
+        loader.start(AddressBook::new);
+        assertEquals(List.of(LoadingProgress.reading()), progressReported);
+    }
+
+    @Test
+    public void start_smallAddressBook_loadedInOneTask() throws Exception {
+        loader.start(() -> getTypicalAddressBook());
+        runUiTasksUntilDone();
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        int personCount = getTypicalAddressBook().getPersonList().size();
+        assertEquals(List.of(LoadingProgress.reading(), LoadingProgress.loaded(personCount, personCount)),
+                progressReported);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void start_largeAddressBook_loadedInBatches() throws Exception {
+        AddressBook addressBook = new PersonGenerator().nextAddressBook(5 * AddressBookLoader.BATCH_SIZE + 1);
+        List<Integer> changeSizes = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changeSizes.add(change.getAddedSize());
+            }
+        });
+
+        loader.start(() -> addressBook);
+        runUiTasksUntilDone();
+
+        assertEquals(addressBook.getPersonList(), model.getAddressBook().getPersonList());
+        assertEquals(List.of(1000, 1000, 1000, 1000, 1000, 1), changeSizes);
+        for (int i = 1; i < progressReported.size(); i++) {
+            assertTrue(progressReported.get(i).getLoadedCount() > progressReported.get(i - 1).getLoadedCount());
+        }
+    }
+
+    @Test
+    public void start_readerFails_loadsEmptyAddressBook() throws Exception {
+        loader.start(() -> {
+            throw new IllegalStateException("dummy failure");
+        });
+        runUiTasksUntilDone();
+
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertEquals(LoadingProgress.loaded(0, 0), progressReported.get(progressReported.size() - 1));
+    }
+
+    @Test
+    public void start_addingPersonsFails_loadingStopsWithFailure() throws Exception {
+        AddressBook addressBook = new PersonGenerator().nextAddressBook(3 * AddressBookLoader.BATCH_SIZE);
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addLoadedPersons(List<Person> persons) {
+                if (getAddressBook().getPersonList().size() >= AddressBookLoader.BATCH_SIZE) {
+                    throw new IllegalStateException("dummy failure");
+                }
+                super.addLoadedPersons(persons);
+            }
+        };
+        AddressBookLoader failingLoader = new AddressBookLoader(failingModel, modelTasks::add, progressReported::add);
+
+        CompletableFuture<Void> completion = failingLoader.start(() -> addressBook);
+        runUiTasksUntilDone();
+
+        assertEquals(LoadingProgress.failed(AddressBookLoader.BATCH_SIZE, 3 * AddressBookLoader.BATCH_SIZE),
+                progressReported.get(progressReported.size() - 1));
+        assertTrue(completion.isCompletedExceptionally());
+    }
+
+    @Test
+    public void start_addressBookLoaded_completesNormally() throws Exception {
+        CompletableFuture<Void> completion = loader.start(() -> getTypicalAddressBook());
+        runUiTasksUntilDone();
+        assertTrue(completion.isDone());
+        assertFalse(completion.isCompletedExceptionally());
+    }
+
+    /**
+     * Runs the tasks the loader requests on the model thread until it reports that it is done, checking that it never
+     * has more than one task waiting at a time.
+     */
+    private void runUiTasksUntilDone() throws InterruptedException {
+        while (!progressReported.get(progressReported.size() - 1).isDone()) {
+            Runnable task = modelTasks.poll(10, TimeUnit.SECONDS);
+            assertNotNull(task, "Loader did not request any task");
+            assertTrue(modelTasks.isEmpty());
+            task.run();
+        }
+        assertTrue(modelTasks.isEmpty());
+    }
+}
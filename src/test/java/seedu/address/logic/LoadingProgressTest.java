@@ -0,0 +1,46 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LoadingProgressTest {
+
+    @Test
+    public void loaded_invalidCounts_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LoadingProgress.loaded(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> LoadingProgress.loaded(6, 5));
+        assertThrows(IllegalArgumentException.class, () -> LoadingProgress.failed(6, 5));
+    }
+
+    @Test
+    public void isDone() {
+        assertFalse(LoadingProgress.reading().isDone());
+        assertFalse(LoadingProgress.loaded(4, 5).isDone());
+        assertTrue(LoadingProgress.loaded(5, 5).isDone());
+        assertTrue(LoadingProgress.loaded(0, 0).isDone());
+        assertTrue(LoadingProgress.failed(4, 5).isDone());
+        assertTrue(LoadingProgress.failed(4, 5).isFailed());
+        assertFalse(LoadingProgress.loaded(5, 5).isFailed());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("reading data file", LoadingProgress.reading().toString());
+        assertEquals("4 of 5 persons loaded", LoadingProgress.loaded(4, 5).toString());
+        assertEquals("failed after 4 of 5 persons loaded", LoadingProgress.failed(4, 5).toString());
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(LoadingProgress.reading(), LoadingProgress.reading());
+        assertEquals(LoadingProgress.loaded(4, 5), LoadingProgress.loaded(4, 5));
+        assertFalse(LoadingProgress.loaded(4, 5).equals(LoadingProgress.loaded(5, 5)));
+        assertFalse(LoadingProgress.loaded(0, 0).equals(LoadingProgress.reading()));
+        assertFalse(LoadingProgress.failed(4, 5).equals(LoadingProgress.loaded(4, 5)));
+        assertFalse(LoadingProgress.reading().equals(null));
+    }
+}
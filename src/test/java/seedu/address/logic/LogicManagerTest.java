@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,20 +11,35 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -31,6 +49,7 @@ import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
@@ -88,11 +107,250 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_withoutUi_savedOnlyOnRequest() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("script.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("scriptUserPrefs.json")));
+        logic = LogicManager.withoutUi(model, storage);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertFalse(Files.exists(temporaryFolder.resolve("script.json")));
+
+        logic.save();
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        logic.shutdown();
+        assertEquals(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void save_storageThrowsIoException_throwsIoException() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json")));
+        logic = LogicManager.withoutUi(model, storage);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.save());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_addressBookUnchanged_sameSnapshot() throws Exception {
+        ReadOnlyAddressBook snapshot = logic.getAddressBookSnapshot();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertSame(snapshot, logic.getAddressBookSnapshot());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_addressBookChanged_unaffectedByLaterCommands() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        ReadOnlyAddressBook snapshot = logic.getAddressBookSnapshot();
+        assertEquals(List.of(new PersonBuilder(AMY).withTags().build()), snapshot.getPersonList());
+
+        logic.execute(DeleteCommand.COMMAND_WORD + " 1");
+        assertEquals(1, snapshot.getPersonList().size());
+        assertEquals(List.of(), logic.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_writeBehindEnabled_savedOnShutdown() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("writeBehindAddressBook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("writeBehindUserPrefs.json")));
+        model = new ModelManager(new AddressBook(), getWriteBehindUserPrefs());
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertFalse(Files.exists(addressBookFilePath)); // save is still pending
+
+        logic.shutdown();
+        ReadOnlyAddressBook savedAddressBook = addressBookStorage.readAddressBook().get();
+        assertTrue(savedAddressBook.getPersonList().contains(new PersonBuilder(AMY).withTags().build()));
+    }
+
+    @Test
+    public void shutdown_writeBehindStorageThrowsIoException_throwsIoException() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json")));
+        model = new ModelManager(new AddressBook(), getWriteBehindUserPrefs());
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand); // save failure is not known yet
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> logic.shutdown());
+    }
+
+    @Test
+    public void execute_whileLoading_onlyReadOnlyCommandsExecutedAndNothingSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("loadingAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("loadingUserPrefs.json")));
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, storage, uiTasks::add);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CountDownLatch readerReleased = new CountDownLatch(1);
+
+        logic.loadAddressBook(() -> awaitThenGet(readerReleased, TypicalPersons::getTypicalAddressBook));
+        assertCommandFailure(addCommand, CommandException.class,
+                String.format(LogicManager.MESSAGE_STILL_LOADING, LoadingProgress.reading()), new ModelManager());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertThrows(IllegalStateException.class, () -> logic.loadAddressBook(AddressBook::new));
+
+        readerReleased.countDown();
+        do {
+            uiTasks.poll(10, TimeUnit.SECONDS).run();
+        } while (!logic.getLoadingProgress().get().isDone());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookFilePath)); // loaded persons are not saved again
+
+        logic.execute(addCommand);
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_loadingFailed_commandsExecutedAndNothingSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("loadingAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("loadingUserPrefs.json")));
+        model = new ModelManager() {
+            @Override
+            public void addLoadedPersons(List<Person> persons) {
+                throw new IllegalStateException("dummy failure");
+            }
+        };
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, storage, uiTasks::add);
+
+        logic.loadAddressBook(TypicalPersons::getTypicalAddressBook);
+        do {
+            uiTasks.poll(10, TimeUnit.SECONDS).run();
+        } while (!logic.getLoadingProgress().get().isDone());
+        assertTrue(logic.getLoadingProgress().get().isFailed());
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.save();
+        logic.shutdown();
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void shutdown_whileLoading_addressBookNotSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("loadingAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("loadingUserPrefs.json")));
+        logic = new LogicManager(model, storage, unused -> { });
+        CountDownLatch readerReleased = new CountDownLatch(1);
+
+        logic.loadAddressBook(() -> awaitThenGet(readerReleased, TypicalPersons::getTypicalAddressBook));
+        model.addLoadedPersons(List.of(ALICE)); // as if the first batch had been added
+        logic.shutdown();
+        assertFalse(Files.exists(addressBookFilePath));
+        readerReleased.countDown();
+    }
+
+    @Test
+    public void executeAsync_severalCommands_executedInOrder() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> addResult = logic.executeAsync(addCommand);
+        CompletableFuture<CommandResult> deleteResult = logic.executeAsync("delete 1");
+        CompletableFuture<CommandResult> failedDeleteResult = logic.executeAsync("delete 1");
+
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, expectedPerson),
+                addResult.get().getFeedbackToUser());
+        assertEquals(String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, expectedPerson),
+                deleteResult.get().getFeedbackToUser());
+        assertThrows(CommandException.class, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, () -> {
+            try {
+                failedDeleteResult.join();
+            } catch (CompletionException ce) {
+                throw ce.getCause();
+            }
+        });
+    }
+
+    @Test
+    public void getAddressBook_commandStarted_reflectsCommand() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.executeAsync(addCommand);
+        ReadOnlyAddressBook addressBook = logic.getAddressBook();
+
+        assertEquals(List.of(new PersonBuilder(AMY).withTags().build()), addressBook.getPersonList());
+        logic.execute("clear");
+        assertEquals(1, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void setGuiSettings_validGuiSettings_setsGuiSettings() {
+        GuiSettings guiSettings = new GuiSettings(1, 2, 3, 4);
+        logic.setGuiSettings(guiSettings);
+        assertEquals(guiSettings, logic.getGuiSettings());
+        assertEquals(guiSettings, model.getGuiSettings());
+    }
+
+    @Test
+    public void getFilteredPersonList_commandsExecuted_updatedOnUiThread() throws Exception {
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("mirroredAddressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("mirroredUserPrefs.json"))), uiTasks::add);
+        ObservableList<Person> filteredPersons = logic.getFilteredPersonList();
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertTrue(filteredPersons.isEmpty()); // not replayed on the UI thread yet
+
+        uiTasks.poll(10, TimeUnit.SECONDS).run();
+        assertEquals(model.getFilteredPersonList(), filteredPersons);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    /**
+     * Waits for {@code latch} to be released, then returns the result of {@code supplier}.
+     */
+    private static <T> T awaitThenGet(CountDownLatch latch, Supplier<T> supplier) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            throw new AssertionError(ie);
+        }
+        return supplier.get();
+    }
+
+    /**
+     * Returns user prefs with write-behind saving enabled and a delay long enough that no save happens on its own
+     * during a test.
+     */
+    private UserPrefs getWriteBehindUserPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setWriteBehindEnabled(true);
+        userPrefs.setWriteBehindDelayMillis(Long.MAX_VALUE);
+        return userPrefs;
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
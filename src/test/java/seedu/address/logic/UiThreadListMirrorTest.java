@@ -0,0 +1,78 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class UiThreadListMirrorTest {
+
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3);
+    private final UiThreadListMirror<Integer> mirror = new UiThreadListMirror<>(source, uiTasks::add);
+
+    @Test
+    public void getList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> mirror.getList().remove(0));
+    }
+
+    @Test
+    public void getList_beforeReplay_unchanged() {
+        source.add(4);
+        assertEquals(List.of(1, 2, 3), mirror.getList());
+    }
+
+    @Test
+    public void getList_severalChanges_replayedInOneTask() {
+        source.add(4);
+        source.remove(0);
+        source.set(0, 5);
+        source.sort(Comparator.reverseOrder());
+        source.setAll(7, 8);
+
+        assertEquals(1, uiTasks.size());
+        uiTasks.poll().run();
+        assertEquals(source, mirror.getList());
+        assertTrue(uiTasks.isEmpty());
+    }
+
+    @Test
+    public void getList_randomChangesToFilteredList_matchesSource() {
+        Random random = new Random(42);
+        ObservableList<Integer> numbers = FXCollections.observableArrayList();
+        FilteredList<Integer> filteredNumbers = new FilteredList<>(numbers);
+        UiThreadListMirror<Integer> filteredMirror = new UiThreadListMirror<>(filteredNumbers, uiTasks::add);
+
+        for (int i = 0; i < 1000; i++) {
+            int choice = random.nextInt(5);
+            if (choice == 0 || numbers.isEmpty()) {
+                numbers.add(random.nextInt(numbers.size() + 1), random.nextInt(100));
+            } else if (choice == 1) {
+                numbers.remove(random.nextInt(numbers.size()));
+            } else if (choice == 2) {
+                numbers.set(random.nextInt(numbers.size()), random.nextInt(100));
+            } else if (choice == 3) {
+                int divisor = random.nextInt(3) + 1;
+                filteredNumbers.setPredicate(number -> number % divisor == 0);
+            } else {
+                numbers.sort(null);
+            }
+        }
+
+        while (!uiTasks.isEmpty()) {
+            uiTasks.poll().run();
+        }
+        assertEquals(filteredNumbers, filteredMirror.getList());
+    }
+}
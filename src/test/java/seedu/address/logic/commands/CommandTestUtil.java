@@ -125,4 +125,14 @@ public class CommandTestUtil {
         assertEquals(1, model.getFilteredPersonList().size());
     }
 
+    /**
+     * Deletes the first person in {@code model}'s filtered list from {@code model}'s address book
+     * and commits the change, as the {@code delete} command does.
+     */
+    public static void deleteFirstPerson(Model model) {
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        model.deletePerson(firstPerson);
+        model.commitAddressBook();
+    }
+
 }
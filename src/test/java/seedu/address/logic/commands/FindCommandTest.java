@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -52,6 +55,19 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // same count -> returns true
+        assertTrue(new FindCommand(firstPredicate, 5).equals(new FindCommand(firstPredicate, 5)));
+
+        // different count -> returns false
+        assertFalse(new FindCommand(firstPredicate, 5).equals(new FindCommand(firstPredicate, 6)));
+        assertFalse(new FindCommand(firstPredicate, 5).equals(findFirstCommand));
+    }
+
+    @Test
+    public void constructor_nonPositiveCount_throwsIllegalArgumentException() {
+        NameContainsKeywordsPredicate predicate = preparePredicate("Meier");
+        assertThrows(IllegalArgumentException.class, () -> new FindCommand(predicate, 0));
     }
 
     @Test
@@ -74,6 +90,37 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyAndPatternKeywords_personsWithSimilarNamesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("~Kruz *eye*");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_count_mostRelevantPersonsFoundFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("Daniel Meier Kurz");
+        FindCommand command = new FindCommand(predicate, 2);
+        expectedModel.updateFilteredPersonListByRank(predicate, 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // Daniel Meier matches two keywords, Benson Meier and Carl Kurz one each
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_countAboveMatches_allMatchesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz Elle Kunz");
+        FindCommand command = new FindCommand(predicate, 10);
+        expectedModel.updateFilteredPersonListByRank(predicate, 10);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
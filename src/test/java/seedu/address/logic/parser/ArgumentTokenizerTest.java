@@ -136,6 +136,42 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognized() {
+        String argsString = "SomePreambleString\tp/ tab -t\tdashT value\n";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "SomePreambleString\tp/ tab");
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
+    @Test
+    public void tokenize_prefixAtEnd_emptyValue() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("preamble p/", pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "");
+    }
+
+    @Test
+    public void tokenizeArguments_reusedTokenizer_sameResultAsTokenize() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+        String[] argsStrings = {
+            "SomePreambleString -t dashT-Value ^Q ^Q -t another dashT value p/ pSlash value -t",
+            "",
+            "Different Preamble String ^Q111 -t dashT-Value p/pSlash value",
+            unknownPrefix + "some value"
+        };
+
+        for (String argsString : argsStrings) {
+            ArgumentMultimap expected = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+            ArgumentMultimap actual = tokenizer.tokenizeArguments(argsString);
+            assertEquals(expected.getPreamble(), actual.getPreamble());
+            for (Prefix prefix : new Prefix[] {pSlash, dashT, hatQ, unknownPrefix}) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix));
+            }
+        }
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -31,9 +31,12 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSet;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.person.Address;
@@ -165,6 +168,21 @@ public class EditCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_severalIndexes_success() {
+        IndexSet targetIndexes = IndexSet.union(List.of(IndexSet.of(INDEX_FIRST_PERSON),
+                IndexSet.ofRange(INDEX_THIRD_PERSON, Index.fromOneBased(200))));
+        String userInput = "1 3-200" + PHONE_DESC_BOB + TAG_DESC_FRIEND;
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB)
+                .withTags(VALID_TAG_FRIEND).build();
+        assertParseSuccess(parser, userInput, new EditCommand(targetIndexes, descriptor));
+    }
+
+    @Test
+    public void parse_nameForSeveralIndexes_failure() {
+        assertParseFailure(parser, "1-2" + NAME_DESC_AMY, EditCommand.MESSAGE_NAME_OF_SEVERAL_PERSONS);
+    }
+
     @Test
     public void parse_multipleRepeatedFields_acceptsLast() {
         Index targetIndex = INDEX_FIRST_PERSON;
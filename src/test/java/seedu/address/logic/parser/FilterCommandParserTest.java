@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TagsMatchPredicateBuilder;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no tag expressions
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+
+        // no prefix
+        assertParseFailure(parser, " friends", MESSAGE_INVALID_FORMAT);
+
+        // non-empty preamble
+        assertParseFailure(parser, " some t/friends", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTag_failure() {
+        assertParseFailure(parser, " t/", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/friends|", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/friends t/colleagues&family", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/!!friends", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        // one tag
+        assertParseSuccess(parser, " t/friends",
+                new FilterCommand(new TagsMatchPredicateBuilder().withClause("friends").build()));
+
+        // every tag expression, each of any of its tags
+        FilterCommand expectedFilterCommand = new FilterCommand(new TagsMatchPredicateBuilder()
+                .withClause("friends", "colleagues").withClause("!owesMoney").build());
+        assertParseSuccess(parser, " t/friends|colleagues t/!owesMoney", expectedFilterCommand);
+
+        // whitespaces around tags and separators
+        assertParseSuccess(parser, " \n t/ colleagues | friends \t t/ !owesMoney  ", expectedFilterCommand);
+    }
+
+}
@@ -20,6 +20,23 @@ public class FindCommandParserTest {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // no keywords
+        assertParseFailure(parser, " top/5", expectedMessage);
+
+        // not a positive number
+        assertParseFailure(parser, "Alice top/0", expectedMessage);
+        assertParseFailure(parser, "Alice top/-1", expectedMessage);
+        assertParseFailure(parser, "Alice top/five", expectedMessage);
+        assertParseFailure(parser, "Alice top/", expectedMessage);
+
+        // more than one count
+        assertParseFailure(parser, "Alice top/5 top/6", expectedMessage);
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -29,6 +46,14 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // fuzzy keywords and patterns
+        assertParseSuccess(parser, "~alcie *lic*",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("~alcie", "*lic*"))));
+
+        // with a count
+        assertParseSuccess(parser, " Alice \t Bob top/ 10 ",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), 10));
     }
 
 }
@@ -2,17 +2,22 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_COUNT;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSet;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -56,6 +61,45 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes(WHITESPACE));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1 a"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("0-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("3-"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexes("5-3"));
+    }
+
+    @Test
+    public void parseIndexes_validInput_success() throws Exception {
+        // single index
+        assertEquals(IndexSet.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexes("  1  "));
+
+        // indexes and ranges, separated by any whitespace
+        IndexSet expectedIndexes = IndexSet.union(List.of(IndexSet.of(INDEX_FIRST_PERSON),
+                IndexSet.of(Index.fromOneBased(4)), IndexSet.ofRange(Index.fromOneBased(10), Index.fromOneBased(500))));
+        assertEquals(expectedIndexes, ParserUtil.parseIndexes("1 4" + WHITESPACE + "10-500"));
+
+        // ranges may overlap or be out of order
+        assertEquals(expectedIndexes, ParserUtil.parseIndexes("10-400 4 300-500 1 1"));
+    }
+
+    @Test
+    public void parseCount_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_COUNT, () -> ParserUtil.parseCount("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_COUNT, () -> ParserUtil.parseCount("-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_COUNT, () -> ParserUtil.parseCount("ten"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_COUNT, () -> ParserUtil.parseCount(Long.toString(
+                Integer.MAX_VALUE + 1L)));
+    }
+
+    @Test
+    public void parseCount_validInput_success() throws Exception {
+        assertEquals(10, ParserUtil.parseCount("10"));
+        assertEquals(10, ParserUtil.parseCount("  10  "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
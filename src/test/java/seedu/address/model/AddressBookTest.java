@@ -2,12 +2,15 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.ListEdit;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -54,6 +58,50 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getSnapshot_unaffectedByLaterChanges() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.getSnapshot();
+        assertSame(snapshot, addressBook.getSnapshot());
+
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(ALICE);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(BENSON), addressBook.getSnapshot().getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().add(BENSON));
+    }
+
+    @Test
+    public void getEditsSince_earlierSnapshot_onlyChangedPersons() {
+        addressBook.setPersons(getTypicalPersons());
+        ReadOnlyAddressBook earlier = addressBook.getSnapshot();
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.removePerson(ALICE);
+        ReadOnlyAddressBook later = addressBook.getSnapshot();
+
+        List<ListEdit<Person>> expectedEdits = List.of(new ListEdit<>(1, 1, List.of(editedBenson)),
+                new ListEdit<>(0, 1, List.of()));
+        assertEquals(expectedEdits, later.getEditsSince(earlier).get());
+        assertEquals(expectedEdits, addressBook.getEditsSince(earlier).get());
+        assertEquals(List.of(), later.getEditsSince(later).get());
+
+        // the edits are not known between unrelated address books, or backwards
+        assertFalse(later.getEditsSince(getTypicalAddressBook().getSnapshot()).isPresent());
+        assertFalse(later.getEditsSince(new AddressBookStub(getTypicalPersons())).isPresent());
+        assertFalse(earlier.getEditsSince(later).isPresent());
+    }
+
+    @Test
+    public void getSnapshot_otherReadOnlyAddressBook_copied() {
+        AddressBookStub stub = new AddressBookStub(List.of(ALICE));
+        ReadOnlyAddressBook snapshot = stub.getSnapshot();
+        stub.getPersonList().add(BENSON);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertFalse(snapshot.getEditsSince(snapshot).isPresent());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
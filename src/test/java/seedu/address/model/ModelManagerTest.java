@@ -7,16 +7,29 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonGenerator;
+import seedu.address.testutil.TagsMatchPredicateBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +106,201 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void addPerson_activeFilter_filterKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice", "Daniel")));
+
+        // person not matching the filter -> not shown
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        // person matching the filter -> shown
+        modelManager.addPerson(DANIEL);
+        assertEquals(List.of(ALICE, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredPersonListByName(null));
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_variousKeywords_sameAsLinearScan() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<List<String>> keywordLists = List.of(
+                List.of(),
+                List.of("Meier"),
+                List.of("mEIER", "alice"),
+                List.of("Kurz", "Elle", "Kunz"),
+                List.of("Ali", "Paul", "Pauline"),
+                List.of("Meier", "Meier", "Hoon"),
+                List.of("nobody"),
+                List.of("~alcie", "~Meir"),
+                List.of("~kruz", "~Danile", "~al"),
+                List.of("*lic*", "Me*r", "*e"),
+                List.of("*E*", "~", "*", "~Al*"));
+
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            List<Person> expected = modelManager.getAddressBook().getPersonList().stream()
+                    .filter(predicate)
+                    .collect(Collectors.toList());
+
+            modelManager.updateFilteredPersonListByName(predicate);
+            assertEquals(expected, modelManager.getFilteredPersonList(), "keywords: " + keywords);
+        }
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_addressBookModified_filterReflectsModifications() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(List.of("Meier", "Zed")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // edited person no longer matches
+        Person renamedDaniel = new PersonBuilder(DANIEL).withName("Daniel Zeller").build();
+        modelManager.setPerson(DANIEL, renamedDaniel);
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        // edited person now matches
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Zed").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(renamedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        // deleted person no longer shown
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(renamedAlice), modelManager.getFilteredPersonList());
+
+        // address book replaced
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(BENSON).build());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByRank_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredPersonListByRank(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> modelManager.updateFilteredPersonListByRank(
+                new NameContainsKeywordsPredicate(List.of("Alice")), -1));
+    }
+
+    @Test
+    public void updateFilteredPersonListByRank_generatedPersons_sameAsSortingAllMatches() {
+        modelManager = new ModelManager(new PersonGenerator().nextAddressBook(3000), new UserPrefs());
+        List<List<String>> keywordLists = List.of(
+                List.of(PersonGenerator.FIRST_NAMES[0]),
+                List.of(PersonGenerator.FIRST_NAMES[1], PersonGenerator.FIRST_NAMES[2], "~" + PersonGenerator.TAGS[0]),
+                List.of("*a*", PersonGenerator.FIRST_NAMES[3] + "*"),
+                List.of("~" + PersonGenerator.FIRST_NAMES[4]));
+
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            List<Person> expected = modelManager.getAddressBook().getPersonList().stream()
+                    .filter(predicate)
+                    .sorted(Comparator.comparingInt(predicate::score).reversed())
+                    .limit(20)
+                    .collect(Collectors.toList());
+
+            modelManager.updateFilteredPersonListByRank(predicate, 20);
+            assertEquals(expected, modelManager.getFilteredPersonList(), "keywords: " + keywords);
+        }
+    }
+
+    @Test
+    public void updateFilteredPersonListByRank_addressBookModified_rankedPersonsKept() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonListByRank(
+                new NameContainsKeywordsPredicate(List.of("Daniel", "Meier", "Kurz")), 2);
+        assertEquals(Arrays.asList(DANIEL, BENSON), modelManager.getFilteredPersonList());
+
+        // edited person kept in place
+        Person friendlyBenson = new PersonBuilder(BENSON).withTags("friends").build();
+        modelManager.setPerson(BENSON, friendlyBenson);
+        assertEquals(Arrays.asList(DANIEL, friendlyBenson), modelManager.getFilteredPersonList());
+
+        // added person not shown, even if it would rank higher
+        Person danielKurz = new PersonBuilder(CARL).withName("Daniel Kurz").build();
+        modelManager.addPerson(danielKurz);
+        assertEquals(Arrays.asList(DANIEL, friendlyBenson), modelManager.getFilteredPersonList());
+
+        // renamed person no longer shown
+        modelManager.setPerson(DANIEL, new PersonBuilder(DANIEL).withName("Daniel Zeller").build());
+        assertEquals(Arrays.asList(friendlyBenson), modelManager.getFilteredPersonList());
+
+        // deleted person no longer shown
+        modelManager.deletePerson(friendlyBenson);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // next filter shows persons in address book order again
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Elle", "Meyer", "Kurz"));
+        modelManager.updateFilteredPersonListByRank(predicate, 3);
+        assertEquals(Arrays.asList(ELLE, CARL, danielKurz), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(CARL, ELLE, danielKurz), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByTags_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredPersonListByTags(null));
+    }
+
+    @Test
+    public void updateFilteredPersonListByTags_randomTagCombinations_sameAsLinearScan() {
+        PersonGenerator generator = new PersonGenerator();
+        modelManager = new ModelManager(generator.nextAddressBook(5000), new UserPrefs());
+        Random random = new Random(PersonGenerator.DEFAULT_SEED);
+
+        for (int round = 0; round < 50; round++) {
+            TagsMatchPredicateBuilder builder = new TagsMatchPredicateBuilder();
+            for (int clauses = 1 + random.nextInt(3); clauses > 0; clauses--) {
+                String[] tagNames = new String[1 + random.nextInt(3)];
+                for (int i = 0; i < tagNames.length; i++) {
+                    String tagName = PersonGenerator.TAGS[random.nextInt(PersonGenerator.TAGS.length)];
+                    tagNames[i] = random.nextInt(3) == 0 ? TagsMatchPredicateBuilder.NEGATION + tagName : tagName;
+                }
+                builder.withClause(tagNames);
+            }
+            TagsMatchPredicate predicate = builder.build();
+            List<Person> expected = modelManager.getAddressBook().getPersonList().stream()
+                    .filter(predicate)
+                    .collect(Collectors.toList());
+
+            modelManager.updateFilteredPersonListByTags(predicate);
+            assertEquals(expected, modelManager.getFilteredPersonList(), "clauses: " + predicate);
+
+            // interleave changes, so that later rounds also cover reused slots
+            Person removed = modelManager.getAddressBook().getPersonList().get(random.nextInt(1000));
+            modelManager.deletePerson(removed);
+            modelManager.addPerson(generator.next());
+        }
+    }
+
+    @Test
+    public void updateFilteredPersonListByTags_addressBookModified_filterReflectsModifications() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonListByTags(new TagsMatchPredicateBuilder()
+                .withClause("friends").withClause("!owesMoney").build());
+        assertEquals(Arrays.asList(ALICE, DANIEL), modelManager.getFilteredPersonList());
+
+        // edited person no longer matches
+        Person owingDaniel = new PersonBuilder(DANIEL).withTags("friends", "owesMoney").build();
+        modelManager.setPerson(DANIEL, owingDaniel);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // edited person now matches
+        Person friendlyBenson = new PersonBuilder(BENSON).withTags("friends").build();
+        modelManager.setPerson(BENSON, friendlyBenson);
+        assertEquals(Arrays.asList(ALICE, friendlyBenson), modelManager.getFilteredPersonList());
+
+        // deleted person no longer shown
+        modelManager.deletePerson(ALICE);
+        assertEquals(Arrays.asList(friendlyBenson), modelManager.getFilteredPersonList());
+
+        // address book replaced
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
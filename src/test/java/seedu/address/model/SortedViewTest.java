@@ -0,0 +1,117 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SortedViewTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("d", "a", "c", "b");
+    private final SortedView<String> view = new SortedView<>(source);
+
+    @Test
+    public void unsorted_sameAsSource() {
+        assertNull(view.getComparator());
+        assertEquals(source, view);
+        assertEquals(2, view.getSourceIndex(2));
+        assertEquals(2, view.getViewIndex(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.getSourceIndex(4));
+    }
+
+    @Test
+    public void setComparator_sortsUntilCleared() {
+        view.setComparator(Comparator.naturalOrder());
+        assertEquals(List.of("a", "b", "c", "d"), view);
+        assertEquals(0, view.getSourceIndex(3));
+        assertEquals(3, view.getViewIndex(0));
+
+        view.setComparator(Comparator.reverseOrder());
+        assertEquals(List.of("d", "c", "b", "a"), view);
+
+        view.setComparator(null);
+        assertEquals(List.of("d", "a", "c", "b"), view);
+    }
+
+    @Test
+    public void setComparator_equalElements_keptInSourceOrder() {
+        source.setAll("bb", "a", "cc", "d", "aa");
+        view.setComparator(Comparator.comparingInt(String::length));
+        assertEquals(List.of("a", "d", "bb", "cc", "aa"), view);
+    }
+
+    @Test
+    public void sourceChanged_sorted_viewSortedAgain() {
+        view.setComparator(Comparator.naturalOrder());
+        source.add("e");
+        source.remove("a");
+        source.set(0, "0");
+        assertEquals(List.of("0", "b", "c", "e"), view);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_listenerSeesSameElements() {
+        Random random = new Random(2);
+        List<String> seenByListener = new ArrayList<>(view);
+        view.addListener((ListChangeListener<String>) change -> applyChange(change, seenByListener));
+
+        for (int i = 0; i < 500; i++) {
+            switch (random.nextInt(6)) {
+            case 0:
+                source.add(random.nextInt(source.size() + 1), String.valueOf(random.nextInt(100)));
+                break;
+            case 1:
+                if (!source.isEmpty()) {
+                    source.remove(random.nextInt(source.size()));
+                }
+                break;
+            case 2:
+                if (!source.isEmpty()) {
+                    source.set(random.nextInt(source.size()), String.valueOf(random.nextInt(100)));
+                }
+                break;
+            case 3:
+                FXCollections.sort(source);
+                break;
+            case 4:
+                view.setComparator(random.nextBoolean() ? Comparator.reverseOrder() : null);
+                break;
+            default:
+                source.setAll(new ArrayList<>(source.subList(0, source.size() / 2)));
+                break;
+            }
+            assertEquals(view, seenByListener);
+        }
+    }
+
+    /**
+     * Applies {@code change} to {@code list}, which held the elements of the changed list before the change.
+     */
+    private static <E> void applyChange(ListChangeListener.Change<? extends E> change, List<E> list) {
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                List<E> permuted = new ArrayList<>(list);
+                for (int i = from; i < to; i++) {
+                    permuted.set(change.getPermutation(i), list.get(i));
+                }
+                list.clear();
+                list.addAll(permuted);
+            } else {
+                list.subList(from, from + change.getRemovedSize()).clear();
+                list.addAll(from, change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -18,4 +18,23 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setWriteBehindDelayMillis_negativeDelay_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setWriteBehindDelayMillis(-1));
+    }
+
+    @Test
+    public void setUndoHistorySize_negativeSize_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistorySize(-1));
+    }
+
+    @Test
+    public void setCommandServerPort_invalidPort_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setCommandServerPort(-1));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setCommandServerPort(65536));
+    }
+
 }
@@ -0,0 +1,202 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMutation;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private static final int HISTORY_SIZE = 3;
+
+    private final VersionedAddressBook versionedAddressBook =
+            new VersionedAddressBook(getTypicalAddressBook(), HISTORY_SIZE);
+
+    @Test
+    public void constructor_negativeHistorySize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), -1));
+    }
+
+    @Test
+    public void constructor_validInitialState_nothingToUndoOrRedo() {
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_noCommittedState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+    }
+
+    @Test
+    public void redo_noUndoneState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undoAndRedo_eachKindOfChange_restoresStates() {
+        AddressBook initialState = getTypicalAddressBook();
+
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+        AddressBook afterAdd = new AddressBook(versionedAddressBook);
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("12345678").build();
+        versionedAddressBook.setPerson(CARL, editedCarl);
+        versionedAddressBook.commit();
+        AddressBook afterEdit = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        AddressBook afterRemove = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.resetData(new AddressBook());
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(afterRemove, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(afterEdit, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(afterAdd, versionedAddressBook);
+
+        // oldest commit has been forgotten
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(initialState.equals(versionedAddressBook));
+
+        versionedAddressBook.redo();
+        assertEquals(afterEdit, versionedAddressBook);
+        versionedAddressBook.redo();
+        assertEquals(afterRemove, versionedAddressBook);
+        versionedAddressBook.redo();
+        assertEquals(new AddressBook(), versionedAddressBook);
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_removedPerson_restoredAtOriginalPosition() {
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook().getPersonList(), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_severalChangesInOneCommit_allChangesUndone() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+    }
+
+    @Test
+    public void undoAndRedo_addedPersons_restoresStates() {
+        versionedAddressBook.addPersons(List.of(HOON, IDA));
+        versionedAddressBook.commit();
+        AddressBook stateWithAddedPersons = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        versionedAddressBook.redo();
+        assertEquals(stateWithAddedPersons, versionedAddressBook);
+    }
+
+    @Test
+    public void undoAndRedo_batch_restoresStates() {
+        versionedAddressBook.applyBatch(List.of(PersonMutation.remove(ALICE), PersonMutation.add(HOON)));
+        versionedAddressBook.commit();
+        AddressBook stateAfterBatch = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+        versionedAddressBook.redo();
+        assertEquals(stateAfterBatch, versionedAddressBook);
+    }
+
+    @Test
+    public void undo_severalChangesInOneCommit_singleChangeToPersonList() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags().build());
+        versionedAddressBook.commit();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        versionedAddressBook.undo();
+        assertEquals(1, changes.size());
+        versionedAddressBook.redo();
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void addInitialPersons_noChanges_cannotBeUndone() {
+        versionedAddressBook.addInitialPersons(List.of(HOON, IDA));
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.hasPerson(IDA));
+    }
+
+    @Test
+    public void addInitialPersons_afterChanges_throwsIllegalStateException() {
+        versionedAddressBook.addPerson(HOON);
+        assertThrows(IllegalStateException.class, () -> versionedAddressBook.addInitialPersons(List.of(IDA)));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_uncommittedChangesDiscarded() {
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(ALICE);
+
+        versionedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), versionedAddressBook);
+    }
+
+    @Test
+    public void commit_afterUndo_redoHistoryDiscarded() {
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.canRedo());
+
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_zeroHistorySize_nothingToUndo() {
+        VersionedAddressBook unversionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(ALICE).build(), 0);
+        unversionedAddressBook.addPerson(BENSON);
+        unversionedAddressBook.commit();
+        assertFalse(unversionedAddressBook.canUndo());
+    }
+}
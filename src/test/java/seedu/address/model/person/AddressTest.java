@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,17 @@ public class AddressTest {
         assertThrows(IllegalArgumentException.class, () -> new Address(invalidAddress));
     }
 
+    @Test
+    public void ofValidated_validValue_equalsConstructed() {
+        assertEquals(new Address("Blk 456, Den Road, #01-355"), Address.ofValidated("Blk 456, Den Road, #01-355"));
+    }
+
+    @Test
+    public void ofValidated_invalidValue_throwsAssertionError() {
+        // values are only checked when assertions are enabled, as they are for tests
+        assertThrows(AssertionError.class, () -> Address.ofValidated(" "));
+    }
+
     @Test
     public void isValidAddress() {
         // null address
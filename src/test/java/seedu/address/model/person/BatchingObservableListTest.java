@@ -0,0 +1,131 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchingObservableListTest {
+
+    private final BatchingObservableList<Integer> list = new BatchingObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    {
+        list.addListener((ListChangeListener<Integer>) change -> changes.add(describe(change)));
+    }
+
+    @Test
+    public void addAll_atIndex_singleAddition() {
+        list.addAll(List.of(1, 4));
+        list.addAll(1, List.of(2, 3));
+        assertEquals(List.of(1, 2, 3, 4), list);
+        assertEquals(List.of("+[1, 4]@0", "+[2, 3]@1"), changes);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(5, List.of(5)));
+    }
+
+    @Test
+    public void removeRange_middle_singleRemoval() {
+        list.addAll(List.of(1, 2, 3, 4));
+        list.remove(1, 3);
+        assertEquals(List.of(1, 4), list);
+        assertEquals("-[2, 3]@1", changes.get(1));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals("-[1, 4]@0", changes.get(2));
+    }
+
+    @Test
+    public void batchChanges_nestedBatches_singleChange() {
+        list.addAll(List.of(1, 2, 3));
+        changes.clear();
+
+        list.batchChanges(() -> {
+            list.add(4);
+            list.batchChanges(() -> list.remove(0));
+            list.set(0, 5);
+            assertTrue(changes.isEmpty());
+        });
+        assertEquals(List.of(5, 3, 4), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void batchChanges_changesThrow_listenersStillNotified() {
+        assertThrows(IllegalStateException.class, () -> list.batchChanges(() -> {
+            list.add(1);
+            throw new IllegalStateException();
+        }));
+        assertEquals(List.of("+[1]@0"), changes);
+    }
+
+    @Test
+    public void getVersion_afterChanges_matchesListAndUnaffectedByLaterChanges() {
+        list.addAll(List.of(1, 2, 3, 4, 5));
+        list.add(2, 9);
+        list.set(0, 8);
+        list.remove(1, 3);
+        List<Integer> version = list.getVersion();
+        assertEquals(list, version);
+
+        list.setAll(6, 7);
+        list.sort(null);
+        assertEquals(List.of(8, 3, 4, 5), version);
+        assertEquals(list, list.getVersion());
+    }
+
+    @Test
+    public void getRevision_afterChanges_editsLeadFromEarlierContents() {
+        list.addAll(List.of(1, 2, 3, 4, 5));
+        ListRevision<Integer> revision = list.getRevision();
+        List<Integer> earlierContents = new ArrayList<>(list);
+
+        list.add(2, 9);
+        list.set(0, 8);
+        list.remove(1, 3);
+        list.setAll(6, 7, 8);
+        list.sort(null);
+        list.remove(Integer.valueOf(7));
+
+        List<ListEdit<Integer>> edits = revision.getEditsTo(list.getRevision()).get();
+        assertEquals(new ListEdit<>(2, 0, List.of(9)), edits.get(0));
+        assertEquals(new ListEdit<>(0, 1, List.of(8)), edits.get(1));
+        assertEquals(new ListEdit<>(1, 2, List.of()), edits.get(2));
+        for (ListEdit<Integer> edit : edits) {
+            edit.applyTo(earlierContents);
+        }
+        assertEquals(list, earlierContents);
+    }
+
+    @Test
+    public void getRevision_notLaterRevision_editsUnknown() {
+        ListRevision<Integer> revision = list.getRevision();
+        list.add(1);
+        assertEquals(List.of(), list.getRevision().getEditsTo(list.getRevision()).get());
+        assertFalse(list.getRevision().getEditsTo(revision).isPresent());
+        assertFalse(revision.getEditsTo(new BatchingObservableList<Integer>().getRevision()).isPresent());
+    }
+
+    /**
+     * Returns a short description of the additions and removals in {@code change}.
+     */
+    private static String describe(ListChangeListener.Change<? extends Integer> change) {
+        StringBuilder description = new StringBuilder();
+        while (change.next()) {
+            if (change.wasRemoved()) {
+                description.append("-").append(change.getRemoved()).append("@").append(change.getFrom());
+            }
+            if (change.wasAdded()) {
+                description.append("+").append(change.getAddedSubList()).append("@").append(change.getFrom());
+            }
+        }
+        return description.toString();
+    }
+}
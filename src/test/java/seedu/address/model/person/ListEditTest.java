@@ -0,0 +1,61 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListEditTest {
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new ListEdit<>(0, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new ListEdit<>(-1, 0, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new ListEdit<>(0, -1, List.of()));
+    }
+
+    @Test
+    public void constructor_addedElementsCopied() {
+        List<String> added = new ArrayList<>(List.of("a"));
+        ListEdit<String> edit = new ListEdit<>(0, 0, added);
+        added.add("b");
+        assertEquals(List.of("a"), edit.getAddedElements());
+        assertThrows(UnsupportedOperationException.class, () -> edit.getAddedElements().add("c"));
+    }
+
+    @Test
+    public void applyTo_validEdit_rangeReplaced() {
+        List<String> list = new ArrayList<>(List.of("a", "b", "c", "d"));
+        new ListEdit<>(1, 2, List.of("x")).applyTo(list);
+        assertEquals(List.of("a", "x", "d"), list);
+
+        new ListEdit<>(3, 0, List.of("y", "z")).applyTo(list);
+        assertEquals(List.of("a", "x", "d", "y", "z"), list);
+
+        new ListEdit<String>(0, 5, List.of()).applyTo(list);
+        assertEquals(List.of(), list);
+    }
+
+    @Test
+    public void applyTo_outsideList_throwsIndexOutOfBoundsException() {
+        List<String> list = new ArrayList<>(List.of("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> new ListEdit<>(1, 2, List.of("x")).applyTo(list));
+        assertThrows(IndexOutOfBoundsException.class, () -> new ListEdit<>(3, 0, List.of("x")).applyTo(list));
+        assertEquals(List.of("a", "b"), list);
+    }
+
+    @Test
+    public void equals() {
+        ListEdit<String> edit = new ListEdit<>(1, 2, List.of("x"));
+        assertEquals(edit, new ListEdit<>(1, 2, List.of("x")));
+        assertEquals(edit.hashCode(), new ListEdit<>(1, 2, List.of("x")).hashCode());
+        assertNotEquals(edit, new ListEdit<>(0, 2, List.of("x")));
+        assertNotEquals(edit, new ListEdit<>(1, 1, List.of("x")));
+        assertNotEquals(edit, new ListEdit<>(1, 2, List.of("y")));
+        assertNotEquals(edit, null);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -55,6 +56,14 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Fuzzy keyword with a typo
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("~alcie"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Pattern matching part of a word
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("*LIC*"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Alice").build()));
     }
 
     @Test
@@ -67,9 +76,43 @@ public class NameContainsKeywordsPredicateTest {
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("Carol"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
 
+        // Fuzzy keyword with too many typos, and pattern matching part of a word only
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("~alcei", "lic*"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
         // Keywords match phone, email and address, but does not match name
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("12345", "alice@email.com", "Main", "Street"));
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void score_variousMatches_closerMatchesScoreHigher() {
+        Person alicePauline = new PersonBuilder().withName("Alice Pauline").withTags().build();
+        Person aliceBob = new PersonBuilder().withName("Alice Bob").withTags().build();
+        Person alicent = new PersonBuilder().withName("Alicent Bob").withTags().build();
+        Person alcie = new PersonBuilder().withName("Alcie Bob").withTags().build();
+        Person taggedBob = new PersonBuilder().withName("Bob").withTags("alice").build();
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("alice", "pauline"));
+        // full name > more keywords > exact word > word with keyword as prefix > matching tag
+        assertTrue(predicate.score(alicePauline) > predicate.score(aliceBob));
+        assertTrue(predicate.score(aliceBob) > predicate.score(alicent));
+        assertTrue(predicate.score(alicent) > predicate.score(taggedBob));
+        assertEquals(NameContainsKeywordsPredicate.FULL_NAME_SCORE + 2 * 4 * NameContainsKeywordsPredicate.NAME_WEIGHT,
+                predicate.score(alicePauline));
+
+        // fuzzy keyword: exact word > word with keyword as prefix > similar word
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("~alice"));
+        assertTrue(predicate.score(aliceBob) > predicate.score(alicent));
+        assertTrue(predicate.score(alicent) > predicate.score(alcie));
+        assertTrue(predicate.score(alcie) > 0);
+
+        // keywords in a different order -> not the full name
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("pauline", "alice"));
+        assertTrue(predicate.score(alicePauline) < NameContainsKeywordsPredicate.FULL_NAME_SCORE);
+
+        // no match
+        assertEquals(0, predicate.score(new PersonBuilder().withName("Carol").withTags().build()));
+    }
 }
@@ -0,0 +1,184 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class NameKeywordTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> NameKeyword.of(null));
+    }
+
+    @Test
+    public void of_variousKeywords_kindAndFoldedWord() {
+        assertKeyword(NameKeyword.Kind.EXACT, "alice", NameKeyword.of("ALICE"));
+        assertKeyword(NameKeyword.Kind.FUZZY, "alcie", NameKeyword.of("~Alcie"));
+        assertKeyword(NameKeyword.Kind.PATTERN, "*lic*", NameKeyword.of("*LIC*"));
+        assertKeyword(NameKeyword.Kind.PATTERN, "a*e", NameKeyword.of(" a*e "));
+
+        // not made up of letters and digits -> exact
+        assertKeyword(NameKeyword.Kind.EXACT, "~", NameKeyword.of("~"));
+        assertKeyword(NameKeyword.Kind.EXACT, "*", NameKeyword.of("*"));
+        assertKeyword(NameKeyword.Kind.EXACT, "~al*", NameKeyword.of("~al*"));
+        assertKeyword(NameKeyword.Kind.EXACT, "a-*", NameKeyword.of("a-*"));
+        assertKeyword(NameKeyword.Kind.EXACT, "a~", NameKeyword.of("a~"));
+    }
+
+    @Test
+    public void maxEditsFor() {
+        assertEquals(0, NameKeyword.maxEditsFor(2));
+        assertEquals(1, NameKeyword.maxEditsFor(3));
+        assertEquals(1, NameKeyword.maxEditsFor(5));
+        assertEquals(2, NameKeyword.maxEditsFor(6));
+        assertEquals(2, NameKeyword.of("~alexandra").getMaxEdits());
+        assertEquals(0, NameKeyword.of("alexandra").getMaxEdits());
+    }
+
+    @Test
+    public void matchesFolded_fuzzy() {
+        NameKeyword keyword = NameKeyword.of("~alice");
+        assertTrue(keyword.matchesFolded("alice"));
+        assertTrue(keyword.matchesFolded("alcie")); // swapped
+        assertTrue(keyword.matchesFolded("alce")); // missing
+        assertTrue(keyword.matchesFolded("allice")); // extra
+        assertTrue(keyword.matchesFolded("alise")); // wrong
+        assertFalse(keyword.matchesFolded("alcei"));
+        assertFalse(keyword.matchesFolded("al"));
+
+        // two edits allowed from 6 characters
+        assertTrue(NameKeyword.of("~daniel").matchesFolded("danl"));
+        assertTrue(NameKeyword.of("~daniel").matchesFolded("dnaiel"));
+        assertFalse(NameKeyword.of("~daniel").matchesFolded("dan"));
+
+        // no edits allowed from 2 characters
+        assertTrue(NameKeyword.of("~al").matchesFolded("al"));
+        assertFalse(NameKeyword.of("~al").matchesFolded("a"));
+    }
+
+    @Test
+    public void matchesFolded_pattern() {
+        assertTrue(NameKeyword.of("*lic*").matchesFolded("alice"));
+        assertTrue(NameKeyword.of("*lic*").matchesFolded("lic"));
+        assertFalse(NameKeyword.of("*lic*").matchesFolded("alce"));
+        assertTrue(NameKeyword.of("ali*").matchesFolded("alice"));
+        assertFalse(NameKeyword.of("ali*").matchesFolded("balice"));
+        assertTrue(NameKeyword.of("*ce").matchesFolded("alice"));
+        assertFalse(NameKeyword.of("*ce").matchesFolded("alices"));
+        assertTrue(NameKeyword.of("a*i*e").matchesFolded("alice"));
+        assertTrue(NameKeyword.of("a**e").matchesFolded("ae"));
+        assertTrue(NameKeyword.of("*a*a").matchesFolded("abaca"));
+        assertFalse(NameKeyword.of("*a*a").matchesFolded("abacab"));
+    }
+
+    @Test
+    public void matchesAnyWordOf() {
+        assertTrue(NameKeyword.of("~meir").matchesAnyWordOf("Benson Meier"));
+        assertTrue(NameKeyword.of("BEN*").matchesAnyWordOf("Benson Meier"));
+        assertTrue(NameKeyword.of("benson").matchesAnyWordOf("Benson  Meier"));
+        assertFalse(NameKeyword.of("*eir").matchesAnyWordOf("Benson Meier"));
+        assertFalse(NameKeyword.of("benson meier").matchesAnyWordOf("Benson Meier"));
+    }
+
+    @Test
+    public void closenessTo() {
+        NameKeyword.Closeness exact = NameKeyword.Closeness.EXACT;
+        NameKeyword.Closeness prefix = NameKeyword.Closeness.PREFIX;
+        NameKeyword.Closeness similar = NameKeyword.Closeness.SIMILAR;
+        NameKeyword.Closeness none = NameKeyword.Closeness.NONE;
+
+        assertEquals(exact, NameKeyword.of("Alice").closenessTo("alice"));
+        assertEquals(prefix, NameKeyword.of("Alice").closenessTo("alices"));
+        assertEquals(none, NameKeyword.of("Alice").closenessTo("alcie"));
+
+        assertEquals(exact, NameKeyword.of("~alice").closenessTo("alice"));
+        assertEquals(prefix, NameKeyword.of("~alice").closenessTo("alicent"));
+        assertEquals(similar, NameKeyword.of("~alice").closenessTo("alcie"));
+        assertEquals(none, NameKeyword.of("~alice").closenessTo("bob"));
+
+        // patterns never match exactly, and only match as a prefix if they do not start with *
+        assertEquals(prefix, NameKeyword.of("al*e").closenessTo("alice"));
+        assertEquals(prefix, NameKeyword.of("al*e").closenessTo("alicia"));
+        assertEquals(similar, NameKeyword.of("*lic*").closenessTo("alice"));
+        assertEquals(none, NameKeyword.of("*lic*").closenessTo("bob"));
+
+        assertTrue(exact.getScore() > prefix.getScore());
+        assertTrue(prefix.getScore() > similar.getScore());
+        assertTrue(similar.getScore() > none.getScore());
+    }
+
+    @Test
+    public void foldedWordsOf() {
+        assertEquals(List.of("alice", "pauline"), NameKeyword.foldedWordsOf(" ALICE \t Pauline "));
+        assertEquals(List.of(), NameKeyword.foldedWordsOf(""));
+    }
+
+    @Test
+    public void isWithinEdits_randomWords_sameAsFullDistanceTable() {
+        Random random = new Random(3);
+        for (int i = 0; i < 20000; i++) {
+            String source = randomWord(random);
+            String target = randomWord(random);
+            int distance = optimalStringAlignmentDistance(source, target);
+            for (int maxEdits = 0; maxEdits <= 3; maxEdits++) {
+                assertEquals(distance <= maxEdits, NameKeyword.isWithinEdits(source, target, maxEdits),
+                        source + " " + target + " " + maxEdits);
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        NameKeyword keyword = NameKeyword.of("~alice");
+        assertTrue(keyword.equals(NameKeyword.of("~ALICE")));
+        assertFalse(keyword.equals(NameKeyword.of("alice")));
+        assertFalse(keyword.equals(NameKeyword.of("~alise")));
+        assertFalse(keyword.equals(null));
+        assertEquals(keyword.hashCode(), NameKeyword.of("~ALICE").hashCode());
+        assertEquals("~alice", keyword.toString());
+    }
+
+    private static void assertKeyword(NameKeyword.Kind expectedKind, String expectedWord, NameKeyword keyword) {
+        assertEquals(expectedKind, keyword.getKind());
+        assertEquals(expectedWord, keyword.getWord());
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = random.nextInt(7);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+
+    /**
+     * Computes the optimal string alignment distance between {@code source} and {@code target} with the whole table.
+     */
+    private static int optimalStringAlignmentDistance(String source, String target) {
+        int[][] distances = new int[source.length() + 1][target.length() + 1];
+        for (int i = 0; i <= source.length(); i++) {
+            for (int j = 0; j <= target.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                    continue;
+                }
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                distances[i][j] = Math.min(distances[i - 1][j - 1] + cost,
+                        Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2)
+                        && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    distances[i][j] = Math.min(distances[i][j], distances[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return distances[source.length()][target.length()];
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,17 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofValidated_validValue_equalsConstructed() {
+        assertEquals(new Name("Peter Jack"), Name.ofValidated("Peter Jack"));
+    }
+
+    @Test
+    public void ofValidated_invalidValue_throwsAssertionError() {
+        // values are only checked when assertions are enabled, as they are for tests
+        assertThrows(AssertionError.class, () -> Name.ofValidated(""));
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -0,0 +1,138 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private static final List<String> KEYWORDS = List.of("~alcie", "~bob", "~ab", "~abcdef", "~baacb", "*lic*",
+            "a*", "*a", "*b*", "ab*c", "*aa*", "*abca*", "*c*a*", "ba*ab*", "~aaaaaaaa", "~cabbage");
+
+    private final NameTokenIndex index = new NameTokenIndex();
+
+    @Test
+    public void namesMatching_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.namesMatching(null));
+    }
+
+    @Test
+    public void namesMatching_variousKeywords() {
+        Name alice = new Name("Alice Pauline");
+        Name felicia = new Name("Felicia Alison");
+        Name bob = new Name("Bob Choo");
+        List.of(alice, felicia, bob).forEach(index::add);
+
+        assertEquals(Set.of(alice, felicia), index.namesMatching(NameKeyword.of("*lic*")));
+        assertEquals(Set.of(alice, felicia), index.namesMatching(NameKeyword.of("al*")));
+        assertEquals(Set.of(alice), index.namesMatching(NameKeyword.of("~alcie")));
+        assertEquals(Set.of(alice), index.namesMatching(NameKeyword.of("~pualine")));
+        assertEquals(Set.of(bob), index.namesMatching(NameKeyword.of("~cho")));
+        assertEquals(Set.of(bob), index.namesMatching(NameKeyword.of("BOB")));
+        assertEquals(Set.of(), index.namesMatching(NameKeyword.of("~alcei")));
+        assertEquals(Set.of(), index.namesMatching(NameKeyword.of("*lic")));
+    }
+
+    @Test
+    public void containsAnyOf_fuzzyKeyword_reflectsLaterChanges() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person alison = new PersonBuilder().withName("Alison Felice").build();
+        index.add(alice.getName());
+        Predicate<Person> predicate = index.containsAnyOf(List.of("~alcie", "Choo"));
+        assertTrue(predicate.test(alice));
+        assertFalse(predicate.test(alison));
+
+        index.add(alison.getName());
+        assertFalse(predicate.test(alison));
+        index.remove(alison.getName());
+        index.add(new Name("Alison Alcie"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alison Alcie").build()));
+
+        index.remove(alice.getName());
+        assertFalse(predicate.test(alice));
+        index.clear();
+        assertFalse(predicate.test(new PersonBuilder().withName("Alison Alcie").build()));
+    }
+
+    @Test
+    public void namesMatching_randomChanges_sameAsLinearScan() {
+        Random random = new Random(11);
+        List<Name> names = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
+        for (int i = 0; i < 6000; i++) {
+            boolean isAdding = names.isEmpty() || random.nextInt(3) > 0;
+            if (isAdding) {
+                Name name = new Name(randomWord(random) + " " + randomWord(random));
+                if (usedNames.add(name.fullName)) {
+                    names.add(name);
+                    index.add(name);
+                }
+            } else {
+                Name name = names.remove(random.nextInt(names.size()));
+                usedNames.remove(name.fullName);
+                index.remove(name);
+            }
+
+            if (i % 500 == 0) {
+                assertSameAsLinearScan(names);
+            }
+        }
+        assertSameAsLinearScan(names);
+    }
+
+    @Test
+    public void namesMatching_manyWordsRemoved_stillMatchesRemainingWords() {
+        List<Name> names = new ArrayList<>();
+        for (int i = 0; i < 3 * NameTokenIndex.MIN_REMOVED_WORDS; i++) {
+            Name name = new Name("Alice" + i + " Zed" + i);
+            names.add(name);
+            index.add(name);
+        }
+        // removes enough words for the trigram index to be rebuilt, then adds some back
+        names.subList(10, names.size()).forEach(index::remove);
+        index.add(names.get(100));
+
+        List<Name> remainingNames = new ArrayList<>(names.subList(0, 10));
+        remainingNames.add(names.get(100));
+
+        assertEquals(Set.of(names.get(1), names.get(100)), index.namesMatching(NameKeyword.of("zed1*")));
+        assertEquals(Set.of(names.get(3)), index.namesMatching(NameKeyword.of("~zde3")));
+        assertEquals(new HashSet<>(remainingNames), index.namesMatching(NameKeyword.of("*e*")));
+        assertSameAsLinearScan(remainingNames);
+    }
+
+    private void assertSameAsLinearScan(List<Name> names) {
+        for (String keyword : KEYWORDS) {
+            NameKeyword nameKeyword = NameKeyword.of(keyword);
+            Set<Name> expected = names.stream()
+                    .filter(name -> nameKeyword.matchesAnyWordOf(name.fullName))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, index.namesMatching(nameKeyword), keyword);
+        }
+    }
+
+    /**
+     * Returns a word of up to 8 letters, which are mostly a, b or c so that words are often similar.
+     */
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            word.append(random.nextInt(10) == 0 ? (char) ('a' + random.nextInt(26)) : (char) ('a' + random.nextInt(3)));
+        }
+        return random.nextBoolean() ? word.toString() : word.substring(0, 1).toUpperCase() + word.substring(1);
+    }
+}
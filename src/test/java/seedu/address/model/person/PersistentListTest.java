@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    private final PersistentList<Integer> oneToFive = PersistentList.of(List.of(1, 2, 3, 4, 5));
+
+    @Test
+    public void of_elements_sameOrder() {
+        assertEquals(List.of(1, 2, 3, 4, 5), oneToFive);
+        assertEquals(List.of(), PersistentList.of(List.of()));
+        assertEquals(List.of(), PersistentList.empty());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> oneToFive.add(6));
+        assertThrows(UnsupportedOperationException.class, () -> oneToFive.set(0, 6));
+        assertThrows(UnsupportedOperationException.class, () -> oneToFive.remove(0));
+    }
+
+    @Test
+    public void withChanges_originalUnchanged() {
+        assertEquals(List.of(1, 2, 9, 3, 4, 5), oneToFive.withAdded(2, 9));
+        assertEquals(List.of(1, 9, 3, 4, 5), oneToFive.withSet(1, 9));
+        assertEquals(List.of(1, 2, 3, 5), oneToFive.withRemoved(3));
+        assertEquals(List.of(1, 7, 8, 2, 3, 4, 5), oneToFive.withAllAdded(1, List.of(7, 8)));
+        assertEquals(List.of(1, 5), oneToFive.withRangeRemoved(1, 4));
+        assertEquals(List.of(1, 2, 3, 4, 5), oneToFive);
+    }
+
+    @Test
+    public void withChanges_noChange_sameList() {
+        assertSame(oneToFive, oneToFive.withAllAdded(2, List.of()));
+        assertSame(oneToFive, oneToFive.withRangeRemoved(2, 2));
+    }
+
+    @Test
+    public void withChanges_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> oneToFive.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> oneToFive.withAdded(6, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> oneToFive.withSet(5, 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> oneToFive.withRemoved(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> oneToFive.withAllAdded(6, List.of(9)));
+        assertThrows(IndexOutOfBoundsException.class, () -> oneToFive.withRangeRemoved(3, 6));
+    }
+
+    @Test
+    public void withAdded_manyAtEnd_staysBalanced() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100000; i++) {
+            list = list.withAdded(i, i);
+        }
+        assertEquals(IntStream.range(0, 100000).boxed().collect(Collectors.toList()), list);
+        // An AVL tree of n nodes is at most about 1.44 log2(n) high
+        assertTrue(list.height() <= 25, "height " + list.height());
+    }
+
+    @Test
+    public void withChanges_randomChanges_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 3000; i++) {
+            int choice = random.nextInt(5);
+            if (choice == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.withAdded(index, i);
+            } else if (choice == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.withSet(index, i);
+            } else if (choice == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.withRemoved(index);
+            } else if (choice == 3) {
+                int index = random.nextInt(expected.size() + 1);
+                List<Integer> added = IntStream.range(0, random.nextInt(50)).boxed().collect(Collectors.toList());
+                expected.addAll(index, added);
+                list = list.withAllAdded(index, added);
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(Math.min(30, expected.size() - from) + 1);
+                expected.subList(from, to).clear();
+                list = list.withRangeRemoved(from, to);
+            }
+            if (i % 100 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i += 7) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expectedVersions, versions);
+        assertTrue(list.height() <= 2 * (32 - Integer.numberOfLeadingZeros(list.size() + 1)));
+    }
+}
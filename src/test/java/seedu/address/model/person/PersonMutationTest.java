@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonMutationTest {
+
+    @Test
+    public void factories_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonMutation.add(null));
+        assertThrows(NullPointerException.class, () -> PersonMutation.add(0, null));
+        assertThrows(NullPointerException.class, () -> PersonMutation.set(ALICE, null));
+        assertThrows(NullPointerException.class, () -> PersonMutation.set(null, ALICE));
+        assertThrows(NullPointerException.class, () -> PersonMutation.remove(null));
+    }
+
+    @Test
+    public void add_negativeIndex_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersonMutation.add(-1, ALICE));
+    }
+
+    @Test
+    public void getters() {
+        PersonMutation add = PersonMutation.add(ALICE);
+        assertEquals(PersonMutation.Kind.ADD, add.getKind());
+        assertNull(add.getTarget());
+        assertFalse(add.hasIndex());
+
+        PersonMutation addAtIndex = PersonMutation.add(2, ALICE);
+        assertTrue(addAtIndex.hasIndex());
+        assertEquals(2, addAtIndex.getIndex());
+
+        PersonMutation remove = PersonMutation.remove(ALICE);
+        assertEquals(ALICE, remove.getTarget());
+        assertNull(remove.getPerson());
+    }
+
+    @Test
+    public void equals() {
+        PersonMutation setAliceToBob = PersonMutation.set(ALICE, BOB);
+
+        // same values -> returns true
+        assertEquals(setAliceToBob, PersonMutation.set(ALICE, BOB));
+        assertEquals(setAliceToBob.hashCode(), PersonMutation.set(ALICE, BOB).hashCode());
+
+        // same object -> returns true
+        assertEquals(setAliceToBob, setAliceToBob);
+
+        // null -> returns false
+        assertNotEquals(null, setAliceToBob);
+
+        // different values -> returns false
+        assertNotEquals(setAliceToBob, PersonMutation.set(BOB, ALICE));
+        assertNotEquals(PersonMutation.add(ALICE), PersonMutation.add(0, ALICE));
+        assertNotEquals(PersonMutation.add(ALICE), PersonMutation.remove(ALICE));
+    }
+}
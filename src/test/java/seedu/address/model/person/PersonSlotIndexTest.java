@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonGenerator;
+
+public class PersonSlotIndexTest {
+
+    @Test
+    public void slotOf_personNotInList_returnsMinusOne() {
+        PersonSlotIndex slotIndex = new PersonSlotIndex(new ArrayList<>(List.of(ALICE)));
+        assertEquals(-1, slotIndex.slotOf(BENSON));
+
+        // only the very instance in the list is found
+        assertEquals(-1, slotIndex.slotOf(new PersonBuilder(ALICE).build()));
+    }
+
+    @Test
+    public void slotOf_afterChangesInMiddle_slotsShifted() {
+        List<Person> persons = new ArrayList<>(List.of(ALICE, BENSON, CARL));
+        PersonSlotIndex slotIndex = new PersonSlotIndex(persons);
+
+        persons.remove(0);
+        slotIndex.removed(0, ALICE);
+        assertEquals(0, slotIndex.slotOf(BENSON));
+        assertEquals(1, slotIndex.slotOf(CARL));
+
+        persons.add(1, DANIEL);
+        slotIndex.inserted(1, DANIEL);
+        assertEquals(0, slotIndex.slotOf(BENSON));
+        assertEquals(1, slotIndex.slotOf(DANIEL));
+        assertEquals(2, slotIndex.slotOf(CARL));
+
+        persons.set(1, ALICE);
+        slotIndex.replaced(1, DANIEL, ALICE);
+        assertEquals(-1, slotIndex.slotOf(DANIEL));
+        assertEquals(1, slotIndex.slotOf(ALICE));
+        assertEquals(2, slotIndex.slotOf(CARL));
+    }
+
+    @Test
+    public void slotOf_afterAppendingAfterShift_slotsMatchList() {
+        List<Person> persons = new ArrayList<>(List.of(ALICE, BENSON));
+        PersonSlotIndex slotIndex = new PersonSlotIndex(persons);
+
+        persons.remove(0);
+        slotIndex.removed(0, ALICE);
+        persons.addAll(List.of(CARL, DANIEL));
+        slotIndex.appended(1);
+        assertEquals(0, slotIndex.slotOf(BENSON));
+        assertEquals(1, slotIndex.slotOf(CARL));
+        assertEquals(2, slotIndex.slotOf(DANIEL));
+    }
+
+    @Test
+    public void slotOf_afterBlockChanges_slotsMatchList() {
+        List<Person> persons = new ArrayList<>(List.of(ALICE, BENSON, CARL));
+        PersonSlotIndex slotIndex = new PersonSlotIndex(persons);
+
+        persons.subList(0, 2).clear();
+        slotIndex.removedAll(List.of(ALICE, BENSON));
+        assertEquals(-1, slotIndex.slotOf(ALICE));
+        assertEquals(0, slotIndex.slotOf(CARL));
+
+        persons.addAll(0, List.of(DANIEL, ALICE));
+        slotIndex.insertedAll(0, 2);
+        assertEquals(0, slotIndex.slotOf(DANIEL));
+        assertEquals(1, slotIndex.slotOf(ALICE));
+        assertEquals(2, slotIndex.slotOf(CARL));
+
+        persons.add(BENSON);
+        slotIndex.insertedAll(3, 1);
+        assertEquals(3, slotIndex.slotOf(BENSON));
+    }
+
+    @Test
+    public void slotOf_randomChangesBeyondLogCapacity_matchesList() {
+        Random random = new Random(42);
+        PersonGenerator generator = new PersonGenerator();
+        List<Person> persons = new ArrayList<>(generator.nextPersons(100));
+        PersonSlotIndex slotIndex = new PersonSlotIndex(persons);
+
+        for (int i = 0; i < 10 * PersonSlotIndex.MIN_PENDING_SHIFTS; i++) {
+            if (persons.isEmpty() || random.nextBoolean()) {
+                int position = random.nextInt(persons.size() + 1);
+                Person person = generator.next();
+                persons.add(position, person);
+                slotIndex.inserted(position, person);
+            } else {
+                int position = random.nextInt(persons.size());
+                slotIndex.removed(position, persons.remove(position));
+            }
+
+            // looks up a few persons only, so that most slots have many shifts to catch up on
+            int lookedUp = random.nextInt(persons.size());
+            assertEquals(lookedUp, slotIndex.slotOf(persons.get(lookedUp)));
+        }
+
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(i, slotIndex.slotOf(persons.get(i)));
+        }
+    }
+}
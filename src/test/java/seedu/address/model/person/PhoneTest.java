@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,17 @@ public class PhoneTest {
         assertThrows(IllegalArgumentException.class, () -> new Phone(invalidPhone));
     }
 
+    @Test
+    public void ofValidated_validValue_equalsConstructed() {
+        assertEquals(new Phone("93121534"), Phone.ofValidated("93121534"));
+    }
+
+    @Test
+    public void ofValidated_invalidValue_throwsAssertionError() {
+        // values are only checked when assertions are enabled, as they are for tests
+        assertThrows(AssertionError.class, () -> Phone.ofValidated("91"));
+    }
+
     @Test
     public void isValidPhone() {
         // null phone number
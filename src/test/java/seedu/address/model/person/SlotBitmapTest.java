@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SlotBitmapTest {
+
+    private static final int MAX_SLOT = 100_000;
+
+    @Test
+    public void setAndClear() {
+        SlotBitmap bitmap = new SlotBitmap();
+        assertTrue(bitmap.isEmpty());
+        assertFalse(bitmap.get(MAX_SLOT));
+
+        bitmap.set(0);
+        bitmap.set(63);
+        bitmap.set(64);
+        bitmap.set(MAX_SLOT);
+        bitmap.set(MAX_SLOT); // already set -> unchanged
+        assertEquals(4, bitmap.cardinality());
+        assertTrue(bitmap.get(63));
+        assertTrue(bitmap.get(MAX_SLOT));
+        assertFalse(bitmap.get(62));
+        assertFalse(bitmap.get(MAX_SLOT - 1));
+
+        bitmap.clear(63);
+        bitmap.clear(63); // already cleared -> unchanged
+        bitmap.clear(MAX_SLOT * 2); // beyond the last block -> unchanged
+        assertEquals(3, bitmap.cardinality());
+        assertFalse(bitmap.get(63));
+        assertTrue(bitmap.get(64));
+    }
+
+    @Test
+    public void copy_modifiedIndependently() {
+        SlotBitmap bitmap = new SlotBitmap();
+        bitmap.set(5);
+        SlotBitmap copy = bitmap.copy();
+
+        copy.set(6);
+        bitmap.clear(5);
+        assertTrue(copy.get(5));
+        assertFalse(bitmap.get(6));
+        assertEquals(2, copy.cardinality());
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void combine_randomBitmaps_sameAsBitSet() {
+        Random random = new Random(1);
+        for (int round = 0; round < 20; round++) {
+            // dense and sparse bitmaps over ranges of different lengths
+            BitSet first = randomBitSet(random, random.nextInt(MAX_SLOT), random.nextDouble());
+            BitSet second = randomBitSet(random, random.nextInt(MAX_SLOT), random.nextDouble() / 100);
+
+            BitSet expectedAnd = (BitSet) first.clone();
+            expectedAnd.and(second);
+            SlotBitmap and = toSlotBitmap(first);
+            and.and(toSlotBitmap(second));
+            assertSameSlots(expectedAnd, and);
+
+            BitSet expectedOr = (BitSet) first.clone();
+            expectedOr.or(second);
+            SlotBitmap or = toSlotBitmap(second);
+            or.or(toSlotBitmap(first));
+            assertSameSlots(expectedOr, or);
+
+            BitSet expectedAndNot = (BitSet) first.clone();
+            expectedAndNot.andNot(second);
+            SlotBitmap andNot = toSlotBitmap(first);
+            andNot.andNot(toSlotBitmap(second));
+            assertSameSlots(expectedAndNot, andNot);
+        }
+    }
+
+    private static BitSet randomBitSet(Random random, int length, double density) {
+        BitSet bitSet = new BitSet();
+        for (int i = 0; i < length; i++) {
+            if (random.nextDouble() < density) {
+                bitSet.set(i);
+            }
+        }
+        return bitSet;
+    }
+
+    private static SlotBitmap toSlotBitmap(BitSet bitSet) {
+        SlotBitmap bitmap = new SlotBitmap();
+        bitSet.stream().forEach(bitmap::set);
+        return bitmap;
+    }
+
+    private static void assertSameSlots(BitSet expected, SlotBitmap actual) {
+        assertEquals(expected.cardinality(), actual.cardinality());
+        for (int i = 0; i < MAX_SLOT; i++) {
+            assertEquals(expected.get(i), actual.get(i), "slot " + i);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TagsMatchPredicateBuilder.clause;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TagsMatchPredicateTest {
+
+    @Test
+    public void constructor_nullClause_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TagsMatchPredicate(null));
+        assertThrows(NullPointerException.class, () -> new TagsMatchPredicate(Arrays.asList(clause("friends"), null)));
+        assertThrows(NullPointerException.class, () -> new TagsMatchPredicate.Clause(null, Set.of()));
+    }
+
+    @Test
+    public void equals() {
+        TagsMatchPredicate firstPredicate = new TagsMatchPredicate(List.of(clause("first")));
+        TagsMatchPredicate secondPredicate = new TagsMatchPredicate(List.of(clause("first", "second")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        TagsMatchPredicate firstPredicateCopy = new TagsMatchPredicate(List.of(clause("first")));
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different clauses -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+        assertFalse(firstPredicate.equals(new TagsMatchPredicate(List.of(clause("!first")))));
+    }
+
+    @Test
+    public void test_tagsMatchEveryClause_returnsTrue() {
+        // one tag
+        TagsMatchPredicate predicate = new TagsMatchPredicate(List.of(clause("friends")));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends", "family").build()));
+
+        // any of the tags in a clause
+        predicate = new TagsMatchPredicate(List.of(clause("friends", "colleagues")));
+        assertTrue(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+
+        // all of the clauses
+        predicate = new TagsMatchPredicate(List.of(clause("friends"), clause("family")));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends", "family").build()));
+
+        // excluded tag missing
+        predicate = new TagsMatchPredicate(List.of(clause("friends"), clause("!owesMoney")));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends").build()));
+
+        // no clauses
+        assertTrue(new TagsMatchPredicate(List.of()).test(new PersonBuilder().withTags().build()));
+    }
+
+    @Test
+    public void test_tagsDoNotMatchEveryClause_returnsFalse() {
+        // no tags
+        TagsMatchPredicate predicate = new TagsMatchPredicate(List.of(clause("friends")));
+        assertFalse(predicate.test(new PersonBuilder().withTags().build()));
+
+        // only some of the clauses
+        predicate = new TagsMatchPredicate(List.of(clause("friends"), clause("family")));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+
+        // excluded tag present
+        predicate = new TagsMatchPredicate(List.of(clause("friends"), clause("!owesMoney")));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends", "owesMoney").build()));
+
+        // tags are case sensitive
+        predicate = new TagsMatchPredicate(List.of(clause("friends")));
+        assertFalse(predicate.test(new PersonBuilder().withTags("Friends").build()));
+    }
+}
@@ -4,23 +4,32 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonGenerator;
+import seedu.address.testutil.TagsMatchPredicateBuilder;
 
 public class UniquePersonListTest {
 
+    private static final int LARGE_LIST_SIZE = 1_000_000;
+
     private final UniquePersonList uniquePersonList = new UniquePersonList();
 
     @Test
@@ -58,6 +67,61 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAtIndex_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(0, ALICE));
+    }
+
+    @Test
+    public void addAll_newPersons_appendedAndIndexed() {
+        uniquePersonList.add(ALICE);
+        List<Integer> changeCount = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount.add(1));
+
+        uniquePersonList.addAll(List.of(BENSON, BOB));
+        assertEquals(List.of(ALICE, BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount.size());
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(2, uniquePersonList.indexOf(BOB));
+        assertTrue(uniquePersonList.nameContainsAnyOf(List.of("bob")).test(BOB));
+        assertTrue(uniquePersonList.tagsMatch(new TagsMatchPredicateBuilder().withClause(VALID_TAG_HUSBAND).build())
+                .test(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAtIndex_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.add(1, ALICE));
+    }
+
+    @Test
+    public void addAtIndex_validIndex_personInsertedAtIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(0, BOB);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void add_oneMillionPersons_allContained() {
+        List<Person> persons = getLargePersonList();
+        persons.forEach(uniquePersonList::add);
+
+        assertEquals(LARGE_LIST_SIZE, uniquePersonList.asUnmodifiableObservableList().size());
+        persons.forEach(person -> assertTrue(uniquePersonList.contains(person)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(persons.get(LARGE_LIST_SIZE - 1)));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -127,6 +191,50 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personsAtBothEnds_remainingOrderKept() {
+        List<Person> persons = new PersonGenerator().nextPersons(LARGE_LIST_SIZE);
+        uniquePersonList.setPersons(persons);
+
+        uniquePersonList.remove(persons.get(LARGE_LIST_SIZE - 1));
+        uniquePersonList.remove(persons.get(0));
+        uniquePersonList.setPerson(persons.get(LARGE_LIST_SIZE / 2),
+                new PersonBuilder(persons.get(LARGE_LIST_SIZE / 2)).withTags().build());
+
+        List<Person> remaining = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(LARGE_LIST_SIZE - 2, remaining.size());
+        assertEquals(persons.get(1), remaining.get(0));
+        assertEquals(persons.get(LARGE_LIST_SIZE - 2), remaining.get(LARGE_LIST_SIZE - 3));
+        assertEquals(LARGE_LIST_SIZE / 2 - 1, uniquePersonList.indexOf(remaining.get(LARGE_LIST_SIZE / 2 - 1)));
+    }
+
+    @Test
+    public void indexOf_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.indexOf(null));
+    }
+
+    @Test
+    public void indexOf_personNotInList_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        assertEquals(-1, uniquePersonList.indexOf(BENSON));
+
+        // same identity but different fields -> not found
+        assertEquals(-1, uniquePersonList.indexOf(new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build()));
+    }
+
+    @Test
+    public void indexOf_equalPersonInList_returnsPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(0, BOB);
+        assertEquals(1, uniquePersonList.indexOf(new PersonBuilder(ALICE).build()));
+        assertEquals(2, uniquePersonList.indexOf(BENSON));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(BENSON));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -146,6 +254,89 @@ public class UniquePersonListTest {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((List<Person>) null));
     }
 
+    @Test
+    public void applyBatch_validMutations_appliedAsSingleChange() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON));
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+        Person editedBenson = new PersonBuilder(BENSON).withTags().build();
+
+        List<PersonMutation> undoMutations = uniquePersonList.applyBatch(List.of(PersonMutation.add(BOB),
+                PersonMutation.remove(ALICE), PersonMutation.set(BENSON, editedBenson),
+                PersonMutation.add(0, ALICE)));
+        assertEquals(List.of(ALICE, editedBenson, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        assertEquals(2, uniquePersonList.indexOf(BOB));
+        assertTrue(uniquePersonList.nameContainsAnyOf(List.of("bob")).test(BOB));
+
+        uniquePersonList.applyBatch(undoMutations);
+        assertEquals(List.of(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void applyBatch_removalsAcrossList_undoneInOneGo() {
+        List<Person> persons = new PersonGenerator().nextPersons(20);
+        uniquePersonList.setPersons(persons);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        // removes blocks of consecutive persons and single persons, in no particular order
+        List<Person> toRemove = List.of(persons.get(19), persons.get(3), persons.get(4), persons.get(0),
+                persons.get(10), persons.get(5), persons.get(11), persons.get(12));
+        List<PersonMutation> removals = new ArrayList<>();
+        toRemove.forEach(person -> removals.add(PersonMutation.remove(person)));
+        List<PersonMutation> undoMutations = uniquePersonList.applyBatch(removals);
+
+        List<Person> expectedPersons = new ArrayList<>(persons);
+        expectedPersons.removeAll(toRemove);
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        assertFalse(uniquePersonList.contains(persons.get(4)));
+        for (int i = 0; i < expectedPersons.size(); i++) {
+            assertEquals(i, uniquePersonList.indexOf(expectedPersons.get(i)));
+        }
+
+        uniquePersonList.applyBatch(undoMutations);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, changes.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(i, uniquePersonList.indexOf(persons.get(i)));
+        }
+        assertTrue(uniquePersonList.nameContainsAnyOf(List.of(persons.get(4).getName().fullName.split(" ")[0]))
+                .test(persons.get(4)));
+    }
+
+    @Test
+    public void applyBatch_removedThenAddedAgain_success() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.applyBatch(List.of(PersonMutation.remove(ALICE), PersonMutation.add(editedAlice)));
+        assertEquals(List.of(editedAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyBatch_invalidMutation_throwsAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) changes::add);
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.applyBatch(
+                List.of(PersonMutation.add(BOB), PersonMutation.add(BOB))));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.applyBatch(
+                List.of(PersonMutation.add(BOB), PersonMutation.set(ALICE, BOB))));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.applyBatch(
+                List.of(PersonMutation.add(BOB), PersonMutation.remove(ALICE), PersonMutation.remove(ALICE))));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.applyBatch(
+                List.of(PersonMutation.add(BOB), PersonMutation.set(BENSON, BENSON))));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.applyBatch(
+                List.of(PersonMutation.remove(ALICE), PersonMutation.add(1, BOB))));
+
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+        assertTrue(changes.isEmpty());
+    }
+
     @Test
     public void setPersons_list_replacesOwnListWithProvidedList() {
         uniquePersonList.add(ALICE);
@@ -156,15 +347,156 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_oneMillionPersons_replacesOwnList() {
+        uniquePersonList.add(ALICE);
+        List<Person> persons = getLargePersonList();
+        uniquePersonList.setPersons(persons);
+
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(persons.get(LARGE_LIST_SIZE - 1)));
+    }
+
+    @Test
+    public void setPersons_oneMillionPersonsWithDuplicate_throwsDuplicatePersonException() {
+        List<Person> persons = getLargePersonList();
+        persons.add(persons.get(0));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(persons));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void nameContainsAnyOf_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.nameContainsAnyOf(null));
+    }
+
+    @Test
+    public void nameContainsAnyOf_personsInList_matchesWholeWordsIgnoringCase() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+
+        assertTrue(uniquePersonList.nameContainsAnyOf(Arrays.asList("aLiCe")).test(ALICE));
+        assertTrue(uniquePersonList.nameContainsAnyOf(Arrays.asList("nobody", "Meier")).test(BENSON));
+        assertFalse(uniquePersonList.nameContainsAnyOf(Arrays.asList("Alic")).test(ALICE));
+        assertFalse(uniquePersonList.nameContainsAnyOf(Arrays.asList("Alice")).test(BENSON));
+        assertFalse(uniquePersonList.nameContainsAnyOf(Collections.emptyList()).test(ALICE));
+    }
+
+    @Test
+    public void nameContainsAnyOf_personNotInList_returnsFalse() {
+        assertFalse(uniquePersonList.nameContainsAnyOf(Arrays.asList("Alice")).test(ALICE));
+    }
+
+    @Test
+    public void nameContainsAnyOf_listModified_reflectsModifications() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> predicate = uniquePersonList.nameContainsAnyOf(Arrays.asList("Alice", "Bob"));
+        assertTrue(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(predicate.test(editedAlice));
+
+        uniquePersonList.add(BOB);
+        assertTrue(predicate.test(BOB));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(predicate.test(BOB));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(predicate.test(ALICE));
+    }
+
+    @Test
+    public void tagsMatch_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.tagsMatch(null));
+    }
+
+    @Test
+    public void tagsMatch_personsInList_matchesTagCombinations() {
+        uniquePersonList.add(ALICE); // friends
+        uniquePersonList.add(BENSON); // owesMoney, friends
+        uniquePersonList.add(BOB); // husband, friend
+
+        Predicate<Person> friendsNotOwingMoney = uniquePersonList.tagsMatch(new TagsMatchPredicateBuilder()
+                .withClause("friends", VALID_TAG_FRIEND).withClause("!owesMoney").build());
+        assertTrue(friendsNotOwingMoney.test(ALICE));
+        assertFalse(friendsNotOwingMoney.test(BENSON));
+        assertTrue(friendsNotOwingMoney.test(BOB));
+
+        Predicate<Person> husbandOrOwingMoney = uniquePersonList.tagsMatch(new TagsMatchPredicateBuilder()
+                .withClause(VALID_TAG_HUSBAND, "owesMoney").build());
+        assertFalse(husbandOrOwingMoney.test(ALICE));
+        assertTrue(husbandOrOwingMoney.test(BENSON));
+        assertTrue(husbandOrOwingMoney.test(BOB));
+
+        Predicate<Person> unknownTag = uniquePersonList.tagsMatch(new TagsMatchPredicateBuilder()
+                .withClause("unknown").build());
+        assertFalse(unknownTag.test(ALICE));
+    }
+
+    @Test
+    public void tagsMatch_personNotInList_testedDirectly() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> predicate = uniquePersonList.tagsMatch(new TagsMatchPredicateBuilder()
+                .withClause("owesMoney").build());
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(BOB));
+    }
+
+    @Test
+    public void tagsMatch_listModified_reflectsModifications() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> predicate = uniquePersonList.tagsMatch(new TagsMatchPredicateBuilder()
+                .withClause(VALID_TAG_HUSBAND).build());
+        assertFalse(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(predicate.test(editedAlice));
+
+        uniquePersonList.add(BENSON);
+        assertFalse(predicate.test(BENSON));
+
+        // the slot of the removed person is reused by the next person added
+        uniquePersonList.remove(editedAlice);
+        uniquePersonList.add(BOB);
+        assertTrue(predicate.test(BOB));
+        assertFalse(predicate.test(BENSON));
+
+        uniquePersonList.setPersons(Collections.singletonList(BENSON));
+        assertFalse(predicate.test(BENSON));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
+
+    /**
+     * Returns a list of {@code LARGE_LIST_SIZE} persons with distinct names.
+     */
+    private static List<Person> getLargePersonList() {
+        PersonBuilder personBuilder = new PersonBuilder();
+        List<Person> persons = new ArrayList<>(LARGE_LIST_SIZE + 1);
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            persons.add(personBuilder.withName("Person " + i).build());
+        }
+        return persons;
+    }
 }
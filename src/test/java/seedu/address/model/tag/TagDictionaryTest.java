@@ -0,0 +1,67 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void intern_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> TagDictionary.intern((String) null));
+        assertThrows(IllegalArgumentException.class, () -> TagDictionary.intern("not valid"));
+    }
+
+    @Test
+    public void intern_sameName_sameInstance() {
+        Tag tag = TagDictionary.intern("internSameName");
+        assertEquals(new Tag("internSameName"), tag);
+        assertSame(tag, TagDictionary.intern("internSameName"));
+        assertSame(tag, TagDictionary.intern(new Tag("internSameName")));
+    }
+
+    @Test
+    public void idOf_newTag_tagAddedWithId() {
+        Tag tag = new Tag("idOfNewTag");
+        assertEquals(-1, TagDictionary.findId("idOfNewTag"));
+
+        int id = TagDictionary.idOf(tag);
+        assertEquals(id, TagDictionary.findId("idOfNewTag"));
+        assertEquals(id, TagDictionary.idOf(new Tag("idOfNewTag")));
+        assertSame(tag, TagDictionary.get(id));
+    }
+
+    @Test
+    public void intern_concurrentThreads_oneInstancePerName() throws Exception {
+        List<String> tagNames = IntStream.range(0, 200)
+                .mapToObj(i -> "concurrent" + i)
+                .collect(Collectors.toList());
+        Callable<List<Tag>> internAll = () -> tagNames.stream()
+                .map(TagDictionary::intern)
+                .collect(Collectors.toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Tag>>> results = executor.invokeAll(List.of(internAll, internAll, internAll, internAll));
+            List<Tag> expected = results.get(0).get();
+            for (Future<List<Tag>> result : results) {
+                List<Tag> actual = result.get();
+                for (int i = 0; i < tagNames.size(); i++) {
+                    assertSame(expected.get(i), actual.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final Tag friends = new Tag("friends");
+    private final Tag colleagues = new Tag("colleagues");
+    private final Tag family = new Tag("family");
+
+    @Test
+    public void of_emptyCollection_returnsEmpty() {
+        assertSame(TagSet.EMPTY, TagSet.of(Set.of()));
+        assertTrue(TagSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void of_tagSet_returnsSameSet() {
+        TagSet tagSet = TagSet.of(Set.of(friends));
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void of_duplicateTags_duplicatesRemoved() {
+        TagSet tagSet = TagSet.of(List.of(friends, new Tag("friends"), family));
+        assertEquals(2, tagSet.size());
+        assertEquals(Set.of(friends, family), tagSet);
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Set.of(friends, colleagues));
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertTrue(tagSet.contains(colleagues));
+        assertFalse(tagSet.contains(family));
+        assertFalse(tagSet.contains(new Tag("neverUsedInAnyTagSet")));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(tagSet.contains(null));
+    }
+
+    @Test
+    public void iterator_returnsInternedTags() {
+        TagSet tagSet = TagSet.of(Set.of(friends, colleagues, family));
+        List<Tag> tags = new ArrayList<>(tagSet);
+        assertEquals(3, tags.size());
+        assertEquals(new HashSet<>(List.of(friends, colleagues, family)), new HashSet<>(tags));
+        for (Tag tag : tags) {
+            assertSame(TagDictionary.intern(tag.tagName), tag);
+        }
+    }
+
+    @Test
+    public void equalsAndHashCode_sameAsHashSet() {
+        Set<Tag> hashSet = new HashSet<>(List.of(friends, family));
+        TagSet tagSet = TagSet.of(hashSet);
+
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertEquals(tagSet, TagSet.of(List.of(family, friends)));
+
+        assertFalse(tagSet.equals(TagSet.of(Set.of(friends))));
+        assertFalse(tagSet.equals(Set.of(friends, colleagues)));
+        assertEquals(Set.of().hashCode(), TagSet.EMPTY.hashCode());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(friends));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(family));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(friends));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(family));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.addAll(Set.of(family)));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeAll(Set.of(friends)));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.retainAll(Set.of()));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, tagSet::clear);
+    }
+}
@@ -0,0 +1,437 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonGenerator;
+import seedu.address.testutil.PersonUtil;
+
+public class CommandServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private StorageManager storage;
+    private LogicManager logic;
+    private CommandServer server;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = LogicManager.withoutUi(model, storage);
+        server = new CommandServer(logic, 0, temporaryFolder.resolve("server-token"));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop();
+        logic.shutdown();
+    }
+
+    @Test
+    public void constructor_invalidPort_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new CommandServer(logic, 65536, temporaryFolder.resolve("server-token")));
+    }
+
+    @Test
+    public void getPort_notStarted_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> server.getPort());
+    }
+
+    @Test
+    public void start_alreadyStarted_throwsIllegalStateException() throws IOException {
+        server.start();
+        assertThrows(IllegalStateException.class, () -> server.start());
+    }
+
+    @Test
+    public void start_tokenFileWrittenUntilStopped() throws IOException {
+        Path tokenFilePath = temporaryFolder.resolve("server-token");
+        server.start();
+        assertEquals(server.getToken(), Files.readString(tokenFilePath));
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(tokenFilePath));
+        }
+
+        server.stop();
+        assertFalse(Files.exists(tokenFilePath));
+    }
+
+    @Test
+    public void constructor_tokensDifferBetweenServers() {
+        CommandServer otherServer = new CommandServer(logic, 0, temporaryFolder.resolve("other-token"));
+        assertNotEquals(server.getToken(), otherServer.getToken());
+    }
+
+    @Test
+    public void writeTokenFile_existingFile_replaced() throws IOException {
+        Path tokenFilePath = temporaryFolder.resolve("data").resolve("server-token");
+        CommandServer.writeTokenFile(tokenFilePath, "old");
+        CommandServer.writeTokenFile(tokenFilePath, "new");
+        assertEquals("new", Files.readString(tokenFilePath));
+    }
+
+    @Test
+    public void getTokenFilePath() {
+        assertEquals(Paths.get("data", "addressbook.json.server-token"),
+                CommandServer.getTokenFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void handle_execute_commandExecuted() {
+        ServerResponse response = server.handle(ServerRequest.execute(PersonUtil.getAddCommand(HOON)));
+
+        assertEquals(ServerResponse.success(String.format(AddCommand.MESSAGE_SUCCESS, HOON)), response);
+        assertTrue(model.hasPerson(HOON));
+    }
+
+    @Test
+    public void handle_executeInvalidCommand_failure() {
+        ServerResponse response = server.handle(ServerRequest.execute(DeleteCommand.COMMAND_WORD + " 100"));
+        assertFalse(response.isSuccess());
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void handle_executeWithoutCommand_failure() {
+        ServerResponse response = server.handle(new ServerRequest(ServerRequest.TYPE_EXECUTE, null, null, null, null));
+        assertEquals(ServerResponse.failure(CommandServer.MESSAGE_MISSING_COMMAND), response);
+    }
+
+    @Test
+    public void handle_list_pageOfPersons() {
+        assertEquals(ServerResponse.page(7, List.of(BENSON, CARL)), server.handle(ServerRequest.list(1, 2)));
+        assertEquals(ServerResponse.page(7, getTypicalPersons()), server.handle(ServerRequest.list(0, 100)));
+        assertEquals(ServerResponse.page(7, List.of()), server.handle(ServerRequest.list(7, 100)));
+    }
+
+    @Test
+    public void handle_listAfterExecute_personsReflectCommand() {
+        server.handle(ServerRequest.execute(DeleteCommand.COMMAND_WORD + " 1"));
+        assertEquals(ServerResponse.page(6, List.of(BENSON)), server.handle(ServerRequest.list(0, 1)));
+    }
+
+    @Test
+    public void handle_invalidPage_failure() {
+        ServerResponse expectedResponse = ServerResponse.failure(CommandServer.MESSAGE_INVALID_PAGE);
+        assertEquals(expectedResponse, server.handle(ServerRequest.list(-1, 10)));
+        assertEquals(expectedResponse, server.handle(ServerRequest.list(0, 0)));
+        assertEquals(expectedResponse, server.handle(ServerRequest.list(0, CommandServer.MAX_PAGE_SIZE + 1)));
+        assertEquals(expectedResponse, server.handle(ServerRequest.find(List.of("Meier"), 0, 0)));
+    }
+
+    @Test
+    public void handle_find_pageOfMatchingPersons() {
+        // Benson Meier and Daniel Meier
+        assertEquals(ServerResponse.page(2, List.of(BENSON, DANIEL)),
+                server.handle(ServerRequest.find(List.of("meier"), 0, 10)));
+        assertEquals(ServerResponse.page(2, List.of(DANIEL)),
+                server.handle(ServerRequest.find(List.of("meier"), 1, 10)));
+        assertEquals(ServerResponse.page(3, List.of(ALICE)),
+                server.handle(ServerRequest.find(List.of("meier", "alice"), 0, 1)));
+    }
+
+    @Test
+    public void handle_find_filteredPersonListUnchanged() {
+        server.handle(ServerRequest.find(List.of("meier"), 0, 10));
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void handle_findWithoutKeywords_failure() {
+        assertEquals(ServerResponse.failure(CommandServer.MESSAGE_MISSING_KEYWORDS),
+                server.handle(ServerRequest.find(List.of(), 0, 10)));
+    }
+
+    @Test
+    public void handle_findInvalidKeyword_failure() throws Exception {
+        ServerResponse expected = ServerResponse.failure(CommandServer.MESSAGE_INVALID_KEYWORD);
+        assertEquals(expected, server.handle(CommandServer.parse("{\"type\":\"find\",\"keywords\":[\"\"]}")));
+        assertEquals(expected, server.handle(CommandServer.parse("{\"type\":\"find\",\"keywords\":[\" \"]}")));
+        assertEquals(expected, server.handle(CommandServer.parse("{\"type\":\"find\",\"keywords\":[\"a b\"]}")));
+        assertEquals(expected, server.handle(
+                CommandServer.parse("{\"type\":\"find\",\"keywords\":[\"alice\",null]}")));
+    }
+
+    @Test
+    public void parse_nullRequest_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CommandServer.MESSAGE_MISSING_REQUEST, () ->
+                CommandServer.parse("null"));
+    }
+
+    @Test
+    public void parse_tooLong_throwsIllegalValueException() {
+        String request = "{\"type\":\"find\",\"keywords\":[\"" + "x".repeat(CommandServer.MAX_REQUEST_LENGTH) + "\"]}";
+        assertThrows(IllegalValueException.class, CommandServer.MESSAGE_REQUEST_TOO_LONG, () ->
+                CommandServer.parse(request));
+    }
+
+    @Test
+    public void parse_httpRequestLine_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> CommandServer.parse("POST / HTTP/1.1"));
+        assertThrows(IllegalValueException.class, () -> CommandServer.parse("Content-Type: text/plain"));
+    }
+
+    @Test
+    public void hasToken() throws Exception {
+        assertTrue(server.hasToken(ServerRequest.list(0, 1).withToken(server.getToken())));
+        assertFalse(server.hasToken(ServerRequest.list(0, 1)));
+        assertFalse(server.hasToken(ServerRequest.list(0, 1).withToken(server.getToken() + "x")));
+        assertFalse(server.hasToken(ServerRequest.list(0, 1).withToken("")));
+        assertFalse(server.hasToken(CommandServer.parse("{\"token\":1,\"type\":\"list\"}")));
+    }
+
+    @Test
+    public void handle_unexpectedError_failure() throws IOException {
+        LogicManager failingLogic = new LogicManager(model, storage) {
+            @Override
+            public ReadOnlyAddressBook getAddressBookSnapshot() {
+                throw new IllegalStateException("failure");
+            }
+        };
+        try {
+            assertEquals(ServerResponse.failure(CommandServer.MESSAGE_UNEXPECTED_ERROR),
+                    new CommandServer(failingLogic, 0, temporaryFolder.resolve("server-token"))
+                            .handle(ServerRequest.list(0, 1)));
+        } finally {
+            failingLogic.shutdown();
+        }
+    }
+
+    @Test
+    public void handle_unknownType_failure() {
+        ServerResponse response = server.handle(new ServerRequest("delete", null, null, null, null));
+        assertEquals(ServerResponse.failure(String.format(CommandServer.MESSAGE_UNKNOWN_REQUEST_TYPE, "delete")),
+                response);
+    }
+
+    @Test
+    public void parse_invalidJson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> CommandServer.parse("{\"type\": "));
+    }
+
+    @Test
+    public void send_overConnection_sameAsHandle() throws Exception {
+        server.start();
+        try (CommandClient client = new CommandClient(server.getPort(), server.getToken())) {
+            assertEquals(ServerResponse.page(2, List.of(BENSON, DANIEL)),
+                    client.send(ServerRequest.find(List.of("meier"), 0, 10)));
+            assertTrue(client.send(ServerRequest.execute(PersonUtil.getAddCommand(HOON))).isSuccess());
+            assertEquals(List.of(HOON), client.send(ServerRequest.list(7, 10)).getPersons());
+        }
+    }
+
+    @Test
+    public void send_concurrentReadersAndWriter_everyReadConsistent() throws Exception {
+        server.start();
+        List<Person> addedPersons = new PersonGenerator(7).nextPersons(200);
+        ExecutorService clients = Executors.newFixedThreadPool(5);
+        try {
+            Future<?> writer = clients.submit(() -> {
+                try (CommandClient client = new CommandClient(server.getPort(), server.getToken())) {
+                    for (Person person : addedPersons) {
+                        assertTrue(client.send(ServerRequest.execute(PersonUtil.getAddCommand(person))).isSuccess());
+                    }
+                }
+                return null;
+            });
+
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                readers.add(clients.submit(() -> {
+                    try (CommandClient client = new CommandClient(server.getPort(), server.getToken())) {
+                        int previousTotal = 0;
+                        while (!writer.isDone()) {
+                            ServerResponse response = client.send(ServerRequest.list(0, CommandServer.MAX_PAGE_SIZE));
+                            List<Person> persons = response.getPersons();
+                            // Persons are only ever added, and a read never sees half of a command
+                            assertEquals(response.getTotal(), persons.size());
+                            assertTrue(response.getTotal() >= previousTotal);
+                            assertEquals(getTypicalPersons(), persons.subList(0, 7));
+                            assertEquals(addedPersons.subList(0, persons.size() - 7), persons.subList(7,
+                                    persons.size()));
+                            previousTotal = response.getTotal();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            writer.get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        assertEquals(207, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void send_failingRequestsWithTokenOverConnection_connectionKeptOpen() throws Exception {
+        server.start();
+        String token = JsonUtil.toJsonString(server.getToken());
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                BufferedReader responses = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer requests = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            requests.write("{\"token\":" + token + ",\"type\":\"find\",\"keywords\":[null]}\n\n");
+            requests.write("{\"token\":" + token + ",\"type\":\"delete\"}\n");
+            requests.write("{\"token\":" + token + ",\"type\":\"list\",\"limit\":1}\r\n");
+            requests.flush();
+
+            assertEquals(ServerResponse.failure(CommandServer.MESSAGE_INVALID_KEYWORD),
+                    JsonUtil.fromJsonString(responses.readLine(), ServerResponse.class));
+            assertFalse(JsonUtil.fromJsonString(responses.readLine(), ServerResponse.class).isSuccess());
+            assertEquals(ServerResponse.page(7, List.of(ALICE)),
+                    JsonUtil.fromJsonString(responses.readLine(), ServerResponse.class));
+        }
+    }
+
+    @Test
+    public void send_invalidJsonOverConnection_connectionClosed() throws Exception {
+        server.start();
+        String token = JsonUtil.toJsonString(server.getToken());
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                BufferedReader responses = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer requests = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            requests.write("x".repeat(CommandServer.MAX_REQUEST_LENGTH + 1) + "\n");
+            requests.write("{\"token\":" + token + ",\"type\":\"list\",\"limit\":1}\n");
+            requests.flush();
+
+            assertEquals(ServerResponse.failure(String.format(CommandServer.MESSAGE_INVALID_REQUEST,
+                    CommandServer.MESSAGE_REQUEST_TOO_LONG)),
+                    JsonUtil.fromJsonString(responses.readLine(), ServerResponse.class));
+            assertClosed(responses);
+        }
+    }
+
+    @Test
+    public void send_wrongTokenOverConnection_connectionClosedWithoutExecuting() throws Exception {
+        server.start();
+        try (CommandClient client = new CommandClient(server.getPort(), server.getToken() + "x")) {
+            assertEquals(ServerResponse.failure(CommandServer.MESSAGE_INVALID_TOKEN),
+                    client.send(ServerRequest.execute(DeleteCommand.COMMAND_WORD + " 1")));
+            assertThrows(IOException.class, () -> client.send(ServerRequest.list(0, 1)));
+        }
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void send_httpRequestWithCommandBody_commandNotExecuted() throws Exception {
+        server.start();
+        // What a web page can make a browser send with a no-cors text/plain POST, even if it knew the token
+        String body = JsonUtil.toCompactJsonString(
+                ServerRequest.execute(DeleteCommand.COMMAND_WORD + " 1").withToken(server.getToken()));
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+                BufferedReader responses = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer requests = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            requests.write("POST / HTTP/1.1\r\nHost: localhost\r\nContent-Type: text/plain\r\n");
+            requests.write("Content-Length: " + (body.length() + 1) + "\r\n\r\n" + body + "\n");
+            requests.flush();
+
+            assertFalse(JsonUtil.fromJsonString(responses.readLine(), ServerResponse.class).isSuccess());
+            assertClosed(responses);
+        }
+        assertEquals(getTypicalPersons(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void connect_tokenFile_requestsAccepted() throws Exception {
+        server.start();
+        try (CommandClient client = CommandClient.connect(server.getPort(), temporaryFolder.resolve("server-token"))) {
+            assertEquals(ServerResponse.page(7, List.of(ALICE)), client.send(ServerRequest.list(0, 1)));
+        }
+    }
+
+    /**
+     * Asserts that the server has closed the connection {@code responses} are read from. Unread requests may make the
+     * connection be reset rather than closed normally.
+     */
+    private static void assertClosed(BufferedReader responses) {
+        try {
+            assertNull(responses.readLine());
+        } catch (IOException ioe) {
+            // The connection was reset
+        }
+    }
+
+    @Test
+    public void readLine_variousLines() throws IOException {
+        String longLine = "y".repeat(CommandServer.MAX_REQUEST_LENGTH);
+        Reader reader = new StringReader("a\r\n\n" + longLine + "\n" + longLine + "zz\nb");
+        assertEquals("a", CommandServer.readLine(reader));
+        assertEquals("", CommandServer.readLine(reader));
+        assertEquals(longLine, CommandServer.readLine(reader));
+        assertEquals(CommandServer.MAX_REQUEST_LENGTH + 1, CommandServer.readLine(reader).length());
+        assertEquals("b", CommandServer.readLine(reader));
+        assertEquals(null, CommandServer.readLine(reader));
+    }
+
+    @Test
+    public void stop_openConnection_closed() throws Exception {
+        server.start();
+        try (CommandClient client = new CommandClient(server.getPort(), server.getToken())) {
+            client.send(ServerRequest.list(0, 1));
+            server.stop();
+            assertThrows(IOException.class, () -> client.send(ServerRequest.list(0, 1)));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+
+public class ServerRequestTest {
+
+    @Test
+    public void execute_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ServerRequest.execute(null));
+    }
+
+    @Test
+    public void find_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ServerRequest.find(null, 0, 1));
+    }
+
+    @Test
+    public void getOffsetAndLimit_missing_defaults() {
+        ServerRequest request = new ServerRequest(ServerRequest.TYPE_LIST, null, null, null, null);
+        assertEquals(0, request.getOffset());
+        assertEquals(ServerRequest.DEFAULT_LIMIT, request.getLimit());
+        assertEquals(List.of(), request.getKeywords());
+    }
+
+    @Test
+    public void toCompactJsonString_roundTrip_equalRequest() throws Exception {
+        ServerRequest request = ServerRequest.find(List.of("alice", "bob"), 10, 20);
+        String json = JsonUtil.toCompactJsonString(request);
+        assertEquals("{\"type\":\"find\",\"keywords\":[\"alice\",\"bob\"],\"offset\":10,\"limit\":20}", json);
+        assertEquals(request, JsonUtil.fromJsonString(json, ServerRequest.class));
+
+        ServerRequest executeRequest = ServerRequest.execute("delete 1");
+        assertEquals("{\"type\":\"execute\",\"command\":\"delete 1\"}", JsonUtil.toCompactJsonString(executeRequest));
+    }
+
+    @Test
+    public void withToken_roundTrip_tokenKept() throws Exception {
+        ServerRequest request = ServerRequest.list(0, 5).withToken("secret");
+        String json = JsonUtil.toCompactJsonString(request);
+        assertEquals("{\"token\":\"secret\",\"type\":\"list\",\"offset\":0,\"limit\":5}", json);
+        assertEquals(request, JsonUtil.fromJsonString(json, ServerRequest.class));
+        assertNotEquals(ServerRequest.list(0, 5), request);
+        assertFalse(request.toString().contains("secret"));
+    }
+
+    @Test
+    public void fromJsonString_unknownFields_ignored() throws Exception {
+        assertEquals(ServerRequest.list(0, 5),
+                JsonUtil.fromJsonString("{\"type\":\"list\",\"limit\":5,\"sort\":\"name\"}", ServerRequest.class));
+    }
+
+    @Test
+    public void equals() {
+        ServerRequest request = ServerRequest.list(0, 10);
+        assertEquals(request, ServerRequest.list(0, 10));
+        assertEquals(request, new ServerRequest(ServerRequest.TYPE_LIST, null, null, null, 10));
+        assertNotEquals(request, ServerRequest.list(1, 10));
+        assertNotEquals(request, ServerRequest.find(List.of("alice"), 0, 10));
+        assertNotEquals(request, null);
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookSnapshotTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFilePath;
+    private Path snapshotFilePath;
+    private JsonFileFingerprint jsonFingerprint;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jsonFilePath = testFolder.resolve("addressbook.json");
+        snapshotFilePath = testFolder.resolve("addressbook.json.snapshot");
+        jsonFingerprint = JsonAddressBookSerializer.write(getTypicalAddressBook(), jsonFilePath);
+    }
+
+    @Test
+    public void read_snapshotWritten_samePersonsInOrder() throws Exception {
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        BinaryAddressBookSnapshot.write(persons, jsonFingerprint, snapshotFilePath);
+
+        assertEquals(persons, BinaryAddressBookSnapshot.read(snapshotFilePath, jsonFilePath).get());
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.snapshot.tmp")));
+    }
+
+    @Test
+    public void read_repeatedStrings_fieldsShared() throws Exception {
+        Person alice = new PersonBuilder(ALICE).withAddress("Same Street").withTags("friends").build();
+        Person benson = new PersonBuilder(BENSON).withAddress("Same Street").withTags("friends").build();
+        BinaryAddressBookSnapshot.write(List.of(alice, benson), jsonFingerprint, snapshotFilePath);
+
+        List<Person> readBack = BinaryAddressBookSnapshot.read(snapshotFilePath, jsonFilePath).get();
+        assertEquals(List.of(alice, benson), readBack);
+        assertSame(readBack.get(0).getAddress(), readBack.get(1).getAddress());
+        assertSame(readBack.get(0).getTags().iterator().next(), readBack.get(1).getTags().iterator().next());
+    }
+
+    @Test
+    public void read_missingSnapshot_emptyResult() throws Exception {
+        assertFalse(BinaryAddressBookSnapshot.read(snapshotFilePath, jsonFilePath).isPresent());
+    }
+
+    @Test
+    public void read_jsonFileChanged_emptyResult() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook().getPersonList(), jsonFingerprint, snapshotFilePath);
+        JsonAddressBookSerializer.write(new AddressBookBuilder().withPerson(ALICE).build(), jsonFilePath);
+
+        assertFalse(BinaryAddressBookSnapshot.read(snapshotFilePath, jsonFilePath).isPresent());
+    }
+
+    @Test
+    public void read_jsonFileMissing_emptyResult() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook().getPersonList(), jsonFingerprint, snapshotFilePath);
+        Files.delete(jsonFilePath);
+
+        assertFalse(BinaryAddressBookSnapshot.read(snapshotFilePath, jsonFilePath).isPresent());
+    }
+
+    @Test
+    public void read_corruptSnapshot_throwsIoException() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook().getPersonList(), jsonFingerprint, snapshotFilePath);
+        byte[] bytes = Files.readAllBytes(snapshotFilePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshotFilePath, bytes);
+
+        assertThrows(IOException.class, () -> BinaryAddressBookSnapshot.read(snapshotFilePath, jsonFilePath));
+    }
+
+    @Test
+    public void read_truncatedSnapshot_throwsIoException() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook().getPersonList(), jsonFingerprint, snapshotFilePath);
+        byte[] bytes = Files.readAllBytes(snapshotFilePath);
+        Files.write(snapshotFilePath, Arrays.copyOf(bytes, bytes.length - 7));
+
+        assertThrows(IOException.class, () -> BinaryAddressBookSnapshot.read(snapshotFilePath, jsonFilePath));
+    }
+
+    @Test
+    public void read_notSnapshot_throwsIoException() throws Exception {
+        Files.copy(jsonFilePath, snapshotFilePath);
+        assertThrows(IOException.class, () -> BinaryAddressBookSnapshot.read(snapshotFilePath, jsonFilePath));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,23 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.AddressBookBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +69,217 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_invalidAndValidPersonWithQuarantine_invalidPersonQuarantined() throws Exception {
+        Path quarantineFilePath = testFolder.resolve("quarantine.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"), quarantineFilePath);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(1, readBack.getPersonList().size());
+        assertEquals("Valid Person", readBack.getPersonList().get(0).getName().fullName);
+        assertTrue(Files.readString(quarantineFilePath).contains("Person With Invalid Phone Field"));
+        assertTrue(Files.readString(quarantineFilePath).contains(
+                JsonUtil.toJsonString(Phone.MESSAGE_CONSTRAINTS)));
+
+        // reading the same file again does not quarantine the same person twice
+        String quarantined = Files.readString(quarantineFilePath);
+        storage.readAddressBook();
+        assertEquals(quarantined, Files.readString(quarantineFilePath));
+    }
+
+    @Test
+    public void readAddressBook_malformedQuarantineFile_invalidPersonQuarantinedInFallbackFile() throws Exception {
+        Path quarantineFilePath = testFolder.resolve("quarantine.json");
+        Files.writeString(quarantineFilePath, "{ \"persons\" : [ ] }");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"), quarantineFilePath);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(1, readBack.getPersonList().size());
+
+        // the malformed quarantine file is left as it was
+        assertEquals("{ \"persons\" : [ ] }", Files.readString(quarantineFilePath));
+        List<Path> fallbackFiles;
+        try (Stream<Path> files = Files.list(testFolder)) {
+            fallbackFiles = files.filter(file -> !file.equals(quarantineFilePath)).collect(Collectors.toList());
+        }
+        assertEquals(1, fallbackFiles.size());
+        assertTrue(fallbackFiles.get(0).getFileName().toString().matches("quarantine-\\d{8}-\\d{6}\\.json"));
+        assertTrue(Files.readString(fallbackFiles.get(0)).contains("Person With Invalid Phone Field"));
+    }
+
+    @Test
+    public void readAddressBook_unwritableQuarantineFile_validPersonsStillRead() throws Exception {
+        // the quarantine file, and any fallback file next to it, cannot be created under a regular file
+        Path regularFile = testFolder.resolve("notADirectory");
+        Files.writeString(regularFile, "");
+        Path dataFilePath = testFolder.resolve("addressBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"), dataFilePath);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(dataFilePath,
+                regularFile.resolve("quarantine.json"), testFolder.resolve("addressBook.snapshot"));
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(1, readBack.getPersonList().size());
+        assertEquals("Valid Person", readBack.getPersonList().get(0).getName().fullName);
+
+        // no snapshot is kept, so that the invalid person is not hidden from the next read
+        storage.awaitSnapshot();
+        assertFalse(Files.exists(testFolder.resolve("addressBook.snapshot")));
+    }
+
+    @Test
+    public void getFallbackQuarantineFilePath() {
+        LocalDateTime time = LocalDateTime.of(2020, 1, 2, 3, 4, 5);
+        assertEquals(Paths.get("data", "addressbook.json.quarantine-20200102-030405.json"),
+                JsonAddressBookStorage.getFallbackQuarantineFilePath(
+                        Paths.get("data", "addressbook.json.quarantine.json"), time));
+        assertEquals(Paths.get("quarantine-20200102-030405"),
+                JsonAddressBookStorage.getFallbackQuarantineFilePath(Paths.get("quarantine"), time));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonWithQuarantine_laterDuplicateQuarantined() throws Exception {
+        Path quarantineFilePath = testFolder.resolve("quarantine.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json"), quarantineFilePath);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals("alice@example.com", readBack.getPersonList().get(0).getEmail().value);
+        assertEquals(1, readBack.getPersonList().size());
+        assertTrue(Files.readString(quarantineFilePath).contains("pauline@example.com"));
+    }
+
+    @Test
+    public void readAddressBook_validFileWithQuarantine_noQuarantineFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path quarantineFilePath = JsonAddressBookStorage.getQuarantineFilePath(filePath);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, quarantineFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+        assertFalse(Files.exists(quarantineFilePath));
+        assertEquals(testFolder.resolve("addressbook.json.quarantine.json"), quarantineFilePath);
+    }
+
+    @Test
+    public void readAddressBook_matchingSnapshot_personsReadFromSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path snapshotFilePath = JsonAddressBookStorage.getSnapshotFilePath(filePath);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, null, snapshotFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.awaitSnapshot();
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+
+        // a snapshot with other persons but the fingerprint of the file shows that the snapshot is read
+        BinaryAddressBookSnapshot.write(List.of(ALICE), JsonFileFingerprint.of(filePath), snapshotFilePath);
+        AddressBook expected = new AddressBookBuilder().withPerson(ALICE).build();
+        assertEquals(expected, storage.readAddressBook().get());
+        assertEquals(testFolder.resolve("addressbook.json.snapshot"), snapshotFilePath);
+    }
+
+    @Test
+    public void readAddressBook_fileChangedAfterSnapshot_fileReadAndSnapshotRegenerated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path snapshotFilePath = JsonAddressBookStorage.getSnapshotFilePath(filePath);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, null, snapshotFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.awaitSnapshot();
+
+        AddressBook changed = new AddressBookBuilder().withPerson(HOON).build();
+        new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+        assertEquals(changed, storage.readAddressBook().get());
+
+        storage.awaitSnapshot();
+        assertEquals(List.of(HOON), BinaryAddressBookSnapshot.read(snapshotFilePath, filePath).get());
+    }
+
+    @Test
+    public void readAddressBook_corruptSnapshot_fileReadAndSnapshotRegenerated() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path snapshotFilePath = JsonAddressBookStorage.getSnapshotFilePath(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(snapshotFilePath, "not a snapshot");
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, null, snapshotFilePath);
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+
+        storage.awaitSnapshot();
+        assertEquals(getTypicalAddressBook().getPersonList(),
+                BinaryAddressBookSnapshot.read(snapshotFilePath, filePath).get());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_noSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, null,
+                JsonAddressBookStorage.getSnapshotFilePath(filePath));
+
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        storage.readAddressBook(otherFilePath);
+        storage.awaitSnapshot();
+
+        assertFalse(Files.exists(JsonAddressBookStorage.getSnapshotFilePath(filePath)));
+        assertFalse(Files.exists(JsonAddressBookStorage.getSnapshotFilePath(otherFilePath)));
+    }
+
+    @Test
+    public void readAddressBook_notJsonFormatWithQuarantine_throwDataConversionException() {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(
+                TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json"), testFolder.resolve("quarantine.json"));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_personsNotArray_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readAddressBook("notArrayPersonsAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_nullPersons_emptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), readAddressBook("nullPersonsAddressBook.json").get());
+    }
+
+    @Test
+    public void readAddressBook_extraFields_extraFieldsIgnored() throws Exception {
+        AddressBook expected = new AddressBookBuilder().withPerson(ALICE).build();
+        assertEquals(expected, readAddressBook("extraFieldsAddressBook.json").get());
+    }
+
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        Path typicalPersonsFile = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(typicalPersonsFile).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), readBack);
+    }
+
+    @Test
+    public void saveAddressBook_allInOrder_readableAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonSerializableAddressBook readBack = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class)
+                .get();
+        assertEquals(original, readBack.toModelType());
+    }
+
+    @Test
+    public void saveAddressBook_missingParentFolder_success() throws Exception {
+        Path filePath = testFolder.resolve("missing").resolve("folder").resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(filePath.resolveSibling("TempAddressBook.json.tmp")));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
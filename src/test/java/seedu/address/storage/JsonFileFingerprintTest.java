@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.testutil.AddressBookBuilder;
+
+public class JsonFileFingerprintTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of_fileWritten_equalsFingerprintOfWrite() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonFileFingerprint written = JsonAddressBookSerializer.write(getTypicalAddressBook(), filePath);
+
+        assertEquals(written, JsonFileFingerprint.of(filePath));
+        assertEquals(Files.size(filePath), written.getSize());
+        assertTrue(written.mightMatch(filePath));
+    }
+
+    @Test
+    public void of_contentsChanged_notEqual() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonFileFingerprint original = JsonAddressBookSerializer.write(getTypicalAddressBook(), filePath);
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+
+        // same size and last modified time, different contents
+        String contents = Files.readString(filePath);
+        Files.writeString(filePath, contents.replace("Alice", "Alicf"));
+        Files.setLastModifiedTime(filePath, lastModifiedTime);
+
+        assertTrue(original.mightMatch(filePath));
+        assertNotEquals(original, JsonFileFingerprint.of(filePath));
+    }
+
+    @Test
+    public void mightMatch_sizeChanged_returnsFalse() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonFileFingerprint original = JsonAddressBookSerializer.write(getTypicalAddressBook(), filePath);
+        JsonAddressBookSerializer.write(new AddressBookBuilder().withPerson(ALICE).build(), filePath);
+
+        assertFalse(original.mightMatch(filePath));
+    }
+
+    @Test
+    public void finish_partiallyRead_restOfFileIncluded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonFileFingerprint written = JsonAddressBookSerializer.write(getTypicalAddressBook(), filePath);
+
+        try (JsonFileFingerprint.FingerprintingInputStream in =
+                JsonFileFingerprint.FingerprintingInputStream.open(filePath)) {
+            in.readNBytes(10);
+            assertEquals(written, in.finish());
+        }
+    }
+
+    @Test
+    public void open_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonFileFingerprint.of(testFolder.resolve("missing.json")));
+    }
+
+    @Test
+    public void equals() {
+        JsonFileFingerprint fingerprint = new JsonFileFingerprint(10, 20, 30);
+
+        assertTrue(fingerprint.equals(fingerprint));
+        assertTrue(fingerprint.equals(new JsonFileFingerprint(10, 20, 30)));
+        assertFalse(fingerprint.equals(null));
+        assertFalse(fingerprint.equals(new JsonFileFingerprint(11, 20, 30)));
+        assertFalse(fingerprint.equals(new JsonFileFingerprint(10, 21, 30)));
+        assertFalse(fingerprint.equals(new JsonFileFingerprint(10, 20, 31)));
+        assertEquals(fingerprint.hashCode(), new JsonFileFingerprint(10, 20, 30).hashCode());
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,4 +45,15 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicatePersonsWithQuarantine_laterDuplicateQuarantined() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook.class).get();
+        RecordQuarantine<JsonAdaptedPerson> quarantine = new RecordQuarantine<>();
+
+        AddressBook addressBookFromFile = dataFromFile.toModelType(quarantine);
+        assertEquals(1, addressBookFromFile.getPersonList().size());
+        assertEquals(List.of(1), quarantine.getPositions());
+    }
+
 }
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonGenerator;
+
+public class PersonRecordConverterTest {
+
+    private static final int RECORD_COUNT = PersonRecordConverter.BATCH_SIZE * 5 + 17;
+    private static final String INVALID_RECORD_MESSAGE = "Invalid record";
+
+    private final ForkJoinPool pool = new ForkJoinPool(3);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void finish_manyBatches_personsInOrderOfRecords() throws Exception {
+        List<Person> persons = new PersonGenerator().nextPersons(RECORD_COUNT);
+        PersonRecordConverter<Person> converter = new PersonRecordConverter<>(person -> person, null, pool);
+        converter.addAll(persons);
+
+        assertEquals(persons, converter.finish().getPersonList());
+    }
+
+    @Test
+    public void finish_noRecords_emptyAddressBook() throws Exception {
+        PersonRecordConverter<Person> converter = new PersonRecordConverter<>(person -> person, null, pool);
+        assertEquals(List.of(), converter.finish().getPersonList());
+    }
+
+    @Test
+    public void finish_invalidRecordsWithoutQuarantine_throwsIllegalValueException() {
+        List<Person> persons = new PersonGenerator().nextPersons(RECORD_COUNT);
+        PersonRecordConverter<Person> converter = new PersonRecordConverter<>(
+                rejecting(persons.get(RECORD_COUNT - 1)), null, pool);
+
+        assertThrows(IllegalValueException.class, INVALID_RECORD_MESSAGE, () -> {
+            converter.addAll(persons);
+            converter.finish();
+        });
+    }
+
+    @Test
+    public void finish_duplicatePersonsWithoutQuarantine_throwsIllegalValueException() {
+        List<Person> persons = new PersonGenerator().nextPersons(RECORD_COUNT);
+        persons.add(persons.get(0));
+        PersonRecordConverter<Person> converter = new PersonRecordConverter<>(person -> person, null, pool);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () -> {
+            converter.addAll(persons);
+            converter.finish();
+        });
+    }
+
+    @Test
+    public void finish_invalidAndDuplicateRecordsWithQuarantine_otherPersonsConverted() throws Exception {
+        List<Person> persons = new PersonGenerator().nextPersons(RECORD_COUNT);
+        Person invalidPerson = persons.get(PersonRecordConverter.BATCH_SIZE + 1);
+        persons.add(persons.get(2));
+
+        RecordQuarantine<Person> quarantine = new RecordQuarantine<>();
+        PersonRecordConverter<Person> converter = new PersonRecordConverter<>(
+                rejecting(invalidPerson), quarantine, pool);
+        converter.addAll(persons);
+
+        List<Person> expectedPersons = new ArrayList<>(persons.subList(0, RECORD_COUNT));
+        expectedPersons.remove(invalidPerson);
+        assertEquals(expectedPersons, converter.finish().getPersonList());
+        assertEquals(List.of(PersonRecordConverter.BATCH_SIZE + 1, RECORD_COUNT), quarantine.getPositions());
+    }
+
+    /**
+     * Returns a conversion that rejects {@code invalidPerson} and converts every other person to itself.
+     */
+    private static PersonRecordConverter.Conversion<Person> rejecting(Person invalidPerson) {
+        return person -> {
+            if (person.equals(invalidPerson)) {
+                throw new IllegalValueException(INVALID_RECORD_MESSAGE);
+            }
+            return person;
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.JsonUtil;
+
+public class RecordQuarantineTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void add_records_positionsKeptInOrder() {
+        RecordQuarantine<String> quarantine = new RecordQuarantine<>();
+        assertTrue(quarantine.isEmpty());
+
+        quarantine.add(7, "first", "reason");
+        quarantine.add(3, "second", "reason");
+        assertFalse(quarantine.isEmpty());
+        assertEquals(2, quarantine.size());
+        assertEquals(List.of(7, 3), quarantine.getPositions());
+    }
+
+    @Test
+    public void writeTo_missingFile_fileCreated() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("quarantine.json");
+        RecordQuarantine<JsonAdaptedPerson> quarantine = new RecordQuarantine<>();
+        quarantine.add(0, new JsonAdaptedPerson(ALICE), "first reason");
+        quarantine.add(1, new JsonAdaptedPerson(BENSON), "second reason");
+
+        quarantine.writeTo(filePath);
+
+        JsonNode entries = readEntries(filePath);
+        assertEquals(2, entries.size());
+        assertEquals("first reason", entries.get(0).get(RecordQuarantine.REASON_FIELD).asText());
+        assertEquals(ALICE.getName().fullName, entries.get(0).get(RecordQuarantine.RECORD_FIELD).get("name").asText());
+        assertEquals("second reason", entries.get(1).get(RecordQuarantine.REASON_FIELD).asText());
+    }
+
+    @Test
+    public void writeTo_existingFile_newRecordsAppendedOnce() throws Exception {
+        Path filePath = testFolder.resolve("quarantine.json");
+        RecordQuarantine<JsonAdaptedPerson> firstQuarantine = new RecordQuarantine<>();
+        firstQuarantine.add(0, new JsonAdaptedPerson(ALICE), "reason");
+        firstQuarantine.writeTo(filePath);
+
+        // the same record quarantined again is not duplicated
+        RecordQuarantine<JsonAdaptedPerson> secondQuarantine = new RecordQuarantine<>();
+        secondQuarantine.add(0, new JsonAdaptedPerson(ALICE), "reason");
+        secondQuarantine.add(1, new JsonAdaptedPerson(BENSON), "reason");
+        secondQuarantine.writeTo(filePath);
+
+        JsonNode entries = readEntries(filePath);
+        assertEquals(2, entries.size());
+        assertEquals(BENSON.getName().fullName, entries.get(1).get(RecordQuarantine.RECORD_FIELD).get("name").asText());
+    }
+
+    @Test
+    public void writeTo_existingFileNotQuarantine_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("quarantine.json");
+        Files.writeString(filePath, "{ \"persons\" : [ ] }");
+        RecordQuarantine<JsonAdaptedPerson> quarantine = new RecordQuarantine<>();
+        quarantine.add(0, new JsonAdaptedPerson(ALICE), "reason");
+
+        assertThrows(IOException.class, () -> quarantine.writeTo(filePath));
+        assertEquals("{ \"persons\" : [ ] }", Files.readString(filePath));
+    }
+
+    @Test
+    public void writeTo_pathIsDirectory_throwsIoExceptionAndNoTempFileLeft() throws Exception {
+        Path filePath = testFolder.resolve("quarantine.json");
+        Files.createDirectories(filePath.resolve("notEmpty"));
+        RecordQuarantine<JsonAdaptedPerson> quarantine = new RecordQuarantine<>();
+        quarantine.add(0, new JsonAdaptedPerson(ALICE), "reason");
+
+        assertThrows(IOException.class, () -> quarantine.writeTo(filePath));
+        assertTrue(Files.isDirectory(filePath.resolve("notEmpty")));
+        assertFalse(Files.exists(testFolder.resolve("quarantine.json.tmp")));
+    }
+
+    private static JsonNode readEntries(Path filePath) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            JsonNode root = parser.readValueAsTree();
+            return root.get(RecordQuarantine.QUARANTINED_FIELD);
+        }
+    }
+}
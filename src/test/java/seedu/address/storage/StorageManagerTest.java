@@ -2,8 +2,10 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +62,19 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void awaitBackgroundWrites_snapshotKept_snapshotWritten() throws Exception {
+        Path addressBookFilePath = getTempFilePath("snapshotAb");
+        Path snapshotFilePath = JsonAddressBookStorage.getSnapshotFilePath(addressBookFilePath);
+        StorageManager snapshotStorageManager = new StorageManager(
+                new JsonAddressBookStorage(addressBookFilePath, null, snapshotFilePath),
+                new JsonUserPrefsStorage(getTempFilePath("snapshotPrefs")));
+
+        snapshotStorageManager.saveAddressBook(getTypicalAddressBook());
+        snapshotStorageManager.awaitBackgroundWrites();
+        assertTrue(Files.exists(snapshotFilePath));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
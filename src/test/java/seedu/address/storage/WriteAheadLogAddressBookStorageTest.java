@@ -0,0 +1,303 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonGenerator;
+
+public class WriteAheadLogAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeCompactionThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new WriteAheadLogAddressBookStorage(testFolder.resolve("addressbook.json"), -1));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new WriteAheadLogAddressBookStorage(testFolder.resolve("addressbook.json"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_plainJsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), new WriteAheadLogAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToLog() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+        long logSize = Files.size(storage.getLogFilePath());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("11111111").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        // only the log grows, and the snapshot with the log still holds the latest data
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.size(storage.getLogFilePath()) > logSize);
+        assertEquals(addressBook, readWithNewStorage(filePath));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_twoSeparateChanges_onlyChangedPersonsLogged() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook addressBook = new PersonGenerator().nextAddressBook(1000);
+        storage.saveAddressBook(addressBook);
+        long logSize = Files.size(storage.getLogFilePath());
+
+        Person first = addressBook.getPersonList().get(10);
+        Person last = addressBook.getPersonList().get(990);
+        addressBook.setPerson(first, new PersonBuilder(first).withPhone("11111111").build());
+        addressBook.removePerson(last);
+        storage.saveAddressBook(addressBook);
+
+        // only the edited person is logged, not the 980 persons between the two changes
+        long recordSize = Files.size(storage.getLogFilePath()) - logSize;
+        assertTrue(recordSize < Files.size(filePath) / 100, "Record of " + recordSize + " bytes");
+        assertEquals(addressBook, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_unrelatedAddressBook_differenceLogged() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // the edits made to an address book other than the one saved before are not known
+        AddressBook otherAddressBook = getTypicalAddressBook();
+        otherAddressBook.addPerson(HOON);
+        storage.saveAddressBook(otherAddressBook);
+        storage.saveAddressBook(otherAddressBook.getSnapshot());
+
+        assertEquals(otherAddressBook, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_recordWithSingleEditAtTopLevel_editApplied() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // a record in the format written before records held a list of edits
+        String record = "{\"sequence\":1,\"index\":7,\"removeCount\":0,\"inserted\":["
+                + JsonUtil.toJsonString(new JsonAdaptedPerson(HOON)) + "]}";
+        byte[] payload = record.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(2 * Integer.BYTES + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        Files.write(storage.getLogFilePath(), frame.array(), StandardOpenOption.APPEND);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(HOON);
+        assertEquals(expected, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesLog() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new WriteAheadLogAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        WriteAheadLogAddressBookStorage restartedStorage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(restartedStorage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        restartedStorage.saveAddressBook(readBack);
+
+        assertEquals(readBack, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_changesBeforeItKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook lastCompleteSave = new AddressBook(addressBook);
+        long lastCompleteLogSize = Files.size(storage.getLogFilePath());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        // simulates the process being killed halfway through writing the last entry
+        byte[] log = Files.readAllBytes(storage.getLogFilePath());
+        int tornLength = (int) (lastCompleteLogSize + (log.length - lastCompleteLogSize) / 2);
+        Files.write(storage.getLogFilePath(), Arrays.copyOf(log, tornLength));
+
+        WriteAheadLogAddressBookStorage restartedStorage = new WriteAheadLogAddressBookStorage(filePath);
+        assertEquals(lastCompleteSave, restartedStorage.readAddressBook().get());
+        assertEquals(lastCompleteLogSize, Files.size(storage.getLogFilePath()));
+
+        // the damaged entry is cut off, so later saves can be read back
+        lastCompleteSave.addPerson(IDA);
+        restartedStorage.saveAddressBook(lastCompleteSave);
+        assertEquals(lastCompleteSave, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptedLastEntry_changesBeforeItKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBook lastCompleteSave = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        byte[] log = Files.readAllBytes(storage.getLogFilePath());
+        log[log.length - 3] ^= 0x7f;
+        Files.write(storage.getLogFilePath(), log);
+
+        assertEquals(lastCompleteSave, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_logOfOtherSnapshot_logIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        byte[] log = Files.readAllBytes(storage.getLogFilePath());
+
+        // a new log is started for a new snapshot, then replaced by the old log
+        AddressBook newSnapshot = getTypicalAddressBook();
+        new WriteAheadLogAddressBookStorage(filePath).saveAddressBook(newSnapshot);
+        Files.write(storage.getLogFilePath(), log);
+
+        assertEquals(newSnapshot, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_logChangesMissingPersons_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // the persons of the snapshot are removed without updating its log
+        String snapshot = Files.readString(filePath);
+        Files.writeString(filePath, snapshot.replaceFirst("\"persons\" : \\[[\\s\\S]*\\]", "\"persons\" : [ ]"));
+
+        assertThrows(DataConversionException.class, () -> readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_logLargerThanThreshold_logCompacted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath, 4096);
+        PersonGenerator generator = new PersonGenerator();
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+
+        for (int i = 0; i < 50; i++) {
+            addressBook.addPerson(generator.next());
+            storage.saveAddressBook(addressBook);
+        }
+        storage.awaitCompaction();
+
+        assertTrue(Files.size(storage.getLogFilePath()) <= 4096);
+        assertEquals(addressBook, readWithNewStorage(filePath));
+
+        // the snapshot itself has been rewritten with the persons compacted out of the log
+        assertFalse(new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_plainSnapshotSaved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertFalse(Files.exists(WriteAheadLogAddressBookStorage.getLogFilePath(otherFilePath)));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(otherFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void checkpoint_pendingChanges_foldedIntoPlainSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        new WriteAheadLogAddressBookStorage(filePath).checkpoint();
+
+        assertFalse(Files.exists(storage.getLogFilePath()));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(testFolder.resolve("a.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_emptyLog_snapshotRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(storage.getLogFilePath(), new byte[0]);
+
+        WriteAheadLogAddressBookStorage restartedStorage = new WriteAheadLogAddressBookStorage(filePath);
+        assertEquals(getTypicalAddressBook(), restartedStorage.readAddressBook().get());
+
+        // a new log is started, as the empty one cannot be continued
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        restartedStorage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readWithNewStorage(filePath));
+    }
+
+    private static ReadOnlyAddressBook readWithNewStorage(Path filePath) throws Exception {
+        return new WriteAheadLogAddressBookStorage(filePath).readAddressBook().get();
+    }
+}
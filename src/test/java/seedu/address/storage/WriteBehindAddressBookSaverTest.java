@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class WriteBehindAddressBookSaverTest {
+
+    /** Long enough that no scheduled save runs on its own during a test. */
+    private static final long NEVER = Long.MAX_VALUE;
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new WriteBehindAddressBookSaver(new AddressBookStorageStub(), -1));
+    }
+
+    @Test
+    public void scheduleSave_nullSnapshot_throwsNullPointerException() {
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(new AddressBookStorageStub(), NEVER);
+        assertThrows(NullPointerException.class, () -> saver.scheduleSave(null));
+    }
+
+    @Test
+    public void flush_burstOfSaves_onlyLatestSnapshotSaved() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, NEVER);
+        AddressBook latest = getTypicalAddressBook();
+
+        saver.scheduleSave(new AddressBook());
+        saver.scheduleSave(new AddressBookBuilder().withPerson(ALICE).build());
+        saver.scheduleSave(latest);
+        assertTrue(storage.saved.isEmpty());
+
+        saver.flush();
+        assertEquals(List.of(latest), storage.saved);
+
+        // nothing pending -> nothing saved
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void scheduleSave_zeroDelay_savedInBackground() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.scheduleSave(addressBook);
+        saver.shutdown();
+        assertEquals(List.of(addressBook), storage.saved);
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_failureReportedOnceAndSnapshotRetried() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.setFailing(true);
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, NEVER, NEVER);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.scheduleSave(addressBook);
+        assertThrows(IOException.class, AddressBookStorageStub.FAILURE_MESSAGE, saver::flush);
+        assertFalse(saver.pollSaveFailure().isPresent());
+
+        storage.setFailing(false);
+        saver.flush();
+        assertEquals(List.of(addressBook), storage.saved);
+    }
+
+    @Test
+    public void constructor_nonPositiveRetryDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new WriteBehindAddressBookSaver(new AddressBookStorageStub(), 0, 0));
+    }
+
+    @Test
+    public void scheduleSave_storageThrowsIoException_retriedInBackgroundUntilSaved() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.setFailing(true);
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, 0, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.scheduleSave(addressBook);
+        awaitUntil(() -> storage.attemptCount.get() >= 3);
+        storage.setFailing(false);
+        awaitUntil(() -> !storage.saved.isEmpty());
+
+        assertEquals(List.of(addressBook), storage.saved);
+        saver.shutdown();
+        assertEquals(1, storage.saved.size());
+    }
+
+    /**
+     * Waits up to 10 seconds for {@code condition} to hold, failing the test if it does not.
+     */
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() - deadlineNanos < 0, "Timed out waiting for the background save");
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * An {@code AddressBookStorage} stub that records the address books it is asked to save.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        static final String FAILURE_MESSAGE = "dummy exception";
+
+        final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger attemptCount = new AtomicInteger();
+        private volatile boolean isFailing = false;
+
+        void setFailing(boolean isFailing) {
+            this.isFailing = isFailing;
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            attemptCount.incrementAndGet();
+            if (isFailing) {
+                throw new IOException(FAILURE_MESSAGE);
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
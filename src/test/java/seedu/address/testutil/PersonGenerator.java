@@ -0,0 +1,81 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A utility class to generate large numbers of distinct, realistic-looking persons for load tests and benchmarks.
+ * The generated persons only depend on the seed and on their position, so every run sees the same data.
+ */
+public class PersonGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+
+    public static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Elle", "Fiona", "George", "Hoon", "Ida", "Irfan",
+        "John", "Kavya", "Liam", "Meera", "Nadia", "Oliver", "Priya", "Quentin", "Roy", "Siti"
+    };
+    public static final String[] LAST_NAMES = {
+        "Balakrishnan", "Best", "Chen", "Kunz", "Kurz", "Lee", "Li", "Meier", "Meyer", "Mueller",
+        "Ng", "Ong", "Pauline", "Rahman", "Tan", "Teo", "Wong", "Yeoh", "Yu", "Zhang"
+    };
+    public static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "classmates"};
+
+    private static final String[] STREETS = {"Ang Mo Kio Ave 3", "Clementi Rd", "Jurong West Ave 6", "Serangoon Rd"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "gmail.com", "u.nus.edu"};
+
+    private final Random random;
+    private int count = 0;
+
+    public PersonGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public PersonGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns a new person whose name differs from that of every person generated before by this generator.
+     */
+    public Person next() {
+        int id = count++;
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String[] tags = random.ints(random.nextInt(3), 0, TAGS.length)
+                .mapToObj(index -> TAGS[index])
+                .toArray(String[]::new);
+
+        return new PersonBuilder()
+                .withName(firstName + " " + lastName + " " + id)
+                .withPhone(String.valueOf(80000000 + random.nextInt(20000000)))
+                .withEmail(firstName.toLowerCase() + id + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)])
+                .withAddress("Blk " + (1 + random.nextInt(999)) + ", " + STREETS[random.nextInt(STREETS.length)])
+                .withTags(tags)
+                .build();
+    }
+
+    /**
+     * Returns the next {@code size} persons.
+     */
+    public List<Person> nextPersons(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(next());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an {@code AddressBook} with the next {@code size} persons.
+     */
+    public AddressBook nextAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(nextPersons(size));
+        return addressBook;
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A utility class to help with building TagsMatchPredicate objects.
+ */
+public class TagsMatchPredicateBuilder {
+
+    public static final String NEGATION = "!";
+
+    private final List<TagsMatchPredicate.Clause> clauses = new ArrayList<>();
+
+    /**
+     * Adds a clause of {@code tagNames} to the {@code TagsMatchPredicate} that we are building.
+     * Tag names starting with {@code NEGATION} are excluded tags, the others are included tags.
+     */
+    public TagsMatchPredicateBuilder withClause(String... tagNames) {
+        clauses.add(clause(tagNames));
+        return this;
+    }
+
+    public TagsMatchPredicate build() {
+        return new TagsMatchPredicate(clauses);
+    }
+
+    /**
+     * Returns a clause of {@code tagNames}, where tag names starting with {@code NEGATION} are excluded tags.
+     */
+    public static TagsMatchPredicate.Clause clause(String... tagNames) {
+        Set<Tag> includedTags = new HashSet<>();
+        Set<Tag> excludedTags = new HashSet<>();
+        for (String tagName : tagNames) {
+            if (tagName.startsWith(NEGATION)) {
+                excludedTags.add(new Tag(tagName.substring(NEGATION.length())));
+            } else {
+                includedTags.add(new Tag(tagName));
+            }
+        }
+        return new TagsMatchPredicate.Clause(includedTags, excludedTags);
+    }
+}